@@ -0,0 +1,285 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.basilisk.compile.core.processor.artifact;
+
+import org.kordamp.jipsy.processor.LogLocation;
+import org.kordamp.jipsy.processor.Logger;
+
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Writes the metadata of an artifact class to {@code META-INF/basilisk/metadata/<binary class name>}.
+ * The runtime reads it instead of inspecting the class by reflection.
+ * <p>
+ * The format is line based, every entry being a {@code key=value} pair:
+ * <pre>
+ * version=2
+ * method=1 void onStartupEnd(basilisk.core.BasiliskApplication)
+ * contextual=field foo
+ * resource=property bar
+ * </pre>
+ * Methods are the public instance methods of the class and its superclasses, except those of
+ * {@code java.lang.Object}. Each one starts with its modifiers, encoded as {@code Method.getModifiers()}
+ * reports them, so that descriptors read at runtime match those built by reflection. Contextual and resource entries cover the whole class hierarchy.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+public class ArtifactMetadataWriter {
+    public static final String METADATA_PATH = "META-INF/basilisk/metadata/";
+    public static final String VERSION = "2";
+
+    private static final String CONTEXTUAL = "basilisk.inject.Contextual";
+    private static final String INJECTED_RESOURCE = "basilisk.core.resources.InjectedResource";
+    private static final String OBJECT = "java.lang.Object";
+
+    private final Filer filer;
+    private final Elements elements;
+    private final Types types;
+    private final Logger logger;
+    private final Set<String> written = new HashSet<>();
+
+    public ArtifactMetadataWriter(ProcessingEnvironment processingEnv, Logger logger) {
+        if (processingEnv == null) {
+            throw new NullPointerException("processingEnv");
+        }
+        if (logger == null) {
+            throw new NullPointerException("logger");
+        }
+        this.filer = processingEnv.getFiler();
+        this.elements = processingEnv.getElementUtils();
+        this.types = processingEnv.getTypeUtils();
+        this.logger = logger;
+    }
+
+    public void write(TypeElement artifact) throws IOException {
+        if (artifact == null) {
+            throw new NullPointerException("artifact");
+        }
+        String className = elements.getBinaryName(artifact).toString();
+        if (!written.add(className)) {
+            return;
+        }
+
+        logger.note(LogLocation.LOG_FILE, "Writing metadata of " + className);
+        FileObject resource = filer.createResource(StandardLocation.CLASS_OUTPUT, "", METADATA_PATH + className, artifact);
+        try (Writer writer = resource.openWriter()) {
+            writer.write(toMetadata(artifact));
+        }
+    }
+
+    String toMetadata(TypeElement artifact) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("version=").append(VERSION).append("\n");
+
+        Set<String> contextual = new LinkedHashSet<>();
+        Set<String> resources = new LinkedHashSet<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(artifact))) {
+            Set<Modifier> modifiers = method.getModifiers();
+            if (!modifiers.contains(Modifier.PUBLIC) ||
+                modifiers.contains(Modifier.STATIC) ||
+                modifiers.contains(Modifier.ABSTRACT) ||
+                OBJECT.equals(((TypeElement) method.getEnclosingElement()).getQualifiedName().toString())) {
+                continue;
+            }
+
+            sb.append("method=")
+                .append(modifiers(method))
+                .append(" ")
+                .append(typeName(method.getReturnType()))
+                .append(" ")
+                .append(method.getSimpleName())
+                .append("(");
+            List<? extends VariableElement> parameters = method.getParameters();
+            for (int i = 0; i < parameters.size(); i++) {
+                if (i > 0) {
+                    sb.append(",");
+                }
+                sb.append(typeName(parameters.get(i).asType()));
+            }
+            sb.append(")\n");
+
+            String propertyName = setterPropertyName(method);
+            if (propertyName != null) {
+                if (isAnnotatedWith(method, CONTEXTUAL)) {
+                    contextual.add("property " + propertyName);
+                }
+                if (isAnnotatedWith(method, INJECTED_RESOURCE)) {
+                    resources.add("property " + propertyName);
+                }
+            }
+        }
+
+        for (TypeElement type = artifact; type != null && !OBJECT.equals(type.getQualifiedName().toString()); type = superclassOf(type)) {
+            for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+                if (isAnnotatedWith(field, CONTEXTUAL)) {
+                    contextual.add("field " + field.getSimpleName());
+                }
+                if (isAnnotatedWith(field, INJECTED_RESOURCE)) {
+                    resources.add("field " + field.getSimpleName());
+                }
+            }
+        }
+
+        for (String member : contextual) {
+            sb.append("contextual=").append(member).append("\n");
+        }
+        for (String member : resources) {
+            sb.append("resource=").append(member).append("\n");
+        }
+        return sb.toString();
+    }
+
+    private TypeElement superclassOf(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        if (superclass.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        return (TypeElement) ((DeclaredType) superclass).asElement();
+    }
+
+    /**
+     * Returns the modifiers of the method as reported by {@code Method.getModifiers()}.
+     */
+    private static int modifiers(ExecutableElement method) {
+        int modifiers = 0;
+        for (Modifier modifier : method.getModifiers()) {
+            switch (modifier) {
+                case PUBLIC:
+                    modifiers |= java.lang.reflect.Modifier.PUBLIC;
+                    break;
+                case PROTECTED:
+                    modifiers |= java.lang.reflect.Modifier.PROTECTED;
+                    break;
+                case PRIVATE:
+                    modifiers |= java.lang.reflect.Modifier.PRIVATE;
+                    break;
+                case ABSTRACT:
+                    modifiers |= java.lang.reflect.Modifier.ABSTRACT;
+                    break;
+                case STATIC:
+                    modifiers |= java.lang.reflect.Modifier.STATIC;
+                    break;
+                case FINAL:
+                    modifiers |= java.lang.reflect.Modifier.FINAL;
+                    break;
+                case SYNCHRONIZED:
+                    modifiers |= java.lang.reflect.Modifier.SYNCHRONIZED;
+                    break;
+                case NATIVE:
+                    modifiers |= java.lang.reflect.Modifier.NATIVE;
+                    break;
+                case STRICTFP:
+                    modifiers |= java.lang.reflect.Modifier.STRICT;
+                    break;
+                default:
+                    // not applicable to methods
+            }
+        }
+        if (method.isVarArgs()) {
+            // the class file flag ACC_VARARGS, which Method.getModifiers() includes
+            modifiers |= 0x80;
+        }
+        return modifiers;
+    }
+
+    private static String setterPropertyName(ExecutableElement method) {
+        String name = method.getSimpleName().toString();
+        if (name.length() > 3 && name.startsWith("set") && method.getParameters().size() == 1) {
+            // same rules as Introspector.decapitalize()
+            String propertyName = name.substring(3);
+            if (propertyName.length() > 1 && Character.isUpperCase(propertyName.charAt(1)) && Character.isUpperCase(propertyName.charAt(0))) {
+                return propertyName;
+            }
+            return Character.toLowerCase(propertyName.charAt(0)) + propertyName.substring(1);
+        }
+        return null;
+    }
+
+    private static boolean isAnnotatedWith(Element element, String annotationType) {
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            Element type = annotation.getAnnotationType().asElement();
+            if (type instanceof TypeElement && annotationType.equals(((TypeElement) type).getQualifiedName().toString())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the name of the type as reported by {@code Class.getName()}.
+     */
+    private String typeName(TypeMirror type) {
+        TypeMirror erased = types.erasure(type);
+        switch (erased.getKind()) {
+            case ARRAY:
+                return "[" + descriptor(((ArrayType) erased).getComponentType());
+            case DECLARED:
+                return elements.getBinaryName((TypeElement) ((DeclaredType) erased).asElement()).toString();
+            default:
+                // primitives and void
+                return erased.toString();
+        }
+    }
+
+    private String descriptor(TypeMirror type) {
+        TypeMirror erased = types.erasure(type);
+        switch (erased.getKind()) {
+            case BOOLEAN:
+                return "Z";
+            case BYTE:
+                return "B";
+            case CHAR:
+                return "C";
+            case SHORT:
+                return "S";
+            case INT:
+                return "I";
+            case LONG:
+                return "J";
+            case FLOAT:
+                return "F";
+            case DOUBLE:
+                return "D";
+            case ARRAY:
+                return "[" + descriptor(((ArrayType) erased).getComponentType());
+            default:
+                return "L" + typeName(erased) + ";";
+        }
+    }
+}
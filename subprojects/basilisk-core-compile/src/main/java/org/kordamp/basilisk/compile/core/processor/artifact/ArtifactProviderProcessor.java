@@ -51,6 +51,7 @@ public class ArtifactProviderProcessor extends AbstractSpiProcessor {
 
     private Persistence persistence;
     private ArtifactCollector data;
+    private ArtifactMetadataWriter metadataWriter;
 
     @Override
     protected Class<? extends Annotation> getAnnotationClass() {
@@ -78,6 +79,7 @@ public class ArtifactProviderProcessor extends AbstractSpiProcessor {
 
         persistence = new ArtifactPersistence(NAME, options.dir(), processingEnv.getFiler(), logger);
         data = new ArtifactCollector(persistence.getInitializer(), logger);
+        metadataWriter = new ArtifactMetadataWriter(processingEnv, logger);
 
         // Initialize if possible
         for (String artifactName : persistence.tryFind()) {
@@ -134,12 +136,23 @@ public class ArtifactProviderProcessor extends AbstractSpiProcessor {
             return;
         }
 
+        boolean registered = false;
         for (TypeElement artifact : findArtifacts(currentClass)) {
             CheckResult implementationResult = isImplementation(currentClass, artifact);
             if (implementationResult.isError()) {
                 reportError(currentClass, implementationResult);
             } else {
                 register(createProperQualifiedName(artifact), currentClass);
+                registered = true;
+            }
+        }
+
+        if (registered) {
+            try {
+                metadataWriter.write(currentClass);
+            } catch (IOException ioe) {
+                // the runtime falls back to reflection when metadata is missing
+                logger.warning(LogLocation.LOG_FILE, "An error occurred while writing metadata of " + currentClass + ": " + ioe.getMessage());
             }
         }
     }
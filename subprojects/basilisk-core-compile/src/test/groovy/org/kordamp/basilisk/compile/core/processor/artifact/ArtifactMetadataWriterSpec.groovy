@@ -0,0 +1,92 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.basilisk.compile.core.processor.artifact
+
+import basilisk.core.artifact.BasiliskController
+import basilisk.util.MethodDescriptor
+import org.kordamp.basilisk.runtime.core.artifact.ArtifactMetadata
+import org.kordamp.jipsy.processor.AbstractSpiProcessor
+import org.slf4j.Logger
+import spock.lang.Specification
+
+import javax.annotation.Nonnull
+import javax.inject.Inject
+import javax.tools.JavaCompiler
+import javax.tools.StandardJavaFileManager
+import javax.tools.ToolProvider
+import java.lang.reflect.Method
+import java.lang.reflect.Modifier
+import java.nio.file.Files
+import java.nio.file.Path
+
+class ArtifactMetadataWriterSpec extends Specification {
+    private static final String SOURCE = '''package sample;
+
+import basilisk.core.artifact.BasiliskController;
+import basilisk.metadata.ArtifactProviderFor;
+import org.kordamp.basilisk.runtime.core.artifact.AbstractBasiliskController;
+
+@ArtifactProviderFor(BasiliskController.class)
+public class SampleController extends AbstractBasiliskController {
+    public void click() {}
+
+    public final synchronized void refresh(String... args) {}
+
+    public int count() {
+        return 0;
+    }
+
+    public void onStartupEnd(basilisk.core.BasiliskApplication application) {}
+}
+'''
+
+    void "Generated metadata describes the methods found by reflection"() {
+        given:
+        Path sources = Files.createTempDirectory('basilisk-sources')
+        Path classes = Files.createTempDirectory('basilisk-classes')
+        Path source = Files.createDirectories(sources.resolve('sample')).resolve('SampleController.java')
+        source.toFile().text = SOURCE
+
+        JavaCompiler compiler = ToolProvider.systemJavaCompiler
+        StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null)
+        List<String> options = [
+            '-d', classes.toString(),
+            '-classpath', classpathOf(BasiliskController, ArtifactMetadataWriter, AbstractSpiProcessor, Logger, Nonnull, Inject),
+            '-processor', ArtifactProviderProcessor.name
+        ]
+
+        when:
+        boolean compiled = compiler.getTask(null, fileManager, null, options, null, fileManager.getJavaFileObjects(source.toFile())).call()
+        Class<?> type = new URLClassLoader([classes.toUri().toURL()] as URL[], getClass().classLoader).loadClass('sample.SampleController')
+        ArtifactMetadata metadata = ArtifactMetadata.forClass(type)
+
+        then:
+        compiled
+        metadata
+        metadata.methods.keySet() == type.methods.findAll { Method method ->
+            !method.synthetic && !Modifier.isStatic(method.modifiers) && method.declaringClass != Object
+        }.collect { Method method -> MethodDescriptor.forMethod(method) } as Set
+        metadata.methods[MethodDescriptor.forMethod(type.getMethod('count'))] == 'int'
+        metadata.methods[MethodDescriptor.forMethod(type.getMethod('refresh', String[]))] == 'void'
+
+        cleanup:
+        fileManager?.close()
+    }
+
+    private static String classpathOf(Class<?>... types) {
+        types.collect { new File(it.protectionDomain.codeSource.location.toURI()).path }.unique().join(File.pathSeparator)
+    }
+}
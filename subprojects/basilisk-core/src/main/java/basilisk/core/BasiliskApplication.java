@@ -34,6 +34,7 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.Future;
 
 /**
  * Defines the basic contract of a Basilisk application.<p>
@@ -166,6 +167,17 @@ public interface BasiliskApplication {
      */
     void setLocaleAsString(@Nullable String locale);
 
+    /**
+     * Loads messages and resources for the given locale in the background, then sets it as the
+     * application locale inside the UI thread.
+     *
+     * @param locale the Locale value to use
+     * @return a Future that completes once the new locale has been set
+     * @since 0.3.0
+     */
+    @Nonnull
+    Future<Locale> switchLocale(@Nonnull Locale locale);
+
     /**
      * Returns the current phase.
      *
@@ -19,9 +19,14 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nullable;
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static basilisk.util.BasiliskNameUtils.getShortName;
 import static java.util.Arrays.asList;
@@ -51,7 +56,12 @@ public class BasiliskExceptionHandler implements ExceptionHandler {
                 "com.sun.,"
         ).split("(\\s|,)+");
 
-    private static final List<CallableWithArgs<Boolean>> TESTS = new ArrayList<>();
+    private static final PrefixTrie BASILISK_PACKAGES_TRIE = new PrefixTrie(BASILISK_PACKAGES);
+
+    private static final List<CallableWithArgs<Boolean>> TESTS = new CopyOnWriteArrayList<>();
+
+    // throwables whose stack traces were already sanitized, compared by identity
+    private static final Set<Throwable> SANITIZED = Collections.newSetFromMap(new WeakHashMap<Throwable, Boolean>());
 
     public static void addClassTest(CallableWithArgs<Boolean> test) {
         TESTS.add(test);
@@ -158,25 +168,39 @@ public class BasiliskExceptionHandler implements ExceptionHandler {
      */
     @SuppressWarnings("ThrowableResultOfMethodCallIgnored")
     public static Throwable deepSanitize(Throwable t) {
-        Throwable current = t;
-        while (current.getCause() != null) {
-            current = doSanitize(current.getCause());
+        Set<Throwable> visited = Collections.newSetFromMap(new IdentityHashMap<Throwable, Boolean>());
+        for (Throwable current = t.getCause(); current != null && visited.add(current); current = current.getCause()) {
+            doSanitize(current);
         }
         return doSanitize(t);
     }
 
     private static Throwable doSanitize(Throwable t) {
+        synchronized (SANITIZED) {
+            if (!SANITIZED.add(t)) {
+                return t;
+            }
+        }
+
         StackTraceElement[] trace = t.getStackTrace();
-        List<StackTraceElement> newTrace = new ArrayList<>();
-        for (StackTraceElement stackTraceElement : trace) {
-            if (isApplicationClass(stackTraceElement.getClassName())) {
-                newTrace.add(stackTraceElement);
+        StackTraceElement[] clean = null;
+        int size = 0;
+        for (int i = 0; i < trace.length; i++) {
+            if (isApplicationClass(trace[i].getClassName())) {
+                if (clean != null) {
+                    clean[size] = trace[i];
+                }
+                size++;
+            } else if (clean == null) {
+                // first excluded frame, copy the frames kept so far
+                clean = new StackTraceElement[trace.length - 1];
+                System.arraycopy(trace, 0, clean, 0, size);
             }
         }
 
-        StackTraceElement[] clean = new StackTraceElement[newTrace.size()];
-        newTrace.toArray(clean);
-        t.setStackTrace(clean);
+        if (clean != null) {
+            t.setStackTrace(Arrays.copyOf(clean, size));
+        }
         return t;
     }
 
@@ -187,11 +211,64 @@ public class BasiliskExceptionHandler implements ExceptionHandler {
             }
         }
 
-        for (String excludedPackage : BASILISK_PACKAGES) {
-            if (className.startsWith(excludedPackage)) {
-                return false;
+        return !BASILISK_PACKAGES_TRIE.matchesPrefixOf(className);
+    }
+
+    /**
+     * Matches strings against a fixed set of prefixes with a single pass over the input.
+     */
+    private static final class PrefixTrie {
+        private final Node root = new Node();
+
+        private PrefixTrie(String[] prefixes) {
+            for (String prefix : prefixes) {
+                if (prefix.isEmpty()) {
+                    continue;
+                }
+                Node node = root;
+                for (int i = 0; i < prefix.length(); i++) {
+                    node = node.child(prefix.charAt(i), true);
+                }
+                node.terminal = true;
+            }
+        }
+
+        private boolean matchesPrefixOf(String input) {
+            Node node = root;
+            for (int i = 0; i < input.length(); i++) {
+                node = node.child(input.charAt(i), false);
+                if (node == null) {
+                    return false;
+                }
+                if (node.terminal) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static final class Node {
+            private char[] keys = new char[0];
+            private Node[] children = new Node[0];
+            private boolean terminal;
+
+            private Node child(char key, boolean create) {
+                for (int i = 0; i < keys.length; i++) {
+                    if (keys[i] == key) {
+                        return children[i];
+                    }
+                }
+                if (!create) {
+                    return null;
+                }
+
+                Node child = new Node();
+                keys = Arrays.copyOf(keys, keys.length + 1);
+                children = Arrays.copyOf(children, children.length + 1);
+                keys[keys.length - 1] = key;
+                children[children.length - 1] = child;
+                return child;
             }
         }
-        return true;
     }
 }
@@ -39,6 +39,15 @@ public interface Configuration {
     @Nonnull
     ResourceBundle asResourceBundle();
 
+    /**
+     * Returns an immutable, precompiled view of this configuration suitable for
+     * repeated lookups on hot paths.
+     *
+     * @return a snapshot of the current state of this configuration
+     */
+    @Nonnull
+    ConfigurationSnapshot snapshot();
+
     @Nonnull
     Properties asProperties();
 
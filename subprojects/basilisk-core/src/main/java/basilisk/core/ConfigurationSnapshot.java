@@ -0,0 +1,337 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package basilisk.core;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.Set;
+
+import static basilisk.util.BasiliskNameUtils.requireNonBlank;
+import static basilisk.util.TypeUtils.castToBoolean;
+import static basilisk.util.TypeUtils.castToDouble;
+import static basilisk.util.TypeUtils.castToFloat;
+import static basilisk.util.TypeUtils.castToInt;
+import static basilisk.util.TypeUtils.castToLong;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Immutable, precompiled view of a configuration. Every dotted key (including intermediate
+ * nodes that resolve to nested maps) is flattened into a single hash index, thus lookups
+ * never split keys nor walk nested maps. Boolean, numeric and String conversions are
+ * computed lazily, at most once per key.
+ *
+ * @author Andres Almiray
+ */
+public final class ConfigurationSnapshot {
+    private static final String ERROR_KEY_BLANK = "Argument 'key' must not be blank";
+    private static final String ERROR_VALUE_NULL = "Argument 'value' must not be null";
+
+    public static final ConfigurationSnapshot EMPTY = new ConfigurationSnapshot(Collections.<String, Entry>emptyMap());
+
+    private final Map<String, Entry> index;
+
+    private ConfigurationSnapshot(@Nonnull Map<String, Entry> index) {
+        this.index = index;
+    }
+
+    /**
+     * Creates a snapshot of the given configuration. Keys are read from {@code asFlatMap()};
+     * intermediate nodes are resolved once by calling {@code get()} on every key prefix.
+     *
+     * @param configuration the configuration to be indexed
+     * @return an immutable snapshot of the configuration
+     */
+    @Nonnull
+    public static ConfigurationSnapshot of(@Nonnull Configuration configuration) {
+        requireNonNull(configuration, "Argument 'configuration' must not be null");
+
+        Map<String, Entry> index = new HashMap<>();
+        for (Map.Entry<String, Object> e : configuration.asFlatMap().entrySet()) {
+            if (e.getValue() != null) {
+                index(index, e.getKey(), e.getValue(), true);
+            }
+        }
+
+        Set<String> probed = new HashSet<>();
+        for (String key : new ArrayList<>(index.keySet())) {
+            for (int i = key.indexOf('.'); i > 0; i = key.indexOf('.', i + 1)) {
+                String prefix = key.substring(0, i);
+                if (index.containsKey(prefix) || !probed.add(prefix)) {
+                    continue;
+                }
+                Object value = resolve(configuration, prefix);
+                if (value != null) {
+                    index(index, prefix, value, false);
+                }
+            }
+        }
+
+        return new ConfigurationSnapshot(index);
+    }
+
+    /**
+     * Creates a snapshot of the given map. Nested maps are expanded into dotted keys, matching
+     * the lookup rules of {@code ConfigUtils.getConfigValue(Map, String)}.
+     *
+     * @param config the map to be indexed
+     * @return an immutable snapshot of the map
+     */
+    @Nonnull
+    public static ConfigurationSnapshot of(@Nonnull Map<String, Object> config) {
+        requireNonNull(config, "Argument 'config' must not be null");
+        if (config.isEmpty()) {
+            return EMPTY;
+        }
+
+        Map<String, Entry> index = new HashMap<>();
+        for (Map.Entry<String, Object> e : config.entrySet()) {
+            if (e.getValue() != null) {
+                index(index, e.getKey(), e.getValue(), true);
+            }
+        }
+        return new ConfigurationSnapshot(index);
+    }
+
+    /**
+     * Returns a copy of this snapshot with the given key (and any nested keys, if the value
+     * is a {@code Map}) set to the given value.
+     *
+     * @param key   the key to be set
+     * @param value the value to be set
+     * @return a new snapshot
+     */
+    @Nonnull
+    public ConfigurationSnapshot with(@Nonnull String key, @Nonnull Object value) {
+        requireNonBlank(key, ERROR_KEY_BLANK);
+        requireNonNull(value, ERROR_VALUE_NULL);
+        Map<String, Entry> copy = new HashMap<>(index);
+        removeDerived(copy, key);
+        copy.put(key, new Entry(value, false));
+        if (value instanceof Map) {
+            indexNested(copy, key, (Map<?, ?>) value, true);
+        }
+        return new ConfigurationSnapshot(copy);
+    }
+
+    /**
+     * Returns a copy of this snapshot without the given key, and without any nested key that
+     * was derived from its value.
+     *
+     * @param key the key to be removed
+     * @return a new snapshot
+     */
+    @Nonnull
+    public ConfigurationSnapshot without(@Nonnull String key) {
+        requireNonBlank(key, ERROR_KEY_BLANK);
+        if (!index.containsKey(key)) {
+            return this;
+        }
+        Map<String, Entry> copy = new HashMap<>(index);
+        copy.remove(key);
+        removeDerived(copy, key);
+        return new ConfigurationSnapshot(copy);
+    }
+
+    /**
+     * Returns a copy of this snapshot with the given keys removed and the given values set,
+     * in that order. The index is copied once, regardless of the number of changes.
+     *
+     * @param values      the keys to be set
+     * @param removedKeys the keys to be removed
+     * @return a new snapshot, or this snapshot if there are no changes
+     */
+    @Nonnull
+    public ConfigurationSnapshot with(@Nonnull Map<String, Object> values, @Nonnull Collection<String> removedKeys) {
+        requireNonNull(values, "Argument 'values' must not be null");
+        requireNonNull(removedKeys, "Argument 'removedKeys' must not be null");
+        if (values.isEmpty() && removedKeys.isEmpty()) {
+            return this;
+        }
+
+        Map<String, Entry> copy = new HashMap<>(index);
+        for (String key : removedKeys) {
+            copy.remove(key);
+            removeDerived(copy, key);
+        }
+        for (Map.Entry<String, Object> e : values.entrySet()) {
+            removeDerived(copy, e.getKey());
+            copy.put(e.getKey(), new Entry(e.getValue(), false));
+            if (e.getValue() instanceof Map) {
+                indexNested(copy, e.getKey(), (Map<?, ?>) e.getValue(), true);
+            }
+        }
+        return new ConfigurationSnapshot(copy);
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    public boolean containsKey(@Nonnull String key) {
+        return index.containsKey(key);
+    }
+
+    @Nullable
+    public Object get(@Nonnull String key) {
+        Entry entry = index.get(key);
+        return entry != null ? entry.value : null;
+    }
+
+    public boolean getAsBoolean(@Nonnull String key, boolean defaultValue) {
+        Entry entry = index.get(key);
+        return entry != null ? entry.booleanValue() : defaultValue;
+    }
+
+    public int getAsInt(@Nonnull String key, int defaultValue) {
+        Entry entry = index.get(key);
+        return entry != null ? entry.intValue() : defaultValue;
+    }
+
+    public long getAsLong(@Nonnull String key, long defaultValue) {
+        Entry entry = index.get(key);
+        return entry != null ? entry.longValue() : defaultValue;
+    }
+
+    public float getAsFloat(@Nonnull String key, float defaultValue) {
+        Entry entry = index.get(key);
+        return entry != null ? entry.floatValue() : defaultValue;
+    }
+
+    public double getAsDouble(@Nonnull String key, double defaultValue) {
+        Entry entry = index.get(key);
+        return entry != null ? entry.doubleValue() : defaultValue;
+    }
+
+    @Nullable
+    public String getAsString(@Nonnull String key, @Nullable String defaultValue) {
+        Entry entry = index.get(key);
+        return entry != null ? entry.stringValue() : defaultValue;
+    }
+
+    @Nullable
+    private static Object resolve(@Nonnull Configuration configuration, @Nonnull String key) {
+        try {
+            return configuration.get(key);
+        } catch (MissingResourceException mre) {
+            return null;
+        }
+    }
+
+    private static void index(@Nonnull Map<String, Entry> index, @Nonnull String key, @Nonnull Object value, boolean override) {
+        if (override || !index.containsKey(key)) {
+            index.put(key, new Entry(value, false));
+        }
+        if (value instanceof Map) {
+            indexNested(index, key, (Map<?, ?>) value, false);
+        }
+    }
+
+    private static void indexNested(@Nonnull Map<String, Entry> index, @Nonnull String prefix, @Nonnull Map<?, ?> map, boolean override) {
+        for (Map.Entry<?, ?> e : map.entrySet()) {
+            if (e.getKey() == null || e.getValue() == null) continue;
+            String key = prefix + "." + e.getKey();
+            Entry existing = index.get(key);
+            if (override || existing == null || existing.derived) {
+                index.put(key, new Entry(e.getValue(), true));
+            }
+            if (e.getValue() instanceof Map) {
+                indexNested(index, key, (Map<?, ?>) e.getValue(), override);
+            }
+        }
+    }
+
+    private static void removeDerived(@Nonnull Map<String, Entry> index, @Nonnull String key) {
+        String prefix = key + ".";
+        for (Iterator<Map.Entry<String, Entry>> it = index.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<String, Entry> e = it.next();
+            if (e.getValue().derived && e.getKey().startsWith(prefix)) {
+                it.remove();
+            }
+        }
+    }
+
+    private static final class Entry {
+        private final Object value;
+        private final boolean derived;
+        private volatile Boolean booleanValue;
+        private volatile String stringValue;
+        private volatile Integer intValue;
+        private volatile Long longValue;
+        private volatile Float floatValue;
+        private volatile Double doubleValue;
+
+        private Entry(@Nonnull Object value, boolean derived) {
+            this.value = value;
+            this.derived = derived;
+        }
+
+        private boolean booleanValue() {
+            Boolean v = booleanValue;
+            if (v == null) {
+                booleanValue = v = castToBoolean(value);
+            }
+            return v;
+        }
+
+        private String stringValue() {
+            String v = stringValue;
+            if (v == null) {
+                stringValue = v = String.valueOf(value);
+            }
+            return v;
+        }
+
+        private int intValue() {
+            Integer v = intValue;
+            if (v == null) {
+                intValue = v = castToInt(value);
+            }
+            return v;
+        }
+
+        private long longValue() {
+            Long v = longValue;
+            if (v == null) {
+                longValue = v = castToLong(value);
+            }
+            return v;
+        }
+
+        private float floatValue() {
+            Float v = floatValue;
+            if (v == null) {
+                floatValue = v = castToFloat(value);
+            }
+            return v;
+        }
+
+        private double doubleValue() {
+            Double v = doubleValue;
+            if (v == null) {
+                doubleValue = v = castToDouble(value);
+            }
+            return v;
+        }
+    }
+}
@@ -17,6 +17,8 @@ package basilisk.core;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.List;
+import java.util.Map;
 
 import static basilisk.util.BasiliskNameUtils.requireNonBlank;
 import static java.util.Objects.requireNonNull;
@@ -32,10 +34,47 @@ public interface ObservableContext extends Context {
     @Nonnull
     ContextEventListener[] getContextEventListeners();
 
+    /**
+     * Registers a listener that will be notified of changes to the given key only.
+     *
+     * @param key      the key to observe
+     * @param listener the listener to be notified
+     */
+    void addContextEventListener(@Nonnull String key, @Nonnull ContextEventListener listener);
+
+    /**
+     * Unregisters a listener previously registered for the given key.
+     *
+     * @param key      the observed key
+     * @param listener the listener to be removed
+     */
+    void removeContextEventListener(@Nonnull String key, @Nonnull ContextEventListener listener);
+
+    /**
+     * Returns all listeners registered for the given key.
+     *
+     * @param key the observed key
+     */
+    @Nonnull
+    ContextEventListener[] getContextEventListeners(@Nonnull String key);
+
+    /**
+     * Sets all key/value pairs on this context as a single change. Listeners that implement
+     * {@code BatchContextEventListener} receive one notification containing every resulting
+     * event; all other listeners are notified once per changed key.
+     *
+     * @param values the key/value pairs to save
+     */
+    void putAll(@Nonnull Map<String, ?> values);
+
     interface ContextEventListener {
         void contextChanged(@Nonnull ContextEvent contextEvent);
     }
 
+    interface BatchContextEventListener extends ContextEventListener {
+        void contextBatchChanged(@Nonnull List<ContextEvent> contextEvents);
+    }
+
     class ContextEvent {
         private final Type type;
         private final String key;
@@ -15,12 +15,14 @@
  */
 package basilisk.core.controller;
 
+import basilisk.exceptions.ControlFlowException;
+
 /**
  * Marker Exception used to abort execution of a controller action during the
- * BEFORE phase of a ActionInterceptor.
+ * BEFORE phase of a ActionInterceptor. Instances carry no stack trace.
  *
  * @author Andres Almiray
  */
-public class AbortActionExecution extends RuntimeException {
+public class AbortActionExecution extends ControlFlowException {
     private static final long serialVersionUID = -271597792519147879L;
 }
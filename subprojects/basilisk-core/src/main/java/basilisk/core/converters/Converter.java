@@ -0,0 +1,42 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package basilisk.core.converters;
+
+import javax.annotation.Nullable;
+
+/**
+ * Converts values into a target type.
+ * <p>
+ * Implementations must be safe to use from several threads at once, as a single
+ * instance is shared by every caller that converts into the same type. They should not
+ * retain the values they convert.
+ *
+ * @param <S> the source type
+ * @param <T> the target type
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+public interface Converter<S, T> {
+    /**
+     * Converts the given value.
+     *
+     * @param value the value to convert, may be {@code null}
+     * @return the converted value
+     * @throws basilisk.core.editors.ValueConversionException if the value cannot be converted
+     */
+    @Nullable
+    T convert(@Nullable S value);
+}
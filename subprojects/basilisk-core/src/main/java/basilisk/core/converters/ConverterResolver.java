@@ -0,0 +1,163 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package basilisk.core.converters;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static basilisk.util.BasiliskNameUtils.isBlank;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Locates a shared {@code Converter} for a given target type and format.
+ * <p>
+ * Converters registered explicitly take precedence for conversions without a format.
+ * Every other conversion is handled by a {@code PropertyEditorConverter} that wraps the
+ * {@code PropertyEditor} registered with {@code PropertyEditorResolver}, which means that
+ * {@code @PropertyEditorFor} registrations keep working. Resolved converters are cached per
+ * target type and format; lookups do not lock once a converter has been resolved. Both
+ * registrations and cached converters are attached to the target type with a {@code ClassValue},
+ * thus they do not keep the classloader of the target type reachable.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+public final class ConverterResolver {
+    private static final Logger LOG = LoggerFactory.getLogger(ConverterResolver.class);
+    private static final String ERROR_TARGET_TYPE_NULL = "Argument 'targetType' must not be null";
+    private static final String NO_FORMAT = "";
+
+    private static final AtomicInteger cacheGeneration = new AtomicInteger();
+    private static volatile ClassValue<Converters> converters = createConverters();
+
+    private ConverterResolver() {
+
+    }
+
+    /**
+     * Removes all registered converters and every cached converter.
+     */
+    public static void clear() {
+        converters = createConverters();
+    }
+
+    @Nonnull
+    public static <T> Converter<Object, T> findConverter(@Nonnull Class<T> targetType) {
+        return findConverter(targetType, null);
+    }
+
+    /**
+     * Locates a converter for the given target type and format.
+     *
+     * @param targetType the type values should be converted into
+     * @param format     an optional format, as understood by the {@code ExtendedPropertyEditor} of the type
+     * @return a shared, thread-safe converter. Never returns {@code null}.
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    public static <T> Converter<Object, T> findConverter(@Nonnull Class<T> targetType, @Nullable String format) {
+        requireNonNull(targetType, ERROR_TARGET_TYPE_NULL);
+        String normalizedFormat = isBlank(format) ? NO_FORMAT : format;
+        Converters entry = converters.get(targetType);
+        ConcurrentMap<String, Converter<Object, ?>> cache = entry.cache();
+        Converter<Object, ?> converter = cache.get(normalizedFormat);
+        if (converter == null) {
+            converter = normalizedFormat.isEmpty() ? entry.registered : null;
+            if (converter == null) {
+                converter = new PropertyEditorConverter<>(targetType, normalizedFormat.isEmpty() ? null : normalizedFormat);
+            }
+            LOG.trace("Converter for {} is {}", targetType.getName(), converter);
+            Converter<Object, ?> existing = cache.putIfAbsent(normalizedFormat, converter);
+            if (existing != null) {
+                converter = existing;
+            }
+        }
+        return (Converter<Object, T>) converter;
+    }
+
+    /**
+     * Registers a converter for the given target type. The converter is used for every
+     * conversion into {@code targetType} that does not request a format.
+     *
+     * @param targetType the type values should be converted into
+     * @param converter  the converter to register
+     */
+    public static <T> void registerConverter(@Nonnull Class<T> targetType, @Nonnull Converter<Object, ? extends T> converter) {
+        requireNonNull(targetType, ERROR_TARGET_TYPE_NULL);
+        requireNonNull(converter, "Argument 'converter' must not be null");
+        Converters entry = converters.get(targetType);
+        entry.registered = converter;
+        entry.cache().clear();
+    }
+
+    public static void unregisterConverter(@Nonnull Class<?> targetType) {
+        requireNonNull(targetType, ERROR_TARGET_TYPE_NULL);
+        Converters entry = converters.get(targetType);
+        entry.registered = null;
+        entry.cache().clear();
+    }
+
+    /**
+     * Discards cached converters for the given target type, for example after a new
+     * {@code PropertyEditor} was registered for it.
+     *
+     * @param targetType the type whose converters should be resolved again
+     */
+    public static void invalidate(@Nonnull Class<?> targetType) {
+        requireNonNull(targetType, ERROR_TARGET_TYPE_NULL);
+        converters.get(targetType).cache().clear();
+    }
+
+    /**
+     * Discards every cached converter. Registered converters are kept.
+     */
+    public static void invalidateAll() {
+        cacheGeneration.incrementAndGet();
+    }
+
+    @Nonnull
+    private static ClassValue<Converters> createConverters() {
+        return new ClassValue<Converters>() {
+            @Override
+            protected Converters computeValue(Class<?> type) {
+                return new Converters();
+            }
+        };
+    }
+
+    private static final class Converters {
+        private final ConcurrentMap<String, Converter<Object, ?>> cache = new ConcurrentHashMap<>();
+        private volatile Converter<Object, ?> registered;
+        private volatile int generation = cacheGeneration.get();
+
+        @Nonnull
+        private ConcurrentMap<String, Converter<Object, ?>> cache() {
+            int current = cacheGeneration.get();
+            if (generation != current) {
+                // invalidateAll() was called since the last lookup
+                cache.clear();
+                generation = current;
+            }
+            return cache;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package basilisk.core.converters;
+
+import basilisk.core.editors.ExtendedPropertyEditor;
+import basilisk.core.editors.PropertyEditorResolver;
+import com.googlecode.openbeans.PropertyEditor;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static basilisk.util.BasiliskNameUtils.isBlank;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Adapts the {@code PropertyEditor} registered for a type to the {@code Converter} contract.
+ * <p>
+ * Property editors are stateful, so every conversion borrows an editor from a pool owned by
+ * this converter, creating one if none is available, and returns it once its value has been
+ * reset. Text values are converted with {@code setAsText}, any other value with {@code setValue}.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+public class PropertyEditorConverter<T> implements Converter<Object, T> {
+    private final Class<T> targetType;
+    private final String format;
+    private final Queue<PropertyEditor> editors = new ConcurrentLinkedQueue<>();
+
+    public PropertyEditorConverter(@Nonnull Class<T> targetType, @Nullable String format) {
+        this.targetType = requireNonNull(targetType, "Argument 'targetType' must not be null");
+        this.format = format;
+    }
+
+    @Nonnull
+    public Class<T> getTargetType() {
+        return targetType;
+    }
+
+    @Nullable
+    public String getFormat() {
+        return format;
+    }
+
+    @Nullable
+    @Override
+    @SuppressWarnings("unchecked")
+    public T convert(@Nullable Object value) {
+        PropertyEditor editor = editors.poll();
+        if (editor == null) {
+            editor = createEditor();
+        }
+
+        if (value instanceof CharSequence) {
+            editor.setAsText(String.valueOf(value));
+        } else {
+            editor.setValue(value);
+        }
+        T result = (T) editor.getValue();
+        release(editor);
+        return result;
+    }
+
+    private void release(@Nonnull PropertyEditor editor) {
+        try {
+            // pooled editors must not keep converted values reachable
+            editor.setValue(null);
+        } catch (RuntimeException e) {
+            // the editor cannot be reset, let it go
+            return;
+        }
+        editors.offer(editor);
+    }
+
+    @Nonnull
+    protected PropertyEditor createEditor() {
+        PropertyEditor editor = PropertyEditorResolver.findEditor(targetType);
+        if (editor instanceof ExtendedPropertyEditor && !isBlank(format)) {
+            ((ExtendedPropertyEditor) editor).setFormat(format);
+        }
+        return editor;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[" + targetType.getName() + (isBlank(format) ? "" : ", format=" + format) + "]";
+    }
+}
@@ -99,9 +99,8 @@ public abstract class AbstractPropertyEditor extends PropertyEditorSupport imple
             try {
                 setValueInternal(formatter.parse(value));
             } catch (ParseException e) {
-                e = (ParseException) sanitize(e);
                 if (LOG.isTraceEnabled()) {
-                    LOG.trace("Cannot parse value " + value, e);
+                    LOG.trace("Cannot parse value " + value, sanitize(e));
                 }
 
                 throw new ValueConversionException(value, e);
@@ -15,12 +15,12 @@
  */
 package basilisk.core.editors;
 
-import basilisk.core.formatters.BigDecimalFormatter;
 import basilisk.core.formatters.Formatter;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
 
+import static basilisk.core.formatters.FormatterResolver.findFormatter;
 import static basilisk.util.BasiliskNameUtils.isBlank;
 
 /**
@@ -58,6 +58,6 @@ public class BigDecimalPropertyEditor extends AbstractPropertyEditor {
     }
 
     protected Formatter<BigDecimal> resolveFormatter() {
-        return isBlank(getFormat()) ? null : new BigDecimalFormatter(getFormat());
+        return isBlank(getFormat()) ? null : findFormatter(BigDecimal.class, getFormat());
     }
 }
@@ -15,12 +15,12 @@
  */
 package basilisk.core.editors;
 
-import basilisk.core.formatters.BigIntegerFormatter;
 import basilisk.core.formatters.Formatter;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
 
+import static basilisk.core.formatters.FormatterResolver.findFormatter;
 import static basilisk.util.BasiliskNameUtils.isBlank;
 
 /**
@@ -58,6 +58,6 @@ public class BigIntegerPropertyEditor extends AbstractPropertyEditor {
     }
 
     protected Formatter<BigInteger> resolveFormatter() {
-        return isBlank(getFormat()) ? null : new BigIntegerFormatter(getFormat());
+        return isBlank(getFormat()) ? null : findFormatter(BigInteger.class, getFormat());
     }
 }
@@ -15,9 +15,9 @@
  */
 package basilisk.core.editors;
 
-import basilisk.core.formatters.ByteFormatter;
 import basilisk.core.formatters.Formatter;
 
+import static basilisk.core.formatters.FormatterResolver.findFormatter;
 import static basilisk.util.BasiliskNameUtils.isBlank;
 
 /**
@@ -49,6 +49,6 @@ public class BytePropertyEditor extends AbstractPropertyEditor {
     }
 
     protected Formatter<Byte> resolveFormatter() {
-        return isBlank(getFormat()) ? null : new ByteFormatter(getFormat());
+        return isBlank(getFormat()) ? null : findFormatter(Byte.class, getFormat());
     }
 }
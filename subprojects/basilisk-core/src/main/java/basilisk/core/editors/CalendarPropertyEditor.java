@@ -15,7 +15,6 @@
  */
 package basilisk.core.editors;
 
-import basilisk.core.formatters.CalendarFormatter;
 import basilisk.core.formatters.Formatter;
 
 import java.text.ParseException;
@@ -26,6 +25,7 @@ import java.time.LocalTime;
 import java.util.Calendar;
 import java.util.Date;
 
+import static basilisk.core.formatters.FormatterResolver.findFormatter;
 import static basilisk.util.BasiliskNameUtils.isBlank;
 
 /**
@@ -80,7 +80,7 @@ public class CalendarPropertyEditor extends AbstractPropertyEditor {
     }
 
     protected Formatter<Calendar> resolveFormatter() {
-        return isBlank(getFormat()) ? null : new CalendarFormatter(getFormat());
+        return isBlank(getFormat()) ? null : findFormatter(Calendar.class, getFormat());
     }
 
     protected void handleAsLocalDate(LocalDate value) {
@@ -15,7 +15,6 @@
  */
 package basilisk.core.editors;
 
-import basilisk.core.formatters.DateFormatter;
 import basilisk.core.formatters.Formatter;
 
 import java.text.ParseException;
@@ -25,6 +24,7 @@ import java.time.LocalDateTime;
 import java.util.Calendar;
 import java.util.Date;
 
+import static basilisk.core.formatters.FormatterResolver.findFormatter;
 import static basilisk.util.BasiliskNameUtils.isBlank;
 
 /**
@@ -72,7 +72,7 @@ public class DatePropertyEditor extends AbstractPropertyEditor {
     }
 
     protected Formatter<Date> resolveFormatter() {
-        return isBlank(getFormat()) ? null : new DateFormatter(getFormat());
+        return isBlank(getFormat()) ? null : findFormatter(Date.class, getFormat());
     }
 
     protected void handleAsLocalDate(LocalDate value) {
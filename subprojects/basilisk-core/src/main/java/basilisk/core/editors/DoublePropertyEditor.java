@@ -15,9 +15,9 @@
  */
 package basilisk.core.editors;
 
-import basilisk.core.formatters.DoubleFormatter;
 import basilisk.core.formatters.Formatter;
 
+import static basilisk.core.formatters.FormatterResolver.findFormatter;
 import static basilisk.util.BasiliskNameUtils.isBlank;
 
 /**
@@ -49,6 +49,6 @@ public class DoublePropertyEditor extends AbstractPropertyEditor {
     }
 
     protected Formatter<Double> resolveFormatter() {
-        return isBlank(getFormat()) ? null : new DoubleFormatter(getFormat());
+        return isBlank(getFormat()) ? null : findFormatter(Double.class, getFormat());
     }
 }
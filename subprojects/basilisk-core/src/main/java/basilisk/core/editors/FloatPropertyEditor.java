@@ -15,9 +15,9 @@
  */
 package basilisk.core.editors;
 
-import basilisk.core.formatters.FloatFormatter;
 import basilisk.core.formatters.Formatter;
 
+import static basilisk.core.formatters.FormatterResolver.findFormatter;
 import static basilisk.util.BasiliskNameUtils.isBlank;
 
 /**
@@ -49,6 +49,6 @@ public class FloatPropertyEditor extends AbstractPropertyEditor {
     }
 
     protected Formatter<Float> resolveFormatter() {
-        return isBlank(getFormat()) ? null : new FloatFormatter(getFormat());
+        return isBlank(getFormat()) ? null : findFormatter(Float.class, getFormat());
     }
 }
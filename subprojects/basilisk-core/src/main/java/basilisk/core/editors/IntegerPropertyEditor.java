@@ -16,8 +16,8 @@
 package basilisk.core.editors;
 
 import basilisk.core.formatters.Formatter;
-import basilisk.core.formatters.IntegerFormatter;
 
+import static basilisk.core.formatters.FormatterResolver.findFormatter;
 import static basilisk.util.BasiliskNameUtils.isBlank;
 
 /**
@@ -49,6 +49,6 @@ public class IntegerPropertyEditor extends AbstractPropertyEditor {
     }
 
     protected Formatter<Integer> resolveFormatter() {
-        return isBlank(getFormat()) ? null : new IntegerFormatter(getFormat());
+        return isBlank(getFormat()) ? null : findFormatter(Integer.class, getFormat());
     }
 }
@@ -16,7 +16,6 @@
 package basilisk.core.editors;
 
 import basilisk.core.formatters.Formatter;
-import basilisk.core.formatters.LocalDateFormatter;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -27,6 +26,7 @@ import java.util.Date;
 import java.util.List;
 import java.util.Map;
 
+import static basilisk.core.formatters.FormatterResolver.findFormatter;
 import static basilisk.util.BasiliskNameUtils.isBlank;
 import static java.time.LocalDate.ofEpochDay;
 
@@ -72,7 +72,7 @@ public class LocalDatePropertyEditor extends AbstractPropertyEditor {
     }
 
     protected Formatter<LocalDate> resolveFormatter() {
-        return isBlank(getFormat()) ? null : new LocalDateFormatter(getFormat());
+        return isBlank(getFormat()) ? null : findFormatter(LocalDate.class, getFormat());
     }
 
     protected void handleAsList(List<?> list) {
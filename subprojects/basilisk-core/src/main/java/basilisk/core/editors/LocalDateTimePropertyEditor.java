@@ -16,7 +16,6 @@
 package basilisk.core.editors;
 
 import basilisk.core.formatters.Formatter;
-import basilisk.core.formatters.LocalDateTimeFormatter;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -27,6 +26,7 @@ import java.util.Calendar;
 import java.util.Date;
 import java.util.List;
 
+import static basilisk.core.formatters.FormatterResolver.findFormatter;
 import static basilisk.util.BasiliskNameUtils.isBlank;
 
 /**
@@ -83,7 +83,7 @@ public class LocalDateTimePropertyEditor extends AbstractPropertyEditor {
     }
 
     protected Formatter<LocalDateTime> resolveFormatter() {
-        return isBlank(getFormat()) ? null : new LocalDateTimeFormatter(getFormat());
+        return isBlank(getFormat()) ? null : findFormatter(LocalDateTime.class, getFormat());
     }
 
     protected void handleAsList(List<?> list) {
@@ -16,7 +16,6 @@
 package basilisk.core.editors;
 
 import basilisk.core.formatters.Formatter;
-import basilisk.core.formatters.LocalTimeFormatter;
 
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -26,6 +25,7 @@ import java.util.Calendar;
 import java.util.Date;
 import java.util.List;
 
+import static basilisk.core.formatters.FormatterResolver.findFormatter;
 import static basilisk.util.BasiliskNameUtils.isBlank;
 
 /**
@@ -82,7 +82,7 @@ public class LocalTimePropertyEditor extends AbstractPropertyEditor {
     }
 
     protected Formatter<LocalTime> resolveFormatter() {
-        return isBlank(getFormat()) ? null : new LocalTimeFormatter(getFormat());
+        return isBlank(getFormat()) ? null : findFormatter(LocalTime.class, getFormat());
     }
 
     protected void handleAsList(List<?> list) {
@@ -16,8 +16,8 @@
 package basilisk.core.editors;
 
 import basilisk.core.formatters.Formatter;
-import basilisk.core.formatters.LongFormatter;
 
+import static basilisk.core.formatters.FormatterResolver.findFormatter;
 import static basilisk.util.BasiliskNameUtils.isBlank;
 
 /**
@@ -49,6 +49,6 @@ public class LongPropertyEditor extends AbstractPropertyEditor {
     }
 
     protected Formatter<Long> resolveFormatter() {
-        return isBlank(getFormat()) ? null : new LongFormatter(getFormat());
+        return isBlank(getFormat()) ? null : findFormatter(Long.class, getFormat());
     }
 }
@@ -15,6 +15,7 @@
  */
 package basilisk.core.editors;
 
+import basilisk.core.converters.ConverterResolver;
 import com.googlecode.openbeans.PropertyEditor;
 import com.googlecode.openbeans.PropertyEditorManager;
 import com.googlecode.openbeans.PropertyEditorSupport;
@@ -23,12 +24,14 @@ import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import javax.annotation.concurrent.GuardedBy;
 import java.lang.ref.Reference;
 import java.lang.ref.WeakReference;
-import java.util.LinkedHashMap;
-import java.util.Map;
-import java.util.WeakHashMap;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static java.util.Objects.requireNonNull;
 
@@ -37,18 +40,30 @@ import static java.util.Objects.requireNonNull;
  * any given type name. This property editor must support the
  * com.googlecode.openbeans.PropertyEditor interface for editing a given object.
  * <p>
+ * Editors registered for a superclass or an interface of the requested type are used
+ * when there is no registration for the type itself. {@code Object} registrations only
+ * apply to {@code Object}. Lookup results, including misses and fallbacks found by
+ * {@code PropertyEditorManager}, are cached per class and discarded whenever the
+ * registrations change. Registrations and cached results only hold weak references
+ * to target and editor classes, so they do not keep classloaders alive.
  *
  * @author Andres Almiray
  */
 public final class PropertyEditorResolver {
     private static final Logger LOG = LoggerFactory.getLogger(PropertyEditorResolver.class);
     private static final Object LOCK = new Object[0];
-    @GuardedBy("LOCK")
-    private static final WeakCache<String, Class<? extends PropertyEditor>> propertyEditorRegistry = new WeakCache();
-    @GuardedBy("LOCK")
-    private static final Map<String, PropertyEditorChain> propertyEditorChainRegistry = new LinkedHashMap<>();
+    private static final ConcurrentMap<String, Registration> propertyEditorRegistry = new ConcurrentHashMap<>();
     private static final String ERROR_TARGET_TYPE_NULL = "Argument 'targetType' must not be null";
 
+    private static volatile int generation;
+
+    private static final ClassValue<Resolution> resolutions = new ClassValue<Resolution>() {
+        @Override
+        protected Resolution computeValue(Class<?> type) {
+            return resolve(type);
+        }
+    };
+
     private PropertyEditorResolver() {
 
     }
@@ -59,8 +74,9 @@ public final class PropertyEditorResolver {
     public static void clear() {
         synchronized (LOCK) {
             propertyEditorRegistry.clear();
-            propertyEditorChainRegistry.clear();
+            generation++;
         }
+        ConverterResolver.invalidateAll();
     }
 
     /**
@@ -88,11 +104,6 @@ public final class PropertyEditorResolver {
             editor = doFindEditor(type);
         }
 
-        if (editor == null) {
-            // fallback
-            editor = PropertyEditorManager.findEditor(type);
-        }
-
         if (editor == null) {
             editor = new NoopPropertyEditor();
         }
@@ -109,10 +120,10 @@ public final class PropertyEditorResolver {
     public static void unregisterEditor(@Nonnull Class<?> targetType) {
         requireNonNull(targetType, ERROR_TARGET_TYPE_NULL);
         synchronized (LOCK) {
-            String targetTypeName = targetType.getName();
-            propertyEditorChainRegistry.remove(targetTypeName);
-            propertyEditorRegistry.remove(targetTypeName);
+            propertyEditorRegistry.remove(targetType.getName());
+            generation++;
         }
+        ConverterResolver.invalidateAll();
     }
 
     /**
@@ -127,123 +138,166 @@ public final class PropertyEditorResolver {
      * @param targetType  the class object of the type to be edited
      * @param editorClass the class object of the editor class
      */
-    @SuppressWarnings("unchecked")
     public static void registerEditor(@Nonnull Class<?> targetType, @Nullable Class<? extends PropertyEditor> editorClass) {
         requireNonNull(targetType, ERROR_TARGET_TYPE_NULL);
         synchronized (LOCK) {
             String targetTypeName = targetType.getName();
             if (editorClass == null) {
-                propertyEditorChainRegistry.remove(targetTypeName);
                 propertyEditorRegistry.remove(targetTypeName);
-                return;
-            }
-
-            // is targetType handled by a chain?
-            PropertyEditorChain chain = propertyEditorChainRegistry.get(targetTypeName);
-            if (chain != null) {
-                PropertyEditorChain propertyEditorChain = chain.copyOf(editorClass);
-                if (propertyEditorChain.getSize() > 1) {
-                    propertyEditorChainRegistry.put(targetTypeName, propertyEditorChain);
-                } else {
-                    // standard registration
-                    propertyEditorChainRegistry.remove(targetTypeName);
-                    propertyEditorRegistry.put(targetTypeName, editorClass);
-                }
             } else {
-                // is targetType handled by an editor ?
-                Class<? extends PropertyEditor> propertyEditorType = propertyEditorRegistry.get(targetTypeName);
-                if (propertyEditorType != null) {
-                    propertyEditorRegistry.remove(targetTypeName);
-                    Class<? extends PropertyEditor>[] propertyEditorClasses = new Class[2];
-                    propertyEditorClasses[0] = propertyEditorType;
-                    propertyEditorClasses[1] = editorClass;
-                    PropertyEditorChain propertyEditorChain = new PropertyEditorChain(targetType, propertyEditorClasses);
-                    if (propertyEditorChain.getSize() > 1) {
-                        propertyEditorChainRegistry.put(targetTypeName, propertyEditorChain);
-                    } else {
-                        // standard registration
-                        propertyEditorChainRegistry.remove(targetTypeName);
-                        propertyEditorRegistry.put(targetTypeName, editorClass);
-                    }
-                } else {
-                    // standard registration
-                    propertyEditorChainRegistry.remove(targetTypeName);
-                    propertyEditorRegistry.put(targetTypeName, editorClass);
+                // is targetType already handled by an editor or a chain?
+                Registration registration = propertyEditorRegistry.get(targetTypeName);
+                List<Class<? extends PropertyEditor>> editorClasses = registration != null && registration.handles(targetType) ?
+                    registration.getEditorClasses() : new ArrayList<Class<? extends PropertyEditor>>();
+                if (!editorClasses.contains(editorClass)) {
+                    editorClasses.add(editorClass);
                 }
+                propertyEditorRegistry.put(targetTypeName, new Registration(targetType, editorClasses));
             }
+            generation++;
         }
+        ConverterResolver.invalidateAll();
     }
 
-    private static PropertyEditor doFindEditor(Class<?> targetType) {
-        synchronized (LOCK) {
-            String targetTypeName = targetType.getName();
-            if (propertyEditorChainRegistry.containsKey(targetTypeName)) {
-                PropertyEditorChain chain = propertyEditorChainRegistry.get(targetTypeName);
-                return chain.copyOf();
-            } else {
-                Class<?> propertyEditorType = propertyEditorRegistry.get(targetTypeName);
-                if (propertyEditorType != null) {
-                    try {
-                        return (PropertyEditor) propertyEditorType.newInstance();
-                    } catch (InstantiationException | IllegalAccessException e) {
-                        throw new IllegalStateException("Can't instantiate " + propertyEditorType, e);
-                    }
+    @Nullable
+    private static PropertyEditor doFindEditor(@Nonnull Class<?> targetType) {
+        while (true) {
+            Resolution resolution = resolutions.get(targetType);
+            if (resolution.generation == generation) {
+                PropertyEditor editor = resolution.createEditor();
+                if (editor != null || resolution.isEmpty()) {
+                    return editor;
                 }
+                // an editor class has been unloaded since the type was resolved
             }
+            resolutions.remove(targetType);
         }
-        return null;
     }
 
-    public static final class NoopPropertyEditor extends PropertyEditorSupport {
+    @Nonnull
+    private static Resolution resolve(@Nonnull Class<?> targetType) {
+        // read the generation first so that concurrent registrations make this result stale
+        int currentGeneration = generation;
+
+        Registration registration = findRegistration(targetType);
+        if (registration == null) {
+            for (Class<?> supertype : collectSupertypes(targetType)) {
+                registration = findRegistration(supertype);
+                if (registration != null) break;
+            }
+        }
+        if (registration != null) {
+            return new Resolution(currentGeneration, registration, null);
+        }
 
+        // fallback
+        PropertyEditor editor = PropertyEditorManager.findEditor(targetType);
+        return new Resolution(currentGeneration, null, editor != null ? editor.getClass() : null);
     }
 
-    private static final class WeakCache<K, V> {
-        private final Map<K, Reference<V>> map = new WeakHashMap<>();
+    @Nullable
+    private static Registration findRegistration(@Nonnull Class<?> targetType) {
+        Registration registration = propertyEditorRegistry.get(targetType.getName());
+        return registration != null && registration.handles(targetType) ? registration : null;
+    }
 
-        private V get(K key) {
-            Reference reference = this.map.get(key);
-            if (reference == null) {
-                return null;
-            } else {
-                V value = (V) reference.get();
-                if (value == null) {
-                    this.map.remove(key);
+    @Nonnull
+    private static Set<Class<?>> collectSupertypes(@Nonnull Class<?> targetType) {
+        Set<Class<?>> supertypes = new LinkedHashSet<>();
+        for (Class<?> c = targetType.getSuperclass(); c != null && c != Object.class; c = c.getSuperclass()) {
+            supertypes.add(c);
+        }
+        List<Class<?>> types = new ArrayList<>();
+        types.add(targetType);
+        types.addAll(supertypes);
+        for (int i = 0; i < types.size(); i++) {
+            for (Class<?> anInterface : types.get(i).getInterfaces()) {
+                if (supertypes.add(anInterface)) {
+                    types.add(anInterface);
                 }
-
-                return value;
             }
         }
+        return supertypes;
+    }
 
-        private void put(K key, V value) {
-            if (value != null) {
-                this.map.put(key, new WeakReference<>(value));
-            } else {
-                this.map.remove(key);
+    @Nonnull
+    private static PropertyEditor newEditor(@Nonnull Class<? extends PropertyEditor> propertyEditorType) {
+        try {
+            return propertyEditorType.newInstance();
+        } catch (InstantiationException | IllegalAccessException e) {
+            throw new IllegalStateException("Can't instantiate " + propertyEditorType, e);
+        }
+    }
+
+    public static final class NoopPropertyEditor extends PropertyEditorSupport {
+
+    }
+
+    private static final class Registration {
+        private final Reference<Class<?>> targetType;
+        private final List<Reference<Class<? extends PropertyEditor>>> editorClasses = new ArrayList<>();
+
+        private Registration(@Nonnull Class<?> targetType, @Nonnull List<Class<? extends PropertyEditor>> editorClasses) {
+            this.targetType = new WeakReference<Class<?>>(targetType);
+            for (Class<? extends PropertyEditor> editorClass : editorClasses) {
+                this.editorClasses.add(new WeakReference<Class<? extends PropertyEditor>>(editorClass));
             }
         }
 
-        private void remove(K key) {
-            this.map.remove(key);
+        private boolean handles(@Nonnull Class<?> type) {
+            return targetType.get() == type && !getEditorClasses().isEmpty();
         }
 
-        private boolean contains(K key) {
-            Reference reference = this.map.get(key);
-            if (reference == null) {
-                return false;
-            } else {
-                V value = (V) reference.get();
-                if (value == null) {
-                    this.map.remove(key);
-                    return false;
+        @Nonnull
+        private List<Class<? extends PropertyEditor>> getEditorClasses() {
+            List<Class<? extends PropertyEditor>> classes = new ArrayList<>();
+            for (Reference<Class<? extends PropertyEditor>> reference : editorClasses) {
+                Class<? extends PropertyEditor> editorClass = reference.get();
+                if (editorClass != null) {
+                    classes.add(editorClass);
                 }
+            }
+            return classes;
+        }
 
-                return true;
+        @Nullable
+        @SuppressWarnings("unchecked")
+        private PropertyEditor createEditor() {
+            Class<?> type = targetType.get();
+            List<Class<? extends PropertyEditor>> classes = getEditorClasses();
+            if (type == null || classes.isEmpty()) {
+                return null;
+            } else if (classes.size() == 1) {
+                return newEditor(classes.get(0));
             }
+            return new PropertyEditorChain(type, classes.toArray(new Class[classes.size()]));
+        }
+    }
+
+    private static final class Resolution {
+        private final int generation;
+        private final Registration registration;
+        private final Reference<Class<? extends PropertyEditor>> fallbackEditorClass;
+
+        private Resolution(int generation, @Nullable Registration registration, @Nullable Class<? extends PropertyEditor> fallbackEditorClass) {
+            this.generation = generation;
+            this.registration = registration;
+            this.fallbackEditorClass = fallbackEditorClass != null ? new WeakReference<Class<? extends PropertyEditor>>(fallbackEditorClass) : null;
         }
 
-        private void clear() {
-            this.map.clear();
+        private boolean isEmpty() {
+            return registration == null && fallbackEditorClass == null;
+        }
+
+        @Nullable
+        private PropertyEditor createEditor() {
+            if (registration != null) {
+                return registration.createEditor();
+            } else if (fallbackEditorClass != null) {
+                Class<? extends PropertyEditor> editorClass = fallbackEditorClass.get();
+                return editorClass != null ? newEditor(editorClass) : null;
+            }
+            return null;
         }
     }
 }
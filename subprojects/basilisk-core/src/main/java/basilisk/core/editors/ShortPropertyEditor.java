@@ -16,8 +16,8 @@
 package basilisk.core.editors;
 
 import basilisk.core.formatters.Formatter;
-import basilisk.core.formatters.ShortFormatter;
 
+import static basilisk.core.formatters.FormatterResolver.findFormatter;
 import static basilisk.util.BasiliskNameUtils.isBlank;
 
 /**
@@ -49,6 +49,6 @@ public class ShortPropertyEditor extends AbstractPropertyEditor {
     }
 
     protected Formatter<Short> resolveFormatter() {
-        return isBlank(getFormat()) ? null : new ShortFormatter(getFormat());
+        return isBlank(getFormat()) ? null : findFormatter(Short.class, getFormat());
     }
 }
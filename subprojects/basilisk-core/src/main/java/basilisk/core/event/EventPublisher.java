@@ -259,4 +259,13 @@ public interface EventPublisher {
      */
     @Nonnull
     Collection<Object> getEventListeners(@Nonnull String eventName);
+
+    /**
+     * Checks whether there is at least one event listener registered for the target event name.
+     *
+     * @param eventName the name of the event
+     * @return {@code true} if publishing the event would notify a listener, {@code false} otherwise.
+     * @since 0.3.0
+     */
+    boolean hasEventListeners(@Nonnull String eventName);
 }
@@ -29,13 +29,14 @@ public class BigDecimalFormatter extends AbstractFormatter<BigDecimal> {
     public static final String PATTERN_CURRENCY = "currency";
     public static final String PATTERN_PERCENT = "percent";
 
-    private final NumberFormat numberFormat;
+    private final ThreadLocalFormat<NumberFormat> numberFormats;
 
     public BigDecimalFormatter() {
         this(null);
     }
 
     public BigDecimalFormatter(@Nullable String pattern) {
+        NumberFormat numberFormat;
         if (isBlank(pattern)) {
             numberFormat = new DecimalFormat();
             ((DecimalFormat) numberFormat).setParseBigDecimal(true);
@@ -47,11 +48,12 @@ public class BigDecimalFormatter extends AbstractFormatter<BigDecimal> {
             numberFormat = new DecimalFormat(pattern);
             ((DecimalFormat) numberFormat).setParseBigDecimal(true);
         }
+        numberFormats = new ThreadLocalFormat<>(numberFormat);
     }
 
     @Nullable
     public String format(@Nullable BigDecimal number) {
-        return number == null ? null : numberFormat.format(number);
+        return number == null ? null : numberFormats.get().format(number);
     }
 
     @Nullable
@@ -59,7 +61,7 @@ public class BigDecimalFormatter extends AbstractFormatter<BigDecimal> {
     public BigDecimal parse(@Nullable String str) throws ParseException {
         if (isBlank(str)) return null;
         try {
-            Number number = numberFormat.parse(str);
+            Number number = numberFormats.get().parse(str);
             if (number instanceof BigDecimal) {
                 return (BigDecimal) number;
             }
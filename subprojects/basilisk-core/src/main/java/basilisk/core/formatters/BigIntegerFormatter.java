@@ -30,13 +30,14 @@ public class BigIntegerFormatter extends AbstractFormatter<BigInteger> {
     public static final String PATTERN_CURRENCY = "currency";
     public static final String PATTERN_PERCENT = "percent";
 
-    private final NumberFormat numberFormat;
+    private final ThreadLocalFormat<NumberFormat> numberFormats;
 
     public BigIntegerFormatter() {
         this(null);
     }
 
     public BigIntegerFormatter(@Nullable String pattern) {
+        NumberFormat numberFormat;
         if (isBlank(pattern)) {
             numberFormat = NumberFormat.getIntegerInstance();
         } else if (PATTERN_CURRENCY.equalsIgnoreCase(pattern)) {
@@ -48,11 +49,12 @@ public class BigIntegerFormatter extends AbstractFormatter<BigInteger> {
             numberFormat.setParseIntegerOnly(true);
             ((DecimalFormat) numberFormat).setParseBigDecimal(true);
         }
+        numberFormats = new ThreadLocalFormat<>(numberFormat);
     }
 
     @Nullable
     public String format(@Nullable BigInteger number) {
-        return number == null ? null : numberFormat.format(number);
+        return number == null ? null : numberFormats.get().format(number);
     }
 
     @Nullable
@@ -60,7 +62,7 @@ public class BigIntegerFormatter extends AbstractFormatter<BigInteger> {
     public BigInteger parse(@Nullable String str) throws ParseException {
         if (isBlank(str)) return null;
         try {
-            Number number = numberFormat.parse(str);
+            Number number = numberFormats.get().parse(str);
             if (number instanceof BigDecimal) {
                 return ((BigDecimal) number).toBigInteger();
             }
@@ -28,13 +28,14 @@ public class ByteFormatter extends AbstractFormatter<Byte> {
     public static final String PATTERN_CURRENCY = "currency";
     public static final String PATTERN_PERCENT = "percent";
 
-    private final NumberFormat numberFormat;
+    private final ThreadLocalFormat<NumberFormat> numberFormats;
 
     public ByteFormatter() {
         this(null);
     }
 
     public ByteFormatter(@Nullable String pattern) {
+        NumberFormat numberFormat;
         if (isBlank(pattern)) {
             numberFormat = NumberFormat.getIntegerInstance();
         } else if (PATTERN_CURRENCY.equalsIgnoreCase(pattern)) {
@@ -45,11 +46,12 @@ public class ByteFormatter extends AbstractFormatter<Byte> {
             numberFormat = new DecimalFormat(pattern);
             numberFormat.setParseIntegerOnly(true);
         }
+        numberFormats = new ThreadLocalFormat<>(numberFormat);
     }
 
     @Nullable
     public String format(@Nullable Byte number) {
-        return number == null ? null : numberFormat.format(number);
+        return number == null ? null : numberFormats.get().format(number);
     }
 
     @Nullable
@@ -57,7 +59,7 @@ public class ByteFormatter extends AbstractFormatter<Byte> {
     public Byte parse(@Nullable String str) throws ParseException {
         if (isBlank(str)) return null;
         try {
-            return numberFormat.parse(str).byteValue();
+            return numberFormats.get().parse(str).byteValue();
         } catch (java.text.ParseException e) {
             throw new ParseException(e);
         }
@@ -26,28 +26,30 @@ import static basilisk.util.BasiliskNameUtils.isBlank;
  * @author Andres Almiray
  */
 public class CalendarFormatter extends AbstractFormatter<Calendar> {
-    private final SimpleDateFormat dateFormat;
+    private final ThreadLocalFormat<SimpleDateFormat> dateFormats;
 
     public CalendarFormatter() {
         this(null);
     }
 
     public CalendarFormatter(@Nullable String pattern) {
+        SimpleDateFormat dateFormat;
         if (isBlank(pattern)) {
             dateFormat = new SimpleDateFormat();
         } else {
             dateFormat = new SimpleDateFormat(pattern);
         }
+        dateFormats = new ThreadLocalFormat<>(dateFormat);
     }
 
     @Nonnull
     public String getPattern() {
-        return dateFormat.toPattern();
+        return dateFormats.getPrototype().toPattern();
     }
 
     @Nullable
     public String format(@Nullable Calendar date) {
-        return date == null ? null : dateFormat.format(date.getTime());
+        return date == null ? null : dateFormats.get().format(date.getTime());
     }
 
     @Nullable
@@ -56,7 +58,7 @@ public class CalendarFormatter extends AbstractFormatter<Calendar> {
         if (isBlank(str)) return null;
         try {
             Calendar c = Calendar.getInstance();
-            c.setTime(dateFormat.parse(str));
+            c.setTime(dateFormats.get().parse(str));
             return c;
         } catch (java.text.ParseException e) {
             throw new ParseException(e);
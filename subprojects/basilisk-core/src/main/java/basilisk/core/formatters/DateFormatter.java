@@ -26,28 +26,30 @@ import static basilisk.util.BasiliskNameUtils.isBlank;
  * @author Andres Almiray
  */
 public class DateFormatter extends AbstractFormatter<Date> {
-    private final SimpleDateFormat dateFormat;
+    private final ThreadLocalFormat<SimpleDateFormat> dateFormats;
 
     public DateFormatter() {
         this(null);
     }
 
     public DateFormatter(@Nullable String pattern) {
+        SimpleDateFormat dateFormat;
         if (isBlank(pattern)) {
             dateFormat = new SimpleDateFormat();
         } else {
             dateFormat = new SimpleDateFormat(pattern);
         }
+        dateFormats = new ThreadLocalFormat<>(dateFormat);
     }
 
     @Nonnull
     public String getPattern() {
-        return dateFormat.toPattern();
+        return dateFormats.getPrototype().toPattern();
     }
 
     @Nullable
     public String format(@Nullable Date date) {
-        return date == null ? null : dateFormat.format(date);
+        return date == null ? null : dateFormats.get().format(date);
     }
 
     @Nullable
@@ -55,7 +57,7 @@ public class DateFormatter extends AbstractFormatter<Date> {
     public Date parse(@Nullable String str) throws ParseException {
         if (isBlank(str)) return null;
         try {
-            return dateFormat.parse(str);
+            return dateFormats.get().parse(str);
         } catch (java.text.ParseException e) {
             throw new ParseException(e);
         }
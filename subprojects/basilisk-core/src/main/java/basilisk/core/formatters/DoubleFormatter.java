@@ -28,13 +28,15 @@ public class DoubleFormatter extends AbstractFormatter<Double> {
     public static final String PATTERN_CURRENCY = "currency";
     public static final String PATTERN_PERCENT = "percent";
 
-    private final NumberFormat numberFormat;
+    private final ThreadLocalFormat<NumberFormat> numberFormats;
+    private final PlainNumberFormat plainFormat;
 
     public DoubleFormatter() {
         this(null);
     }
 
     public DoubleFormatter(@Nullable String pattern) {
+        NumberFormat numberFormat;
         if (isBlank(pattern)) {
             numberFormat = new DecimalFormat("#.0");
         } else if (PATTERN_CURRENCY.equalsIgnoreCase(pattern)) {
@@ -44,19 +46,24 @@ public class DoubleFormatter extends AbstractFormatter<Double> {
         } else {
             numberFormat = new DecimalFormat(pattern);
         }
+        numberFormats = new ThreadLocalFormat<>(numberFormat);
+        plainFormat = PlainNumberFormat.of(numberFormat);
     }
 
     @Nullable
     public String format(@Nullable Double number) {
-        return number == null ? null : numberFormat.format(number);
+        return number == null ? null : numberFormats.get().format(number);
     }
 
     @Nullable
     @Override
     public Double parse(@Nullable String str) throws ParseException {
         if (isBlank(str)) return null;
+        if (plainFormat != null && plainFormat.isPlainDecimal(str)) {
+            return Double.parseDouble(str);
+        }
         try {
-            return numberFormat.parse(str).doubleValue();
+            return numberFormats.get().parse(str).doubleValue();
         } catch (java.text.ParseException e) {
             throw new ParseException(e);
         }
@@ -28,13 +28,14 @@ public class FloatFormatter extends AbstractFormatter<Float> {
     public static final String PATTERN_CURRENCY = "currency";
     public static final String PATTERN_PERCENT = "percent";
 
-    private final NumberFormat numberFormat;
+    private final ThreadLocalFormat<NumberFormat> numberFormats;
 
     public FloatFormatter() {
         this(null);
     }
 
     public FloatFormatter(@Nullable String pattern) {
+        NumberFormat numberFormat;
         if (isBlank(pattern)) {
             numberFormat = new DecimalFormat("#.0");
         } else if (PATTERN_CURRENCY.equalsIgnoreCase(pattern)) {
@@ -44,11 +45,12 @@ public class FloatFormatter extends AbstractFormatter<Float> {
         } else {
             numberFormat = new DecimalFormat(pattern);
         }
+        numberFormats = new ThreadLocalFormat<>(numberFormat);
     }
 
     @Nullable
     public String format(@Nullable Float number) {
-        return number == null ? null : numberFormat.format(number);
+        return number == null ? null : numberFormats.get().format(number);
     }
 
     @Nullable
@@ -56,7 +58,7 @@ public class FloatFormatter extends AbstractFormatter<Float> {
     public Float parse(@Nullable String str) throws ParseException {
         if (isBlank(str)) return null;
         try {
-            return numberFormat.parse(str).floatValue();
+            return numberFormats.get().parse(str).floatValue();
         } catch (java.text.ParseException e) {
             throw new ParseException(e);
         }
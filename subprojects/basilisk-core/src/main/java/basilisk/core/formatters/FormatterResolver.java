@@ -0,0 +1,153 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package basilisk.core.formatters;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static basilisk.util.BasiliskNameUtils.isBlank;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Locates a shared {@code Formatter} for a given type and pattern.
+ * <p>
+ * Formatters are cached per type, pattern and default {@code Locale}, as the formatters
+ * pick their symbols from the default locale when they are created. Every formatter
+ * returned by this class is thread-safe.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+public final class FormatterResolver {
+    private static final ConcurrentMap<FormatterKey, Formatter<?>> formatterCache = new ConcurrentHashMap<>();
+
+    private FormatterResolver() {
+
+    }
+
+    /**
+     * Removes all cached formatters.
+     */
+    public static void clear() {
+        formatterCache.clear();
+    }
+
+    @Nullable
+    public static <T> Formatter<T> findFormatter(@Nonnull Class<T> type) {
+        return findFormatter(type, null);
+    }
+
+    /**
+     * Locates a formatter for the given type and pattern.
+     *
+     * @param type    the type of the values to be formatted
+     * @param pattern an optional pattern, as understood by the formatter of the given type
+     * @return a shared, thread-safe formatter, or {@code null} if the type is not supported.
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public static <T> Formatter<T> findFormatter(@Nonnull Class<T> type, @Nullable String pattern) {
+        requireNonNull(type, "Argument 'type' must not be null");
+        FormatterKey key = new FormatterKey(type, isBlank(pattern) ? null : pattern, Locale.getDefault());
+        Formatter<?> formatter = formatterCache.get(key);
+        if (formatter == null) {
+            formatter = createFormatter(type, key.pattern);
+            if (formatter == null) {
+                return null;
+            }
+            Formatter<?> existing = formatterCache.putIfAbsent(key, formatter);
+            if (existing != null) {
+                formatter = existing;
+            }
+        }
+        return (Formatter<T>) formatter;
+    }
+
+    @Nullable
+    private static Formatter<?> createFormatter(@Nonnull Class<?> type, @Nullable String pattern) {
+        if (Boolean.class == type || Boolean.TYPE == type) {
+            return BooleanFormatter.getInstance(pattern);
+        } else if (Byte.class == type || Byte.TYPE == type) {
+            return new ByteFormatter(pattern);
+        } else if (Short.class == type || Short.TYPE == type) {
+            return new ShortFormatter(pattern);
+        } else if (Integer.class == type || Integer.TYPE == type) {
+            return new IntegerFormatter(pattern);
+        } else if (Long.class == type || Long.TYPE == type) {
+            return new LongFormatter(pattern);
+        } else if (Float.class == type || Float.TYPE == type) {
+            return new FloatFormatter(pattern);
+        } else if (Double.class == type || Double.TYPE == type) {
+            return new DoubleFormatter(pattern);
+        } else if (BigInteger.class == type) {
+            return new BigIntegerFormatter(pattern);
+        } else if (BigDecimal.class == type) {
+            return new BigDecimalFormatter(pattern);
+        } else if (Date.class == type) {
+            return new DateFormatter(pattern);
+        } else if (Calendar.class.isAssignableFrom(type)) {
+            return new CalendarFormatter(pattern);
+        } else if (LocalDate.class == type) {
+            return new LocalDateFormatter(pattern);
+        } else if (LocalDateTime.class == type) {
+            return new LocalDateTimeFormatter(pattern);
+        } else if (LocalTime.class == type) {
+            return new LocalTimeFormatter(pattern);
+        } else if (Locale.class == type) {
+            return new LocaleFormatter();
+        }
+        return null;
+    }
+
+    private static final class FormatterKey {
+        private final Class<?> type;
+        private final String pattern;
+        private final Locale locale;
+        private final int hashCode;
+
+        private FormatterKey(@Nonnull Class<?> type, @Nullable String pattern, @Nonnull Locale locale) {
+            this.type = type;
+            this.pattern = pattern;
+            this.locale = locale;
+            this.hashCode = 31 * (31 * type.hashCode() + (pattern != null ? pattern.hashCode() : 0)) + locale.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof FormatterKey)) return false;
+            FormatterKey other = (FormatterKey) o;
+            return type == other.type &&
+                locale.equals(other.locale) &&
+                (pattern != null ? pattern.equals(other.pattern) : other.pattern == null);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
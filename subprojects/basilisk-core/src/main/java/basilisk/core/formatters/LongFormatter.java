@@ -15,11 +15,15 @@
  */
 package basilisk.core.formatters;
 
+import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.io.IOException;
 import java.text.DecimalFormat;
 import java.text.NumberFormat;
 
 import static basilisk.util.BasiliskNameUtils.isBlank;
+import static basilisk.util.NumberUtils.parseLong;
+import static java.util.Objects.requireNonNull;
 
 /**
  * @author Andres Almiray
@@ -28,13 +32,15 @@ public class LongFormatter extends AbstractFormatter<Long> {
     public static final String PATTERN_CURRENCY = "currency";
     public static final String PATTERN_PERCENT = "percent";
 
-    private final NumberFormat numberFormat;
+    private final ThreadLocalFormat<NumberFormat> numberFormats;
+    private final PlainNumberFormat plainFormat;
 
     public LongFormatter() {
         this(null);
     }
 
     public LongFormatter(@Nullable String pattern) {
+        NumberFormat numberFormat;
         if (isBlank(pattern)) {
             numberFormat = NumberFormat.getIntegerInstance();
         } else if (PATTERN_CURRENCY.equalsIgnoreCase(pattern)) {
@@ -45,19 +51,46 @@ public class LongFormatter extends AbstractFormatter<Long> {
             numberFormat = new DecimalFormat(pattern);
             numberFormat.setParseIntegerOnly(true);
         }
+        numberFormats = new ThreadLocalFormat<>(numberFormat);
+        plainFormat = PlainNumberFormat.of(numberFormat);
     }
 
     @Nullable
     public String format(@Nullable Long number) {
-        return number == null ? null : numberFormat.format(number);
+        if (number == null) return null;
+        if (plainFormat != null && plainFormat.formatsIntegers()) {
+            return plainFormat.format(number);
+        }
+        return numberFormats.get().format(number);
+    }
+
+    /**
+     * Formats a primitive value into the given {@code Appendable}, avoiding boxing
+     * and intermediate strings when the pattern only produces plain digits.
+     *
+     * @param number the value to be formatted
+     * @param output the target of the formatted value
+     * @throws IOException if {@code output} cannot be written to
+     * @since 0.3.0
+     */
+    public void format(long number, @Nonnull Appendable output) throws IOException {
+        requireNonNull(output, "Argument 'output' must not be null");
+        if (plainFormat != null && plainFormat.formatsIntegers()) {
+            plainFormat.format(number, output);
+        } else {
+            output.append(numberFormats.get().format(number));
+        }
     }
 
     @Nullable
     @Override
     public Long parse(@Nullable String str) throws ParseException {
         if (isBlank(str)) return null;
+        if (plainFormat != null && plainFormat.isPlainInteger(str)) {
+            return parseLong(str);
+        }
         try {
-            return numberFormat.parse(str).longValue();
+            return numberFormats.get().parse(str).longValue();
         } catch (java.text.ParseException e) {
             throw new ParseException(e);
         }
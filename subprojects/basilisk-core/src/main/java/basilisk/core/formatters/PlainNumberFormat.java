@@ -0,0 +1,135 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package basilisk.core.formatters;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.NumberFormat;
+
+import static basilisk.util.NumberUtils.formatLong;
+
+/**
+ * Fast path for {@code DecimalFormat} instances whose output and input consist of plain
+ * ASCII digits, such as the default integer format of most locales. Values are formatted
+ * and parsed without going through the {@code DecimalFormat}, with identical results.
+ * Inputs that are not plain, for example because they contain grouping separators,
+ * must be handed to the {@code DecimalFormat} instead.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+final class PlainNumberFormat {
+    // longer inputs may overflow a long or exceed the digits kept by DecimalFormat
+    private static final int MAX_PLAIN_LENGTH = 18;
+
+    private final boolean formatsIntegers;
+    private final char groupingSeparator;
+    private final int groupingSize;
+    private final char decimalSeparator;
+
+    private PlainNumberFormat(@Nonnull DecimalFormat format) {
+        DecimalFormatSymbols symbols = format.getDecimalFormatSymbols();
+        this.formatsIntegers = format.getMinimumIntegerDigits() <= 1 &&
+            format.getMinimumFractionDigits() == 0 &&
+            !format.isDecimalSeparatorAlwaysShown();
+        this.groupingSize = format.isGroupingUsed() ? format.getGroupingSize() : 0;
+        this.groupingSeparator = symbols.getGroupingSeparator();
+        this.decimalSeparator = symbols.getDecimalSeparator();
+    }
+
+    /**
+     * Creates a fast path for the given format.
+     *
+     * @param format the format to be bypassed
+     * @return a fast path, or {@code null} if the format uses prefixes, suffixes, a multiplier, scientific notation or non ASCII digits.
+     */
+    @Nullable
+    static PlainNumberFormat of(@Nonnull NumberFormat format) {
+        if (!(format instanceof DecimalFormat)) {
+            return null;
+        }
+        DecimalFormat decimalFormat = (DecimalFormat) format;
+        DecimalFormatSymbols symbols = decimalFormat.getDecimalFormatSymbols();
+        if (decimalFormat.getMultiplier() != 1 ||
+            decimalFormat.isParseBigDecimal() ||
+            symbols.getZeroDigit() != '0' ||
+            !decimalFormat.getPositivePrefix().isEmpty() ||
+            !decimalFormat.getPositiveSuffix().isEmpty() ||
+            !"-".equals(decimalFormat.getNegativePrefix()) ||
+            !decimalFormat.getNegativeSuffix().isEmpty() ||
+            decimalFormat.toPattern().indexOf('E') >= 0) {
+            return null;
+        }
+        return new PlainNumberFormat(decimalFormat);
+    }
+
+    boolean formatsIntegers() {
+        return formatsIntegers;
+    }
+
+    @Nonnull
+    String format(long value) {
+        try {
+            return formatLong(value, groupingSeparator, groupingSize, new StringBuilder(24)).toString();
+        } catch (IOException e) {
+            // StringBuilder does not throw IOException
+            throw new IllegalStateException(e);
+        }
+    }
+
+    void format(long value, @Nonnull Appendable output) throws IOException {
+        formatLong(value, groupingSeparator, groupingSize, output);
+    }
+
+    /**
+     * @return {@code true} if the input is an optional {@code '-'} followed by ASCII digits.
+     */
+    boolean isPlainInteger(@Nonnull CharSequence input) {
+        return isPlain(input, false);
+    }
+
+    /**
+     * @return {@code true} if the input is an optional {@code '-'} followed by ASCII digits
+     * with at most one {@code '.'} decimal separator.
+     */
+    boolean isPlainDecimal(@Nonnull CharSequence input) {
+        return decimalSeparator == '.' && isPlain(input, true);
+    }
+
+    private static boolean isPlain(@Nonnull CharSequence input, boolean decimal) {
+        int length = input.length();
+        if (length == 0 || length > MAX_PLAIN_LENGTH) {
+            return false;
+        }
+
+        boolean digits = false;
+        boolean separator = false;
+        for (int i = input.charAt(0) == '-' ? 1 : 0; i < length; i++) {
+            char c = input.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits = true;
+            } else if (c == '.' && decimal && !separator) {
+                separator = true;
+            } else {
+                return false;
+            }
+        }
+        return digits;
+    }
+}
@@ -28,13 +28,14 @@ public class ShortFormatter extends AbstractFormatter<Short> {
     public static final String PATTERN_CURRENCY = "currency";
     public static final String PATTERN_PERCENT = "percent";
 
-    private final NumberFormat numberFormat;
+    private final ThreadLocalFormat<NumberFormat> numberFormats;
 
     public ShortFormatter() {
         this(null);
     }
 
     public ShortFormatter(@Nullable String pattern) {
+        NumberFormat numberFormat;
         if (isBlank(pattern)) {
             numberFormat = NumberFormat.getIntegerInstance();
         } else if (PATTERN_CURRENCY.equalsIgnoreCase(pattern)) {
@@ -45,11 +46,12 @@ public class ShortFormatter extends AbstractFormatter<Short> {
             numberFormat = new DecimalFormat(pattern);
             numberFormat.setParseIntegerOnly(true);
         }
+        numberFormats = new ThreadLocalFormat<>(numberFormat);
     }
 
     @Nullable
     public String format(@Nullable Short number) {
-        return number == null ? null : numberFormat.format(number);
+        return number == null ? null : numberFormats.get().format(number);
     }
 
     @Nullable
@@ -57,7 +59,7 @@ public class ShortFormatter extends AbstractFormatter<Short> {
     public Short parse(@Nullable String str) throws ParseException {
         if (isBlank(str)) return null;
         try {
-            return numberFormat.parse(str).shortValue();
+            return numberFormats.get().parse(str).shortValue();
         } catch (java.text.ParseException e) {
             throw new ParseException(e);
         }
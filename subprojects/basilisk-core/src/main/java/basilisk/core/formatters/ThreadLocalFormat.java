@@ -0,0 +1,47 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package basilisk.core.formatters;
+
+import javax.annotation.Nonnull;
+import java.text.Format;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Hands out one copy of a {@code java.text.Format} per thread. Formats are not thread-safe;
+ * copies are cloned from a prototype that is never used for formatting or parsing.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+final class ThreadLocalFormat<F extends Format> extends ThreadLocal<F> {
+    private final F prototype;
+
+    ThreadLocalFormat(@Nonnull F prototype) {
+        this.prototype = requireNonNull(prototype, "Argument 'prototype' must not be null");
+    }
+
+    @Nonnull
+    F getPrototype() {
+        return prototype;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected F initialValue() {
+        return (F) prototype.clone();
+    }
+}
@@ -261,6 +261,40 @@ public interface MessageSource {
     @Nonnull
     Object resolveMessageValue(@Nonnull String key, @Nonnull Locale locale) throws NoSuchMessageException;
 
+    /**
+     * Resolve a message value given a key and a Locale without raising an exception if the key cannot be found.
+     * References to other keys are followed in the same way as {@link #resolveMessageValue(String, Locale)} does.
+     *
+     * @param key    Key to lookup, such as 'log4j.appenders.console'
+     * @param locale Locale in which to lookup
+     * @return the resolved message value at the given key for the given locale, or {@code null} if no message is found
+     * @since 0.3.0
+     */
+    @Nullable
+    Object findMessageValue(@Nonnull String key, @Nonnull Locale locale);
+
+    /**
+     * Try to resolve the message without raising an exception if the key cannot be found.
+     *
+     * @param key    Key to lookup, such as 'log4j.appenders.console'
+     * @param args   Arguments that will be filled in for params within the message (params look like "{0}" within a
+     *               message, but this might differ between implementations), or null if none.
+     * @param locale Locale in which to lookup
+     * @return The resolved message at the given key for the given locale, or {@code null} if no message is found
+     * @since 0.3.0
+     */
+    @Nullable
+    String findMessage(@Nonnull String key, @Nonnull Object[] args, @Nonnull Locale locale);
+
+    /**
+     * Loads the messages for the given Locale ahead of time, so that subsequent lookups do not pay for it.
+     * Calling this method for a Locale that has already been loaded has no effect.
+     *
+     * @param locale the Locale to be loaded
+     * @since 0.3.0
+     */
+    void prewarm(@Nonnull Locale locale);
+
     /**
      * Formats the given message using supplied args to substitute placeholders.
      *
@@ -302,4 +336,16 @@ public interface MessageSource {
      */
     @Nonnull
     ResourceBundle asResourceBundle();
+
+    /**
+     * Offers a view of this {@code MessageSource} for the given Locale as a {@code ResourceBundle}.
+     * The view is created once per Locale and reflects the current contents of this {@code MessageSource}.
+     *
+     * @param locale the Locale of the view
+     * @return a {@code ResourceBundle} containing the keys this {@code MessageSource}
+     * can resolve for the given Locale.
+     * @since 0.3.0
+     */
+    @Nonnull
+    ResourceBundle asResourceBundle(@Nonnull Locale locale);
 }
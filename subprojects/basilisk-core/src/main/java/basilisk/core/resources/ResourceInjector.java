@@ -16,10 +16,21 @@
 package basilisk.core.resources;
 
 import javax.annotation.Nonnull;
+import java.util.Set;
 
 /**
  * @author Andres Almiray
  */
 public interface ResourceInjector {
     void injectResources(@Nonnull Object instance);
+
+    /**
+     * Injects again only the resources of {@code instance} whose keys are contained in {@code keys},
+     * for example after the bundles backing them were reloaded.
+     *
+     * @param instance the instance to update
+     * @param keys     the resource keys that changed
+     * @since 0.3.0
+     */
+    void injectResources(@Nonnull Object instance, @Nonnull Set<String> keys);
 }
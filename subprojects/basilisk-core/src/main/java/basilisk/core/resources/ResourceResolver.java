@@ -476,6 +476,27 @@ public interface ResourceResolver {
     @Nonnull
     Object resolveResourceValue(@Nonnull String key, @Nonnull Locale locale) throws NoSuchResourceException;
 
+    /**
+     * Resolve a resource value given a key and a Locale without raising an exception if the key cannot be found.
+     * References to other keys are followed in the same way as {@link #resolveResourceValue(String, Locale)} does.
+     *
+     * @param key    Key to lookup, such as 'sample.SampleModel.icon'
+     * @param locale Locale in which to lookup
+     * @return the resolved resource value at the given key for the given locale, or {@code null} if no resource is found
+     * @since 0.3.0
+     */
+    @Nullable
+    Object findResourceValue(@Nonnull String key, @Nonnull Locale locale);
+
+    /**
+     * Loads the resources for the given Locale ahead of time, so that subsequent lookups do not pay for it.
+     * Calling this method for a Locale that has already been loaded has no effect.
+     *
+     * @param locale the Locale to be loaded
+     * @since 0.3.0
+     */
+    void prewarm(@Nonnull Locale locale);
+
     /**
      * Formats the given resource using supplied args to substitute placeholders.
      *
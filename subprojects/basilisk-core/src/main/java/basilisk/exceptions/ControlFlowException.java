@@ -0,0 +1,36 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package basilisk.exceptions;
+
+/**
+ * Base class for exceptions used to alter the flow of execution rather than to report errors.
+ * Instances do not capture a stack trace nor record suppressed exceptions, which makes them
+ * cheap to create and throw.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+public class ControlFlowException extends RuntimeException {
+    private static final long serialVersionUID = -3542412573236305211L;
+
+    public ControlFlowException() {
+        this(null);
+    }
+
+    public ControlFlowException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -64,7 +64,7 @@ public class AnnotationUtils {
     public static List<Annotation> harvestQualifiers(@Nonnull Class<?> klass) {
         requireNonNull(klass, "Argument 'class' must not be null");
         List<Annotation> list = new ArrayList<>();
-        Annotation[] annotations = klass.getAnnotations();
+        Annotation[] annotations = ClassMetadata.of(klass).sharedAnnotations();
         for (Annotation annotation : annotations) {
             if (AnnotationUtils.isAnnotatedWith(annotation, Qualifier.class)) {
                 // special case @BindTo is only used during tests
@@ -90,12 +90,7 @@ public class AnnotationUtils {
         requireNonNull(klass, ERROR_CLASS_NULL);
         requireNonNull(annotationType, ERROR_ANNOTATION_TYPE_NULL);
 
-        while (klass != null) {
-            Annotation annotation = findAnnotation(klass.getAnnotations(), annotationType);
-            if (annotation != null) return (A) annotation;
-            klass = klass.getSuperclass();
-        }
-        return null;
+        return ClassMetadata.of(klass).findAnnotation(annotationType);
     }
 
     @Nullable
@@ -118,22 +113,7 @@ public class AnnotationUtils {
         requireNonNull(clazz, ERROR_CLASS_NULL);
         requireNonNull(annotationType, ERROR_ANNOTATION_TYPE_NULL);
 
-        //noinspection ConstantConditions
-        while (clazz != null) {
-            for (Annotation annotation : clazz.getAnnotations()) {
-                if (annotationType.equals(annotation.annotationType())) {
-                    return true;
-                }
-            }
-            for (Class<?> iface : clazz.getInterfaces()) {
-                if (isAnnotatedWith(iface, annotationType)) {
-                    return true;
-                }
-            }
-
-            clazz = clazz.getSuperclass();
-        }
-        return false;
+        return ClassMetadata.of(clazz).isAnnotatedWith(annotationType);
     }
 
     @Nonnull
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package basilisk.util;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Arrays;
+
+/**
+ * The runtime types of a list of arguments, {@code null} standing for a {@code null} argument.
+ * <p>
+ * Signatures compute their hash code once, which makes them cheap keys for method lookup caches.
+ * They are not interned, so a signature is only kept alive by the caches that hold it and never
+ * retains the classes of a discarded classloader on its own.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+public final class ArgumentSignature {
+    public static final ArgumentSignature EMPTY = new ArgumentSignature(new Class<?>[0]);
+
+    private final Class<?>[] types;
+    private final int hashCode;
+
+    private ArgumentSignature(@Nonnull Class<?>[] types) {
+        this.types = types;
+        this.hashCode = Arrays.hashCode(types);
+    }
+
+    /**
+     * Returns the signature of the given types.
+     *
+     * @param types the argument types, may contain {@code null} elements
+     * @return the signature of {@code types}
+     */
+    @Nonnull
+    public static ArgumentSignature of(@Nullable Class<?>... types) {
+        if (types == null || types.length == 0) {
+            return EMPTY;
+        }
+        return new ArgumentSignature(types.clone());
+    }
+
+    /**
+     * Returns the signature of the runtime types of the given arguments.
+     *
+     * @param args the arguments, may contain {@code null} elements
+     * @return the signature of the runtime types of {@code args}
+     */
+    @Nonnull
+    public static ArgumentSignature forArguments(@Nullable Object... args) {
+        if (args == null || args.length == 0) {
+            return EMPTY;
+        }
+        Class<?>[] types = new Class<?>[args.length];
+        for (int i = 0; i < args.length; i++) {
+            types[i] = args[i] != null ? args[i].getClass() : null;
+        }
+        return new ArgumentSignature(types);
+    }
+
+    public int size() {
+        return types.length;
+    }
+
+    @Nullable
+    public Class<?> getType(int index) {
+        return types[index];
+    }
+
+    @Nonnull
+    public Class<?>[] getTypes() {
+        return types.clone();
+    }
+
+    /**
+     * Checks whether the argument types are exactly the given parameter types.
+     *
+     * @param parameterTypes the parameter types of a method
+     * @return {@code true} if both have the same length and elements
+     */
+    public boolean isExactly(@Nonnull Class<?>[] parameterTypes) {
+        return Arrays.equals(types, parameterTypes);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ArgumentSignature)) return false;
+        ArgumentSignature that = (ArgumentSignature) o;
+        return hashCode == that.hashCode && Arrays.equals(types, that.types);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(types);
+    }
+}
@@ -28,9 +28,6 @@ import basilisk.exceptions.FieldException;
 import basilisk.exceptions.InstanceMethodInvocationException;
 import basilisk.exceptions.PropertyException;
 import basilisk.exceptions.StaticMethodInvocationException;
-import com.googlecode.openbeans.BeanInfo;
-import com.googlecode.openbeans.IntrospectionException;
-import com.googlecode.openbeans.Introspector;
 import com.googlecode.openbeans.PropertyDescriptor;
 
 import javax.annotation.Nonnull;
@@ -1918,24 +1915,13 @@ public class BasiliskClassUtils {
         requireNonNull(obj, ERROR_OBJECT_NULL);
         requireNonBlank(name, ERROR_NAME_BLANK);
 
-        Class<?> clazz = obj.getClass();
-        Class c = clazz;
-        while (c != null && !c.equals(Object.class)) {
-            Field field = null;
-            boolean wasAccessible = false;
+        Field field = ClassMetadata.of(obj.getClass()).findField(name);
+        if (field != null) {
             try {
-                field = c.getDeclaredField(name);
-                wasAccessible = field.isAccessible();
-                field.setAccessible(true);
-                return field.get(obj);
+                return FieldAccessor.of(field).get(obj);
             } catch (Exception e) {
                 // ignore
-            } finally {
-                if (field != null) {
-                    field.setAccessible(wasAccessible);
-                }
             }
-            c = c.getSuperclass();
         }
 
         return null;
@@ -1995,19 +1981,7 @@ public class BasiliskClassUtils {
      */
     public static Field[] getAllDeclaredFields(@Nonnull Class<?> clazz) {
         requireNonNull(clazz, ERROR_CLAZZ_NULL);
-
-        List<Field> fields = new ArrayList<>();
-
-        Class c = clazz;
-        while (c != null && !c.equals(Object.class)) {
-            Field[] declaredFields = c.getDeclaredFields();
-            if (declaredFields != null && declaredFields.length > 0) {
-                fields.addAll(Arrays.asList(declaredFields));
-            }
-            c = c.getSuperclass();
-        }
-
-        return fields.toArray(new Field[fields.size()]);
+        return ClassMetadata.of(clazz).getAllDeclaredFields();
     }
 
     /**
@@ -2529,8 +2503,6 @@ public class BasiliskClassUtils {
 
     // -- The following methods and properties were copied from commons-beanutils
 
-    private static final Map<String, PropertyDescriptor[]> descriptorsCache = new LinkedHashMap<>();
-
     /**
      * <p>Retrieve the property descriptor for the specified property of the
      * specified bean, or return <code>null</code> if there is no such
@@ -2612,28 +2584,7 @@ public class BasiliskClassUtils {
     @Nonnull
     public static PropertyDescriptor[] getPropertyDescriptors(@Nonnull Class<?> beanClass) {
         requireNonNull(beanClass, ERROR_CLAZZ_NULL);
-
-        // Look up any cached descriptors for this bean class
-        PropertyDescriptor[] descriptors;
-        descriptors = descriptorsCache.get(beanClass.getName());
-        if (descriptors != null) {
-            return descriptors;
-        }
-
-        // Introspect the bean and cache the generated descriptors
-        BeanInfo beanInfo;
-        try {
-            beanInfo = Introspector.getBeanInfo(beanClass);
-        } catch (IntrospectionException e) {
-            return (new PropertyDescriptor[0]);
-        }
-        descriptors = beanInfo.getPropertyDescriptors();
-        if (descriptors == null) {
-            descriptors = new PropertyDescriptor[0];
-        }
-
-        descriptorsCache.put(beanClass.getName(), descriptors);
-        return descriptors;
+        return ClassMetadata.of(beanClass).sharedPropertyDescriptors();
     }
 
     /**
@@ -2755,29 +2706,22 @@ public class BasiliskClassUtils {
         requireNonNull(bean, ERROR_BEAN_NULL);
         requireNonBlank(name, ERROR_NAME_BLANK);
 
-        Class<?> declaringClass = bean.getClass();
-        while (declaringClass != null) {
-            try {
-                Field field = declaringClass.getDeclaredField(name);
+        Field field = ClassMetadata.of(bean.getClass()).findField(name);
+        if (field == null) {
+            throw new NoSuchFieldException(name);
+        }
 
-                // type conversion needed?
-                Class<?> propertyType = field.getType();
-                if (value != null && !propertyType.isAssignableFrom(value.getClass())) {
-                    value = TypeUtils.convertValue(propertyType, value);
-                }
+        // type conversion needed?
+        Class<?> propertyType = field.getType();
+        if (value != null && !propertyType.isAssignableFrom(value.getClass())) {
+            value = TypeUtils.convertValue(propertyType, value);
+        }
 
-                field.setAccessible(true);
-                try {
-                    field.set(bean, value);
-                    return;
-                } catch (IllegalArgumentException iae) {
-                    throw new FieldException(bean, name, value, iae);
-                }
-            } catch (NoSuchFieldException nsfe) {
-                declaringClass = declaringClass.getSuperclass();
-            }
+        try {
+            FieldAccessor.of(field).set(bean, value);
+        } catch (IllegalArgumentException iae) {
+            throw new FieldException(bean, name, value, iae);
         }
-        throw new NoSuchFieldException(name);
     }
 
     /**
@@ -2822,7 +2766,7 @@ public class BasiliskClassUtils {
 
         // Call the property setter
         try {
-            writeMethod.invoke(bean, value);
+            MethodInvoker.of(writeMethod).invoke(bean, value);
         } catch (IllegalArgumentException iae) {
             throw new PropertyException(bean, name, value, iae);
         }
@@ -2866,7 +2810,7 @@ public class BasiliskClassUtils {
         }
 
         // Call the property getter and return the value
-        return readMethod.invoke(bean, EMPTY_OBJECT_ARRAY);
+        return MethodInvoker.of(readMethod).invoke(bean, EMPTY_OBJECT_ARRAY);
     }
 
     /**
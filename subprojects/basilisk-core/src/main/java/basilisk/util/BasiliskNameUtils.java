@@ -22,6 +22,8 @@ import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Contains utility methods for converting between different name types,
@@ -80,6 +82,12 @@ public class BasiliskNameUtils {
         "while"
     };
 
+    private static final NameCache CAPITALIZED_NAMES = new NameCache();
+    private static final NameCache UNCAPITALIZED_NAMES = new NameCache();
+    private static final NameCache PROPERTY_NAMES = new NameCache();
+    private static final NameCache NATURAL_NAMES = new NameCache();
+    private static final ConcurrentMap<String, NameCache> LOGICAL_PROPERTY_NAMES = new ConcurrentHashMap<>();
+
     /**
      * Finds out if the given String is a Java/Groovy keyword.
      *
@@ -99,6 +107,14 @@ public class BasiliskNameUtils {
      */
     public static String capitalize(String str) {
         if (isBlank(str)) return str;
+        String capitalized = CAPITALIZED_NAMES.get(str);
+        if (capitalized == null) {
+            capitalized = CAPITALIZED_NAMES.put(str, doCapitalize(str));
+        }
+        return capitalized;
+    }
+
+    private static String doCapitalize(String str) {
         if (str.length() == 1) return str.toUpperCase();
         return str.substring(0, 1).toUpperCase(Locale.ENGLISH) + str.substring(1);
     }
@@ -112,6 +128,14 @@ public class BasiliskNameUtils {
      */
     public static String uncapitalize(String str) {
         if (isBlank(str)) return str;
+        String uncapitalized = UNCAPITALIZED_NAMES.get(str);
+        if (uncapitalized == null) {
+            uncapitalized = UNCAPITALIZED_NAMES.put(str, doUncapitalize(str));
+        }
+        return uncapitalized;
+    }
+
+    private static String doUncapitalize(String str) {
         if (str.length() == 1)
             return String.valueOf(Character.toLowerCase(str.charAt(0)));
         return Character.toLowerCase(str.charAt(0)) + str.substring(1);
@@ -229,6 +253,27 @@ public class BasiliskNameUtils {
     }
 
     public static String getLogicalPropertyName(String className, String trailingName) {
+        if (className == null || trailingName == null) {
+            return doGetLogicalPropertyName(className, trailingName);
+        }
+
+        NameCache cache = LOGICAL_PROPERTY_NAMES.get(trailingName);
+        if (cache == null) {
+            NameCache newCache = new NameCache();
+            cache = LOGICAL_PROPERTY_NAMES.putIfAbsent(trailingName, newCache);
+            if (cache == null) {
+                cache = newCache;
+            }
+        }
+
+        String logicalPropertyName = cache.get(className);
+        if (logicalPropertyName == null) {
+            logicalPropertyName = cache.put(className, doGetLogicalPropertyName(className, trailingName));
+        }
+        return logicalPropertyName;
+    }
+
+    private static String doGetLogicalPropertyName(String className, String trailingName) {
         if (!isBlank(className) && !isBlank(trailingName)) {
             if (className.length() == trailingName.length() + 1 && className.endsWith(trailingName)) {
                 return className.substring(0, 1).toLowerCase();
@@ -276,6 +321,14 @@ public class BasiliskNameUtils {
      */
     public static String getPropertyNameRepresentation(String name) {
         if (isBlank(name)) return name;
+        String propertyName = PROPERTY_NAMES.get(name);
+        if (propertyName == null) {
+            propertyName = PROPERTY_NAMES.put(name, doGetPropertyNameRepresentation(name));
+        }
+        return propertyName;
+    }
+
+    private static String doGetPropertyNameRepresentation(String name) {
         // Strip any package from the name.
         int pos = name.lastIndexOf('.');
         if (pos != -1) {
@@ -339,6 +392,14 @@ public class BasiliskNameUtils {
     public static String getNaturalName(String name) {
         name = getShortName(name);
         if (isBlank(name)) return name;
+        String naturalName = NATURAL_NAMES.get(name);
+        if (naturalName == null) {
+            naturalName = NATURAL_NAMES.put(name, doGetNaturalName(name));
+        }
+        return naturalName;
+    }
+
+    private static String doGetNaturalName(String name) {
         List<String> words = new ArrayList<>();
         int i = 0;
         char[] chars = name.toCharArray();
@@ -627,4 +688,25 @@ public class BasiliskNameUtils {
         sb.append('"');
         return sb.toString();
     }
+
+    /**
+     * Bounded memoization of name conversions. The cache is flushed once it reaches its
+     * capacity, which keeps names derived from discarded classes from piling up.
+     */
+    private static final class NameCache {
+        private static final int MAX_ENTRIES = 1024;
+        private final ConcurrentMap<String, String> entries = new ConcurrentHashMap<>();
+
+        private String get(String key) {
+            return entries.get(key);
+        }
+
+        private String put(String key, String value) {
+            if (entries.size() >= MAX_ENTRIES) {
+                entries.clear();
+            }
+            String previous = entries.putIfAbsent(key, value);
+            return previous != null ? previous : value;
+        }
+    }
 }
@@ -0,0 +1,371 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package basilisk.util;
+
+import com.googlecode.openbeans.BeanInfo;
+import com.googlecode.openbeans.IntrospectionException;
+import com.googlecode.openbeans.Introspector;
+import com.googlecode.openbeans.PropertyDescriptor;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Reflection metadata of a single class, computed lazily and cached for as long as the class
+ * is loaded. Instances are attached to their class through a {@code ClassValue}, which means
+ * reads do not lock and metadata of classes loaded by a discarded classloader is reclaimed
+ * together with the class. Lookups keyed by classes that are not visible from the inspected
+ * class' classloader (for example annotation or argument types of a child classloader) are
+ * computed every time instead of being cached, so the cache never keeps such classes alive.
+ * <p>
+ * Arrays returned by public methods are copies; the cached arrays are never exposed.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+public final class ClassMetadata {
+    private static final PropertyDescriptor[] NO_PROPERTY_DESCRIPTORS = new PropertyDescriptor[0];
+    private static final Object NULL_VALUE = new Object[0];
+
+    private static final AtomicInteger generation = new AtomicInteger();
+
+    private static final ClassValue<ClassMetadata> metadata = new ClassValue<ClassMetadata>() {
+        @Override
+        protected ClassMetadata computeValue(Class<?> type) {
+            return new ClassMetadata(type, generation.get());
+        }
+    };
+
+    private final Class<?> type;
+    private final int metadataGeneration;
+    private final ConcurrentMap<Class<?>, Object> annotationsByType = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Class<?>, Boolean> annotatedWith = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Object, Method> resolvedMethods = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Object> fieldsByName = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Method, MethodInvoker> invokers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Field, FieldAccessor> fieldAccessors = new ConcurrentHashMap<>();
+
+    // computed lazily; racing threads compute equivalent values
+    private volatile PropertyDescriptor[] propertyDescriptors;
+    private volatile Field[] declaredFields;
+    private volatile Field[] allDeclaredFields;
+    private volatile Method[] declaredMethods;
+    private volatile Method[] methods;
+    private volatile Annotation[] annotations;
+
+    private ClassMetadata(@Nonnull Class<?> type, int metadataGeneration) {
+        this.type = type;
+        this.metadataGeneration = metadataGeneration;
+    }
+
+    /**
+     * Returns the metadata of the given class.
+     *
+     * @param type the class to be inspected
+     * @return the shared metadata instance for {@code type}
+     */
+    @Nonnull
+    public static ClassMetadata of(@Nonnull Class<?> type) {
+        requireNonNull(type, "Argument 'type' must not be null");
+        ClassMetadata classMetadata = metadata.get(type);
+        while (classMetadata.metadataGeneration != generation.get()) {
+            metadata.remove(type);
+            classMetadata = metadata.get(type);
+        }
+        return classMetadata;
+    }
+
+    /**
+     * Discards the cached metadata of every class. Metadata is computed again when requested.
+     */
+    public static void clear() {
+        generation.incrementAndGet();
+    }
+
+    @Nonnull
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * Returns the property descriptors of the class, as found by the {@code Introspector}.
+     *
+     * @return the property descriptors, never {@code null}
+     */
+    @Nonnull
+    public PropertyDescriptor[] getPropertyDescriptors() {
+        return sharedPropertyDescriptors().clone();
+    }
+
+    @Nonnull
+    PropertyDescriptor[] sharedPropertyDescriptors() {
+        PropertyDescriptor[] descriptors = propertyDescriptors;
+        if (descriptors == null) {
+            try {
+                BeanInfo beanInfo = Introspector.getBeanInfo(type);
+                descriptors = beanInfo.getPropertyDescriptors();
+            } catch (IntrospectionException e) {
+                descriptors = null;
+            }
+            if (descriptors == null) {
+                descriptors = NO_PROPERTY_DESCRIPTORS;
+            }
+            propertyDescriptors = descriptors;
+        }
+        return descriptors;
+    }
+
+    @Nonnull
+    public Field[] getDeclaredFields() {
+        return sharedDeclaredFields().clone();
+    }
+
+    /**
+     * Returns all fields declared by the class and its superclasses, excluding {@code Object}.
+     *
+     * @return the fields of the class hierarchy, starting with the class itself
+     */
+    @Nonnull
+    public Field[] getAllDeclaredFields() {
+        return sharedAllDeclaredFields().clone();
+    }
+
+    @Nonnull
+    public Method[] getDeclaredMethods() {
+        Method[] m = declaredMethods;
+        if (m == null) {
+            m = type.getDeclaredMethods();
+            declaredMethods = m;
+        }
+        return m.clone();
+    }
+
+    @Nonnull
+    public Method[] getMethods() {
+        return sharedMethods().clone();
+    }
+
+    @Nonnull
+    public Annotation[] getAnnotations() {
+        return sharedAnnotations().clone();
+    }
+
+    /**
+     * Finds an annotation of the given type on the class or its superclasses.
+     *
+     * @param annotationType the type of annotation to look for
+     * @return the first matching annotation, or {@code null} if there is none
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <A extends Annotation> A findAnnotation(@Nonnull Class<A> annotationType) {
+        requireNonNull(annotationType, "Argument 'annotationType' must not be null");
+        Object annotation = annotationsByType.get(annotationType);
+        if (annotation == null) {
+            annotation = NULL_VALUE;
+            for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+                Annotation found = AnnotationUtils.findAnnotation(of(c).sharedAnnotations(), annotationType);
+                if (found != null) {
+                    annotation = found;
+                    break;
+                }
+            }
+            if (canReference(annotationType)) {
+                annotationsByType.putIfAbsent(annotationType, annotation);
+            }
+        }
+        return annotation == NULL_VALUE ? null : (A) annotation;
+    }
+
+    /**
+     * Checks whether the class, one of its superclasses or one of its interfaces
+     * is annotated with the given annotation type.
+     *
+     * @param annotationType the type of annotation to look for
+     * @return {@code true} if a matching annotation was found
+     */
+    public boolean isAnnotatedWith(@Nonnull Class<? extends Annotation> annotationType) {
+        requireNonNull(annotationType, "Argument 'annotationType' must not be null");
+        Boolean result = annotatedWith.get(annotationType);
+        if (result == null) {
+            result = computeAnnotatedWith(annotationType);
+            if (canReference(annotationType)) {
+                annotatedWith.putIfAbsent(annotationType, result);
+            }
+        }
+        return result;
+    }
+
+    private boolean computeAnnotatedWith(@Nonnull Class<? extends Annotation> annotationType) {
+        for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+            for (Annotation annotation : of(c).sharedAnnotations()) {
+                if (annotationType.equals(annotation.annotationType())) {
+                    return true;
+                }
+            }
+            for (Class<?> iface : c.getInterfaces()) {
+                if (of(iface).isAnnotatedWith(annotationType)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Nonnull
+    Field[] sharedDeclaredFields() {
+        Field[] fields = declaredFields;
+        if (fields == null) {
+            fields = type.getDeclaredFields();
+            declaredFields = fields;
+        }
+        return fields;
+    }
+
+    @Nonnull
+    Field[] sharedAllDeclaredFields() {
+        Field[] fields = allDeclaredFields;
+        if (fields == null) {
+            List<Field> list = new ArrayList<>();
+            for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+                Collections.addAll(list, of(c).sharedDeclaredFields());
+            }
+            fields = list.toArray(new Field[list.size()]);
+            allDeclaredFields = fields;
+        }
+        return fields;
+    }
+
+    @Nonnull
+    Method[] sharedMethods() {
+        Method[] m = methods;
+        if (m == null) {
+            m = type.getMethods();
+            methods = m;
+        }
+        return m;
+    }
+
+    @Nonnull
+    Annotation[] sharedAnnotations() {
+        Annotation[] a = annotations;
+        if (a == null) {
+            a = type.getAnnotations();
+            annotations = a;
+        }
+        return a;
+    }
+
+    @Nullable
+    Method getResolvedMethod(@Nonnull Object key) {
+        return resolvedMethods.get(key);
+    }
+
+    /**
+     * Caches a resolved method unless {@code key} refers to types this class cannot see.
+     *
+     * @param referencedTypes the types {@code key} refers to, besides this class
+     * @return {@code true} if the method was cached by this call
+     */
+    boolean putResolvedMethod(@Nonnull Object key, @Nonnull Method method, @Nonnull Class<?>[] referencedTypes) {
+        for (Class<?> referencedType : referencedTypes) {
+            if (!canReference(referencedType)) {
+                return false;
+            }
+        }
+        return resolvedMethods.putIfAbsent(key, method) == null;
+    }
+
+    /**
+     * Whether holding a strong reference to {@code other} keeps no classloader alive longer than
+     * this class does, that is, {@code other} is loaded by this class' classloader or one of its parents.
+     */
+    private boolean canReference(@Nullable Class<?> other) {
+        if (other == null) {
+            return true;
+        }
+        while (other.isArray()) {
+            other = other.getComponentType();
+        }
+        ClassLoader loader = other.getClassLoader();
+        if (loader == null) {
+            return true;
+        }
+        for (ClassLoader cl = type.getClassLoader(); cl != null; cl = cl.getParent()) {
+            if (cl == loader) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Finds a field by name in the class or its superclasses, excluding {@code Object}.
+     * The returned field is shared and its accessible flag must not be changed.
+     */
+    @Nullable
+    Field findField(@Nonnull String name) {
+        Object field = fieldsByName.get(name);
+        if (field == null) {
+            field = NULL_VALUE;
+            for (Field f : sharedAllDeclaredFields()) {
+                if (f.getName().equals(name)) {
+                    field = f;
+                    break;
+                }
+            }
+            fieldsByName.putIfAbsent(name, field);
+        }
+        return field == NULL_VALUE ? null : (Field) field;
+    }
+
+    @Nonnull
+    MethodInvoker invokerFor(@Nonnull Method method) {
+        MethodInvoker invoker = invokers.get(method);
+        if (invoker == null) {
+            invoker = MethodInvoker.create(method);
+            MethodInvoker existing = invokers.putIfAbsent(method, invoker);
+            if (existing != null) {
+                invoker = existing;
+            }
+        }
+        return invoker;
+    }
+
+    @Nonnull
+    FieldAccessor accessorFor(@Nonnull Field field) {
+        FieldAccessor accessor = fieldAccessors.get(field);
+        if (accessor == null) {
+            accessor = FieldAccessor.create(field);
+            FieldAccessor existing = fieldAccessors.putIfAbsent(field, accessor);
+            if (existing != null) {
+                accessor = existing;
+            }
+        }
+        return accessor;
+    }
+}
@@ -22,23 +22,41 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.MissingResourceException;
 import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static basilisk.util.BasiliskClassUtils.requireState;
 import static basilisk.util.BasiliskNameUtils.requireNonBlank;
-import static basilisk.util.ExpandableResourceBundle.wrapResourceBundle;
 import static java.util.Objects.requireNonNull;
 
 /**
+ * A {@code ResourceBundle} that merges the contents of several bundles. Keys are resolved in the order in
+ * which bundles were supplied; the first bundle that defines a key wins.
+ * <p>
+ * All entries are merged into a single index when the bundle is created, thus every lookup costs a single
+ * hash probe regardless of the number of bundles. Keys that name the first segment of dotted keys, such as
+ * {@code key} for {@code key.string} and {@code key.number}, resolve to a nested {@code Map} which is built
+ * the first time it is requested.
+ *
  * @author Andres Almiray
  */
 public class CompositeResourceBundle extends ResourceBundle {
     private static final Logger LOG = LoggerFactory.getLogger(CompositeResourceBundle.class);
-    private final ResourceBundle[] bundles;
-    private final List<String> keys = new ArrayList<>();
+    private final Map<String, Object> entries;
+    private final Map<String, List<String>> keysByHead;
+    private final ConcurrentMap<String, Map<String, Object>> expandedEntries = new ConcurrentHashMap<>();
+    private final Set<String> keys;
 
     public CompositeResourceBundle(@Nonnull Collection<ResourceBundle> bundles) {
         this(toResourceBundleArray(bundles));
@@ -47,39 +65,64 @@ public class CompositeResourceBundle extends ResourceBundle {
     public CompositeResourceBundle(@Nonnull ResourceBundle[] bundles) {
         requireNonNull(bundles, "Argument 'bundles' must not be null");
         requireState(bundles.length > 0, "Argument 'bundles' must not be empty");
-        this.bundles = new ResourceBundle[bundles.length];
-        for (int i = 0; i < bundles.length; i++) {
-            this.bundles[i] = wrapResourceBundle(bundles[i]);
-        }
 
-        for (ResourceBundle bundle : this.bundles) {
-            Enumeration<String> ks = bundle.getKeys();
-            while (ks.hasMoreElements()) {
-                String key = ks.nextElement();
-                if (!keys.contains(key)) {
-                    keys.add(key);
+        Map<String, Object> index = new HashMap<>();
+        Map<String, List<String>> heads = new HashMap<>();
+        Set<String> names = new LinkedHashSet<>();
+        for (ResourceBundle bundle : bundles) {
+            requireNonNull(bundle, "Argument 'bundles' must not contain null elements");
+            for (String key : bundle.keySet()) {
+                if (index.containsKey(key)) {
+                    continue;
                 }
+                Object value = getObject(bundle, key);
+                if (value == null) {
+                    continue;
+                }
+
+                int dot = key.indexOf('.');
+                if (dot > 0) {
+                    String head = key.substring(0, dot);
+                    List<String> keysForHead = heads.get(head);
+                    if (keysForHead == null) {
+                        keysForHead = new ArrayList<>();
+                        heads.put(head, keysForHead);
+                        names.add(head);
+                    }
+                    keysForHead.add(key);
+                }
+                index.put(key, value);
+                names.add(key);
             }
         }
+
+        this.entries = index;
+        this.keysByHead = heads;
+        this.keys = Collections.unmodifiableSet(names);
     }
 
     @Nullable
     protected Object handleGetObject(@Nonnull String key) {
         requireNonBlank(key, "Arguments 'key' must not be blank");
 
-        LOG.trace("Searching key={}", key);
-        for (ResourceBundle bundle : bundles) {
-            try {
-                Object value = bundle.getObject(key);
-                LOG.trace("Bundle {}; key={}; value='{}'", bundle, key, value);
-                if (value != null) {
-                    return value;
-                }
-            } catch (Exception e) {
-                // ignore
-            }
+        Object value = entries.get(key);
+        if (value == null && keysByHead.containsKey(key)) {
+            value = expand(key);
         }
-        return null;
+        LOG.trace("key={}; value='{}'", key, value);
+        return value;
+    }
+
+    /**
+     * Gets an object for the given key without throwing a {@code MissingResourceException} if no
+     * object can be found.
+     *
+     * @param key the key for the desired object
+     * @return the object for the given key, or {@code null} if there is none
+     */
+    @Nullable
+    public Object findObject(@Nonnull String key) {
+        return handleGetObject(key);
     }
 
     @Nonnull
@@ -88,6 +131,60 @@ public class CompositeResourceBundle extends ResourceBundle {
         return new IteratorAsEnumeration<>(keys.iterator());
     }
 
+    @Override
+    public Set<String> keySet() {
+        return keys;
+    }
+
+    @Override
+    protected Set<String> handleKeySet() {
+        return keys;
+    }
+
+    @Nonnull
+    private Map<String, Object> expand(@Nonnull String head) {
+        Map<String, Object> map = expandedEntries.get(head);
+        if (map == null) {
+            map = new LinkedHashMap<>();
+            for (String key : keysByHead.get(head)) {
+                expandKey(key.substring(head.length() + 1), map, entries.get(key));
+            }
+            Map<String, Object> existing = expandedEntries.putIfAbsent(head, map);
+            if (existing != null) map = existing;
+        }
+        return map;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void expandKey(@Nonnull String key, @Nonnull Map<String, Object> map, @Nonnull Object value) {
+        int dot = key.indexOf('.');
+        if (dot < 0) {
+            if (!map.containsKey(key)) {
+                map.put(key, value);
+            }
+            return;
+        }
+
+        String head = key.substring(0, dot);
+        Object node = map.get(head);
+        if (node == null) {
+            node = new LinkedHashMap<String, Object>();
+            map.put(head, node);
+        }
+        if (node instanceof Map) {
+            expandKey(key.substring(dot + 1), (Map<String, Object>) node, value);
+        }
+    }
+
+    @Nullable
+    private static Object getObject(@Nonnull ResourceBundle bundle, @Nonnull String key) {
+        try {
+            return bundle.getObject(key);
+        } catch (MissingResourceException mre) {
+            return null;
+        }
+    }
+
     private static class IteratorAsEnumeration<E> implements Enumeration<E> {
         private final Iterator<E> iterator;
 
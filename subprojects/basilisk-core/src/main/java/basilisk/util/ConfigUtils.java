@@ -642,6 +642,33 @@ public final class ConfigUtils {
         return unmodifiableSet(keys);
     }
 
+    /**
+     * Returns the keys whose values differ between two bundles, including keys present in only one of them.
+     *
+     * @since 0.3.0
+     */
+    @Nonnull
+    public static Set<String> collectChangedKeys(@Nonnull ResourceBundle previous, @Nonnull ResourceBundle current) {
+        requireNonNull(previous, "Argument 'previous' must not be null");
+        requireNonNull(current, "Argument 'current' must not be null");
+
+        Set<String> keys = new LinkedHashSet<>();
+        Set<String> currentKeys = current.keySet();
+        for (String key : previous.keySet()) {
+            if (!currentKeys.contains(key) || !previous.getObject(key).equals(current.getObject(key))) {
+                keys.add(key);
+            }
+        }
+        Set<String> previousKeys = previous.keySet();
+        for (String key : currentKeys) {
+            if (!previousKeys.contains(key)) {
+                keys.add(key);
+            }
+        }
+
+        return unmodifiableSet(keys);
+    }
+
     @SuppressWarnings("unchecked")
     private static void doCollectKeys(String key, Object value, Set<String> keys) {
         if (value instanceof Map) {
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package basilisk.util;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Reads and writes a resolved {@code Field} through cached {@code MethodHandle}s.
+ * <p>
+ * Accessors suppress Java language access checks, like {@code setAccessible(true)} does, without
+ * changing the accessible flag of the {@code Field} they were created from. Values the handles
+ * cannot take as they are (primitive widening, mismatched types) as well as {@code final} fields
+ * are handed over to core reflection, which reports the same errors as before.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+public final class FieldAccessor {
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Field field;
+    private final Field accessibleField;
+    private final boolean isStatic;
+    private final MethodHandle getter;
+    private final MethodHandle setter;
+
+    private FieldAccessor(@Nonnull Field field, @Nonnull Field accessibleField, @Nullable MethodHandle getter, @Nullable MethodHandle setter) {
+        this.field = field;
+        this.accessibleField = accessibleField;
+        this.isStatic = Modifier.isStatic(field.getModifiers());
+        this.getter = getter;
+        this.setter = setter;
+    }
+
+    /**
+     * Returns the shared accessor of the given field.
+     *
+     * @param field the field to be accessed
+     * @return an accessor for {@code field}, never {@code null}
+     */
+    @Nonnull
+    public static FieldAccessor of(@Nonnull Field field) {
+        requireNonNull(field, "Argument 'field' must not be null");
+        return ClassMetadata.of(field.getDeclaringClass()).accessorFor(field);
+    }
+
+    @Nonnull
+    static FieldAccessor create(@Nonnull Field field) {
+        Field accessibleField = field;
+        MethodHandle getter = null;
+        MethodHandle setter = null;
+        try {
+            accessibleField = field.getDeclaringClass().getDeclaredField(field.getName());
+            accessibleField.setAccessible(true);
+            getter = createGetter(accessibleField);
+            if (!Modifier.isFinal(accessibleField.getModifiers())) {
+                setter = createSetter(accessibleField);
+            }
+        } catch (NoSuchFieldException | IllegalAccessException | SecurityException e) {
+            // core reflection is used instead
+        }
+        return new FieldAccessor(field, accessibleField, getter, setter);
+    }
+
+    @Nonnull
+    public Field getField() {
+        return field;
+    }
+
+    /**
+     * Reads the value of the field.
+     *
+     * @param target the instance that owns the field, ignored for static fields
+     * @return the value of the field
+     * @throws IllegalAccessException if the field is not accessible
+     */
+    @Nullable
+    public Object get(@Nullable Object target) throws IllegalAccessException {
+        if (getter == null || !acceptsTarget(target)) {
+            return accessibleField.get(target);
+        }
+
+        try {
+            return (Object) getter.invokeExact(target);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+
+    /**
+     * Writes the value of the field.
+     *
+     * @param target the instance that owns the field, ignored for static fields
+     * @param value  the value to be set
+     * @throws IllegalAccessException if the field is not accessible or is {@code final}
+     */
+    public void set(@Nullable Object target, @Nullable Object value) throws IllegalAccessException {
+        if (setter == null || !acceptsTarget(target) || !MethodInvoker.isExactlyAssignable(field.getType(), value)) {
+            accessibleField.set(target, value);
+            return;
+        }
+
+        try {
+            setter.invokeExact(target, value);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+
+    private boolean acceptsTarget(@Nullable Object target) {
+        return isStatic || field.getDeclaringClass().isInstance(target);
+    }
+
+    @Nonnull
+    private static MethodHandle createGetter(@Nonnull Field field) throws IllegalAccessException {
+        MethodHandle mh = MethodHandles.lookup().unreflectGetter(field);
+        if (Modifier.isStatic(field.getModifiers())) {
+            mh = MethodHandles.dropArguments(mh, 0, Object.class);
+        }
+        return mh.asType(GETTER_TYPE);
+    }
+
+    @Nonnull
+    private static MethodHandle createSetter(@Nonnull Field field) throws IllegalAccessException {
+        MethodHandle mh = MethodHandles.lookup().unreflectSetter(field);
+        if (Modifier.isStatic(field.getModifiers())) {
+            mh = MethodHandles.dropArguments(mh, 0, Object.class);
+        }
+        return mh.asType(SETTER_TYPE);
+    }
+}
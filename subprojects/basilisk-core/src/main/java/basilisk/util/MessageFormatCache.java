@@ -0,0 +1,255 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package basilisk.util;
+
+import javax.annotation.Nonnull;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Bounded, thread-safe cache of parsed {@code MessageFormat} patterns keyed by pattern and locale.
+ * <p>
+ * Parsed formats are never shared between threads; each call formats with a private clone
+ * of the cached prototype. Patterns without format elements are resolved once and returned
+ * as constants, and patterns that contain neither braces nor quotes skip formatting entirely.
+ * <p>
+ * Patterns with named placeholders such as {@code "{:name}"} are compiled once into alternating
+ * literal and placeholder segments and rendered in a single pass.
+ *
+ * @author Andres Almiray
+ */
+public final class MessageFormatCache {
+    public static final int DEFAULT_CAPACITY = 1024;
+    private static final String ERROR_PATTERN_NULL = "Argument 'pattern' must not be null";
+    private static final String ERROR_LOCALE_NULL = "Argument 'locale' must not be null";
+    private static final String ERROR_ARGS_NULL = "Argument 'args' must not be null";
+    private static final Object[] EMPTY_ARGS = new Object[0];
+
+    private static final String PLACEHOLDER_START = "{:";
+
+    private final ConcurrentMap<TemplateKey, Template> templates = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, NamedTemplate> namedTemplates = new ConcurrentHashMap<>();
+    private final int capacity;
+
+    public MessageFormatCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public MessageFormatCache(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Argument 'capacity' must be greater than 0");
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * Formats the given pattern with the default locale for formatting, matching the
+     * behavior of {@code MessageFormat.format(pattern, args)}.
+     */
+    @Nonnull
+    public String format(@Nonnull String pattern, @Nonnull Object[] args) {
+        return format(pattern, Locale.getDefault(Locale.Category.FORMAT), args);
+    }
+
+    @Nonnull
+    public String format(@Nonnull String pattern, @Nonnull Locale locale, @Nonnull Object[] args) {
+        requireNonNull(pattern, ERROR_PATTERN_NULL);
+        requireNonNull(locale, ERROR_LOCALE_NULL);
+        requireNonNull(args, ERROR_ARGS_NULL);
+        if (isLiteral(pattern)) {
+            return pattern;
+        }
+        return template(pattern, locale).format(args);
+    }
+
+    /**
+     * Replaces every {@code "{:name}"} placeholder with the matching value from {@code args}.
+     * Placeholders without a value, or whose value is {@code null}, are left untouched.
+     *
+     * @since 0.3.0
+     */
+    @Nonnull
+    public String formatNamed(@Nonnull String pattern, @Nonnull Map<String, ?> args) {
+        requireNonNull(pattern, ERROR_PATTERN_NULL);
+        requireNonNull(args, ERROR_ARGS_NULL);
+        if (args.isEmpty() || !pattern.contains(PLACEHOLDER_START)) {
+            return pattern;
+        }
+        return namedTemplate(pattern).format(args);
+    }
+
+    public int size() {
+        return templates.size() + namedTemplates.size();
+    }
+
+    public void clear() {
+        templates.clear();
+        namedTemplates.clear();
+    }
+
+    @Nonnull
+    private Template template(@Nonnull String pattern, @Nonnull Locale locale) {
+        TemplateKey key = new TemplateKey(pattern, locale);
+        Template template = templates.get(key);
+        if (template == null) {
+            template = new Template(new MessageFormat(pattern, locale));
+            if (templates.size() >= capacity) {
+                evict();
+            }
+            Template existing = templates.putIfAbsent(key, template);
+            if (existing != null) template = existing;
+        }
+        return template;
+    }
+
+    @Nonnull
+    private NamedTemplate namedTemplate(@Nonnull String pattern) {
+        NamedTemplate template = namedTemplates.get(pattern);
+        if (template == null) {
+            template = NamedTemplate.compile(pattern);
+            if (namedTemplates.size() >= capacity) {
+                evict(namedTemplates);
+            }
+            NamedTemplate existing = namedTemplates.putIfAbsent(pattern, template);
+            if (existing != null) template = existing;
+        }
+        return template;
+    }
+
+    private void evict() {
+        evict(templates);
+    }
+
+    private void evict(@Nonnull ConcurrentMap<?, ?> cache) {
+        // drop roughly a quarter of the entries; cheaper than tracking access order
+        int toRemove = Math.max(1, capacity / 4);
+        for (Iterator<?> it = cache.keySet().iterator(); it.hasNext() && toRemove > 0; toRemove--) {
+            it.next();
+            it.remove();
+        }
+    }
+
+    private static boolean isLiteral(@Nonnull String pattern) {
+        return pattern.indexOf('{') < 0 && pattern.indexOf('\'') < 0;
+    }
+
+    private static final class Template {
+        private final MessageFormat prototype;
+        private final String constant;
+
+        private Template(@Nonnull MessageFormat prototype) {
+            this.prototype = prototype;
+            this.constant = prototype.getFormatsByArgumentIndex().length == 0 ? prototype.format(EMPTY_ARGS) : null;
+        }
+
+        @Nonnull
+        private String format(@Nonnull Object[] args) {
+            if (constant != null) {
+                return constant;
+            }
+            return ((MessageFormat) prototype.clone()).format(args);
+        }
+    }
+
+    private static final class NamedTemplate {
+        // literals.length == names.length + 1, rendered as literal, name, literal, ..., literal
+        private final String[] literals;
+        private final String[] names;
+        private final int literalLength;
+
+        private NamedTemplate(@Nonnull String[] literals, @Nonnull String[] names) {
+            this.literals = literals;
+            this.names = names;
+            int length = 0;
+            for (String literal : literals) {
+                length += literal.length();
+            }
+            this.literalLength = length;
+        }
+
+        @Nonnull
+        private static NamedTemplate compile(@Nonnull String pattern) {
+            List<String> literals = new ArrayList<>();
+            List<String> names = new ArrayList<>();
+            int position = 0;
+            int literalStart = 0;
+            while (true) {
+                int start = pattern.indexOf(PLACEHOLDER_START, position);
+                int end = start < 0 ? -1 : pattern.indexOf('}', start + PLACEHOLDER_START.length());
+                if (end < 0) {
+                    break;
+                }
+                // the innermost placeholder wins, as in "{:{:name}"
+                start = pattern.lastIndexOf(PLACEHOLDER_START, end - PLACEHOLDER_START.length());
+                literals.add(pattern.substring(literalStart, start));
+                names.add(pattern.substring(start + PLACEHOLDER_START.length(), end));
+                position = end + 1;
+                literalStart = position;
+            }
+            literals.add(pattern.substring(literalStart));
+            return new NamedTemplate(literals.toArray(new String[literals.size()]), names.toArray(new String[names.size()]));
+        }
+
+        @Nonnull
+        private String format(@Nonnull Map<String, ?> args) {
+            StringBuilder builder = new StringBuilder(literalLength + names.length * 16);
+            builder.append(literals[0]);
+            for (int i = 0; i < names.length; i++) {
+                Object value = args.get(names[i]);
+                if (value != null) {
+                    builder.append(value);
+                } else {
+                    builder.append(PLACEHOLDER_START).append(names[i]).append('}');
+                }
+                builder.append(literals[i + 1]);
+            }
+            return builder.toString();
+        }
+    }
+
+    private static final class TemplateKey {
+        private final String pattern;
+        private final Locale locale;
+        private final int hash;
+
+        private TemplateKey(@Nonnull String pattern, @Nonnull Locale locale) {
+            this.pattern = pattern;
+            this.locale = locale;
+            this.hash = 31 * pattern.hashCode() + locale.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof TemplateKey)) return false;
+            TemplateKey that = (TemplateKey) o;
+            return pattern.equals(that.pattern) && locale.equals(that.locale);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
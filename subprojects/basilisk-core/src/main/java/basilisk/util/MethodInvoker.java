@@ -0,0 +1,150 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package basilisk.util;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Invokes a resolved {@code Method} through a cached {@code MethodHandle}.
+ * <p>
+ * Calls behave like {@link Method#invoke(Object, Object...)}: exceptions thrown by the target
+ * method are wrapped in an {@code InvocationTargetException}, and arguments the handle cannot
+ * take as they are (primitive widening, mismatched types, wrong arity) are handed over to
+ * core reflection, which performs the same conversions and reports the same errors as before.
+ * <p>
+ * Invokers suppress Java language access checks, like {@code setAccessible(true)} does.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+public final class MethodInvoker {
+    private static final Object[] EMPTY_ARGS = new Object[0];
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+
+    private final Method method;
+    private final Method accessibleMethod;
+    private final Class<?>[] parameterTypes;
+    private final boolean isStatic;
+    private final MethodHandle handle;
+
+    private MethodInvoker(@Nonnull Method method, @Nonnull Method accessibleMethod, @Nullable MethodHandle handle) {
+        this.method = method;
+        this.accessibleMethod = accessibleMethod;
+        this.parameterTypes = method.getParameterTypes();
+        this.isStatic = Modifier.isStatic(method.getModifiers());
+        this.handle = handle;
+    }
+
+    /**
+     * Returns the shared invoker of the given method.
+     *
+     * @param method the method to be invoked
+     * @return an invoker for {@code method}, never {@code null}
+     */
+    @Nonnull
+    public static MethodInvoker of(@Nonnull Method method) {
+        requireNonNull(method, "Argument 'method' must not be null");
+        return ClassMetadata.of(method.getDeclaringClass()).invokerFor(method);
+    }
+
+    @Nonnull
+    static MethodInvoker create(@Nonnull Method method) {
+        Method accessibleMethod = method;
+        MethodHandle handle = null;
+        try {
+            accessibleMethod = method.getDeclaringClass().getDeclaredMethod(method.getName(), method.getParameterTypes());
+            accessibleMethod.setAccessible(true);
+            handle = createHandle(accessibleMethod);
+        } catch (NoSuchMethodException | IllegalAccessException | SecurityException e) {
+            // core reflection is used instead
+        }
+        return new MethodInvoker(method, accessibleMethod, handle);
+    }
+
+    @Nonnull
+    public Method getMethod() {
+        return method;
+    }
+
+    /**
+     * Invokes the method on the given target.
+     *
+     * @param target the instance on which the method is invoked, ignored for static methods
+     * @param args   the method arguments
+     * @return the value returned by the method, {@code null} for {@code void} methods
+     * @throws IllegalAccessException    if the method is not accessible
+     * @throws InvocationTargetException if the method throws an exception
+     */
+    @Nullable
+    public Object invoke(@Nullable Object target, @Nullable Object... args) throws IllegalAccessException, InvocationTargetException {
+        if (args == null) {
+            args = EMPTY_ARGS;
+        }
+        if (handle == null || !accepts(target, args)) {
+            return accessibleMethod.invoke(target, args);
+        }
+
+        try {
+            return (Object) handle.invokeExact(target, args);
+        } catch (Throwable t) {
+            throw new InvocationTargetException(t);
+        }
+    }
+
+    private boolean accepts(@Nullable Object target, @Nonnull Object[] args) {
+        if (args.length != parameterTypes.length) {
+            return false;
+        }
+        if (!isStatic && !method.getDeclaringClass().isInstance(target)) {
+            return false;
+        }
+        for (int i = 0; i < args.length; i++) {
+            if (!isExactlyAssignable(parameterTypes[i], args[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether the value can be passed as is, without widening, for the given type.
+     */
+    static boolean isExactlyAssignable(@Nonnull Class<?> type, @Nullable Object value) {
+        if (type.isPrimitive()) {
+            return value != null && BasiliskClassUtils.PRIMITIVE_TYPE_COMPATIBLE_CLASSES.get(type) == value.getClass();
+        }
+        return value == null || type.isInstance(value);
+    }
+
+    @Nonnull
+    private static MethodHandle createHandle(@Nonnull Method method) throws IllegalAccessException {
+        MethodHandle mh = MethodHandles.lookup().unreflect(method).asFixedArity();
+        if (Modifier.isStatic(method.getModifiers())) {
+            mh = MethodHandles.dropArguments(mh, 0, Object.class);
+        }
+        return mh.asSpreader(Object[].class, method.getParameterTypes().length)
+            .asType(INVOKER_TYPE);
+    }
+}
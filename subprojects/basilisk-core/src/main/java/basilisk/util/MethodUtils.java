@@ -18,14 +18,9 @@
 package basilisk.util;
 
 
-import java.lang.ref.Reference;
-import java.lang.ref.WeakReference;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
-import java.util.Collections;
-import java.util.Map;
-import java.util.WeakHashMap;
 
 
 /**
@@ -66,7 +61,7 @@ public class MethodUtils {
      * configurable per webapp would mean having a map keyed by context classloader
      * which may introduce memory-leak problems.
      */
-    private static boolean CACHE_METHODS = true;
+    private static volatile boolean CACHE_METHODS = true;
 
     /**
      * An empty class array
@@ -77,28 +72,6 @@ public class MethodUtils {
      */
     private static final Object[] EMPTY_OBJECT_ARRAY = new Object[0];
 
-    /**
-     * Stores a cache of MethodDescriptor -> Method in a WeakHashMap.
-     * <p>
-     * The keys into this map only ever exist as temporary variables within
-     * methods of this class, and are never exposed to users of this class.
-     * This means that the WeakHashMap is used only as a mechanism for
-     * limiting the size of the cache, ie a way to tell the garbage collector
-     * that the contents of the cache can be completely garbage-collected
-     * whenever it needs the memory. Whether this is a good approach to
-     * this problem is doubtful; something like the commons-collections
-     * LRUMap may be more appropriate (though of course selecting an
-     * appropriate size is an issue).
-     * <p>
-     * This static variable is safe even when this code is deployed via a
-     * shared classloader because it is keyed via a MethodDescriptor object
-     * which has a Class as one of its members and that member is used in
-     * the MethodDescriptor.equals method. So two components that load the same
-     * class via different classloaders will generate non-equal MethodDescriptor
-     * objects and hence end up with different entries in the map.
-     */
-    private static final Map cache = Collections.synchronizedMap(new WeakHashMap());
-
     // --------------------------------------------------------- Public Methods
 
     /**
@@ -117,15 +90,17 @@ public class MethodUtils {
     }
 
     /**
-     * Clear the method cache.
+     * Clear the method cache. This discards all cached {@code ClassMetadata} as well.
+     * <p>
+     * Cached methods live in the metadata of their classes and disappear when those classes
+     * are unloaded, so they are not counted.
      *
-     * @return the number of cached methods cleared
+     * @return always {@code 0}
      * @since 1.8.0
      */
     public static synchronized int clearCache() {
-        int size = cache.size();
-        cache.clear();
-        return size;
+        ClassMetadata.clear();
+        return 0;
     }
 
     /**
@@ -266,7 +241,7 @@ public class MethodUtils {
             throw new NoSuchMethodException("No such accessible method: " +
                 methodName + "() on object: " + object.getClass().getName());
         }
-        return method.invoke(object, args);
+        return MethodInvoker.of(method).invoke(object, args);
     }
 
 
@@ -385,7 +360,7 @@ public class MethodUtils {
             throw new NoSuchMethodException("No such accessible method: " +
                 methodName + "() on object: " + object.getClass().getName());
         }
-        return method.invoke(object, args);
+        return MethodInvoker.of(method).invoke(object, args);
 
     }
 
@@ -434,7 +409,7 @@ public class MethodUtils {
             throw new NoSuchMethodException("No such accessible method: " +
                 methodName + "() on class: " + objectClass.getName());
         }
-        return method.invoke(null, args);
+        return MethodInvoker.of(method).invoke(null, args);
 
     }
 
@@ -579,7 +554,7 @@ public class MethodUtils {
             throw new NoSuchMethodException("No such accessible method: " +
                 methodName + "() on class: " + objectClass.getName());
         }
-        return method.invoke(null, args);
+        return MethodInvoker.of(method).invoke(null, args);
     }
 
 
@@ -1189,31 +1164,31 @@ public class MethodUtils {
      */
     private static Method getCachedMethod(MethodDescriptor md) {
         if (CACHE_METHODS) {
-            Reference methodRef = (Reference) cache.get(md);
-            if (methodRef != null) {
-                return (Method) methodRef.get();
-            }
+            return ClassMetadata.of(md.cls).getResolvedMethod(md);
         }
         return null;
     }
 
     /**
      * Add a method to the cache.
+     * <p>
+     * Resolved methods are cached in the {@code ClassMetadata} of the class they were
+     * looked up on, keyed by MethodDescriptor. Entries go away together with the class,
+     * so two components that load the same class via different classloaders never
+     * share entries.
      *
      * @param md     The method descriptor
      * @param method The method to cache
      */
     private static void cacheMethod(MethodDescriptor md, Method method) {
-        if (CACHE_METHODS) {
-            if (method != null) {
-                cache.put(md, new WeakReference(method));
-            }
+        if (CACHE_METHODS && method != null) {
+            ClassMetadata.of(md.cls).putResolvedMethod(md, method, md.signature.getTypes());
         }
     }
 
     public static Object invokeSafe(Method method, Object instance, Object[] args) {
         try {
-            return method.invoke(instance, args);
+            return MethodInvoker.of(method).invoke(instance, args);
         } catch (IllegalAccessException e) {
             // ignore
         } catch (InvocationTargetException e) {
@@ -1223,14 +1198,15 @@ public class MethodUtils {
     }
 
     /**
-     * Represents the key to looking up a Method by reflection.
+     * Represents the key to looking up a Method by reflection. Keys are stored in the
+     * {@code ClassMetadata} of {@code cls}, hence the class is not part of equality.
      */
     private static class MethodDescriptor {
-        private Class cls;
-        private String methodName;
-        private Class[] paramTypes;
-        private boolean exact;
-        private int hashCode;
+        private final Class cls;
+        private final String methodName;
+        private final ArgumentSignature signature;
+        private final boolean exact;
+        private final int hashCode;
 
         /**
          * The sole constructor.
@@ -1247,16 +1223,13 @@ public class MethodUtils {
             if (methodName == null) {
                 throw new IllegalArgumentException("Method Name must not be null");
             }
-            if (paramTypes == null) {
-                paramTypes = EMPTY_CLASS_PARAMETERS;
-            }
 
             this.cls = cls;
             this.methodName = methodName;
-            this.paramTypes = paramTypes;
+            this.signature = ArgumentSignature.of(paramTypes);
             this.exact = exact;
 
-            this.hashCode = methodName.length();
+            this.hashCode = 31 * (31 * methodName.hashCode() + signature.hashCode()) + (exact ? 1 : 0);
         }
 
         /**
@@ -1273,20 +1246,12 @@ public class MethodUtils {
 
             return (
                 exact == md.exact &&
+                    hashCode == md.hashCode &&
                     methodName.equals(md.methodName) &&
-                    cls.equals(md.cls) &&
-                    java.util.Arrays.equals(paramTypes, md.paramTypes)
+                    signature.equals(md.signature)
             );
         }
 
-        /**
-         * Returns the string length of method name. I.e. if the
-         * hashcodes are different, the objects are different. If the
-         * hashcodes are the same, need to use the equals method to
-         * determine equality.
-         *
-         * @return the string length of method name.
-         */
         public int hashCode() {
             return hashCode;
         }
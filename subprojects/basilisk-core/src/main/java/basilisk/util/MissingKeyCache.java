@@ -0,0 +1,83 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package basilisk.util;
+
+import javax.annotation.Nonnull;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static basilisk.util.BasiliskNameUtils.requireNonBlank;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Thread-safe, per-locale record of keys known to be missing from a message source or resource resolver.
+ * <p>
+ * Each locale keeps at most {@code capacity} keys; once that limit is reached the locale's record is
+ * discarded and rebuilt from subsequent misses, which keeps memory bounded when keys are computed.
+ *
+ * @author Andres Almiray
+ */
+public final class MissingKeyCache {
+    public static final int DEFAULT_CAPACITY = 4096;
+    private static final String ERROR_KEY_BLANK = "Argument 'key' must not be blank";
+    private static final String ERROR_LOCALE_NULL = "Argument 'locale' must not be null";
+
+    private final ConcurrentMap<Locale, Set<String>> missingKeys = new ConcurrentHashMap<>();
+    private final int capacity;
+
+    public MissingKeyCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public MissingKeyCache(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Argument 'capacity' must be greater than 0");
+        }
+        this.capacity = capacity;
+    }
+
+    public boolean isMissing(@Nonnull String key, @Nonnull Locale locale) {
+        requireNonNull(locale, ERROR_LOCALE_NULL);
+        Set<String> keys = missingKeys.get(locale);
+        return keys != null && keys.contains(key);
+    }
+
+    public void markMissing(@Nonnull String key, @Nonnull Locale locale) {
+        requireNonBlank(key, ERROR_KEY_BLANK);
+        requireNonNull(locale, ERROR_LOCALE_NULL);
+        Set<String> keys = missingKeys.get(locale);
+        if (keys == null) {
+            keys = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+            Set<String> existing = missingKeys.putIfAbsent(locale, keys);
+            if (existing != null) keys = existing;
+        }
+        if (keys.size() >= capacity) {
+            keys.clear();
+        }
+        keys.add(key);
+    }
+
+    public void clear() {
+        missingKeys.clear();
+    }
+
+    public void clear(@Nonnull Locale locale) {
+        missingKeys.remove(requireNonNull(locale, ERROR_LOCALE_NULL));
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package basilisk.util;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Parsing and formatting of primitive numbers that work directly on {@code CharSequence}
+ * and {@code Appendable} instances, without boxing or intermediate strings.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+public final class NumberUtils {
+    private static final String ERROR_INPUT_NULL = "Argument 'input' must not be null";
+    private static final String ERROR_OUTPUT_NULL = "Argument 'output' must not be null";
+
+    private NumberUtils() {
+
+    }
+
+    /**
+     * Parses a decimal {@code int}, following the rules of {@code Integer.parseInt(String)}.
+     *
+     * @param input the characters to be parsed
+     * @return the parsed value
+     * @throws NumberFormatException if the input is not a parseable {@code int}
+     */
+    public static int parseInt(@Nonnull CharSequence input) throws NumberFormatException {
+        return (int) parse(input, Integer.MIN_VALUE);
+    }
+
+    /**
+     * Parses a decimal {@code long}, following the rules of {@code Long.parseLong(String)}.
+     *
+     * @param input the characters to be parsed
+     * @return the parsed value
+     * @throws NumberFormatException if the input is not a parseable {@code long}
+     */
+    public static long parseLong(@Nonnull CharSequence input) throws NumberFormatException {
+        return parse(input, Long.MIN_VALUE);
+    }
+
+    @Nonnull
+    public static <A extends Appendable> A formatInt(int value, @Nonnull A output) throws IOException {
+        return formatLong(value, output);
+    }
+
+    @Nonnull
+    public static <A extends Appendable> A formatLong(long value, @Nonnull A output) throws IOException {
+        return formatLong(value, ',', 0, output);
+    }
+
+    /**
+     * Appends the decimal digits of the given value to {@code output}, inserting
+     * {@code groupingSeparator} every {@code groupingSize} digits. Grouping is disabled
+     * when {@code groupingSize} is {@code 0}. Negative values are prefixed with {@code '-'}.
+     *
+     * @param value             the value to be formatted
+     * @param groupingSeparator the character that separates groups of digits
+     * @param groupingSize      the number of digits in a group
+     * @param output            the target of the formatted digits
+     * @return the {@code output} argument
+     * @throws IOException if {@code output} cannot be written to
+     */
+    @Nonnull
+    public static <A extends Appendable> A formatLong(long value, char groupingSeparator, int groupingSize, @Nonnull A output) throws IOException {
+        requireNonNull(output, ERROR_OUTPUT_NULL);
+        // work with negative values so that Long.MIN_VALUE needs no special handling
+        if (value < 0) {
+            output.append('-');
+        } else {
+            value = -value;
+        }
+
+        int digits = 1;
+        long divisor = 1;
+        while (value / divisor <= -10) {
+            divisor *= 10;
+            digits++;
+        }
+
+        while (divisor > 0) {
+            output.append((char) ('0' - value / divisor));
+            value %= divisor;
+            divisor /= 10;
+            digits--;
+            if (groupingSize > 0 && digits > 0 && digits % groupingSize == 0) {
+                output.append(groupingSeparator);
+            }
+        }
+        return output;
+    }
+
+    private static long parse(@Nonnull CharSequence input, long min) throws NumberFormatException {
+        requireNonNull(input, ERROR_INPUT_NULL);
+        int length = input.length();
+        if (length == 0) {
+            throw numberFormatException(input);
+        }
+
+        int i = 0;
+        boolean negative = false;
+        long limit = min + 1;
+        char first = input.charAt(0);
+        if (first == '-' || first == '+') {
+            if (length == 1) {
+                throw numberFormatException(input);
+            }
+            if (first == '-') {
+                negative = true;
+                limit = min;
+            }
+            i++;
+        }
+
+        // accumulate negatively to cover the full range of values
+        long multiplicationLimit = limit / 10;
+        long result = 0;
+        for (; i < length; i++) {
+            int digit = Character.digit(input.charAt(i), 10);
+            if (digit < 0 || result < multiplicationLimit) {
+                throw numberFormatException(input);
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                throw numberFormatException(input);
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    @Nonnull
+    private static NumberFormatException numberFormatException(@Nonnull CharSequence input) {
+        return new NumberFormatException("For input string: \"" + input + "\"");
+    }
+}
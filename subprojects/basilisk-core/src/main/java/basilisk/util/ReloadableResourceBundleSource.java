@@ -0,0 +1,46 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package basilisk.util;
+
+import javax.annotation.Nonnull;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * A component backed by per-locale resource bundles that may be rebuilt at runtime.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+public interface ReloadableResourceBundleSource {
+    @Nonnull
+    String getBasename();
+
+    /**
+     * Returns the locales whose bundles have been loaded so far.
+     */
+    @Nonnull
+    Set<Locale> getLoadedLocales();
+
+    /**
+     * Rebuilds the bundle for the given locale and replaces the previous one in a single step.
+     *
+     * @param locale the locale of the bundle to rebuild
+     * @return the keys whose values were added, removed or changed
+     */
+    @Nonnull
+    Set<String> reloadBundle(@Nonnull Locale locale);
+}
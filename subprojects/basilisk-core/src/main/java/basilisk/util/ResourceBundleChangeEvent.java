@@ -0,0 +1,73 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package basilisk.util;
+
+import javax.annotation.Nonnull;
+import java.util.Collections;
+import java.util.EventObject;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Signals that the bundle of a {@code ReloadableResourceBundleSource} was reloaded.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+public class ResourceBundleChangeEvent extends EventObject {
+    private static final long serialVersionUID = -3467101417413271394L;
+
+    private final Locale locale;
+    private final Set<String> keys;
+
+    public ResourceBundleChangeEvent(@Nonnull ReloadableResourceBundleSource source, @Nonnull Locale locale, @Nonnull Set<String> keys) {
+        super(requireNonNull(source, "Argument 'source' must not be null"));
+        this.locale = requireNonNull(locale, "Argument 'locale' must not be null");
+        this.keys = Collections.unmodifiableSet(new LinkedHashSet<>(requireNonNull(keys, "Argument 'keys' must not be null")));
+    }
+
+    @Nonnull
+    @Override
+    public ReloadableResourceBundleSource getSource() {
+        return (ReloadableResourceBundleSource) super.getSource();
+    }
+
+    @Nonnull
+    public String getBasename() {
+        return getSource().getBasename();
+    }
+
+    @Nonnull
+    public Locale getLocale() {
+        return locale;
+    }
+
+    /**
+     * Returns the keys whose values were added, removed or changed.
+     */
+    @Nonnull
+    public Set<String> getKeys() {
+        return keys;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getName() + "[basename=" + getBasename() + ", locale=" + locale + ", keys=" + keys + "]";
+    }
+}
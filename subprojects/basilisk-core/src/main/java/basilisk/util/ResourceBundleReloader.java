@@ -0,0 +1,35 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package basilisk.util;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Watches the files backing {@code ReloadableResourceBundleSource}s and reloads the affected
+ * bundles whenever those files change.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+public interface ResourceBundleReloader {
+    boolean isEnabled();
+
+    void register(@Nonnull ReloadableResourceBundleSource source);
+
+    void addResourceBundleChangeListener(@Nonnull ResourceBundleChangeListener listener);
+
+    void removeResourceBundleChangeListener(@Nonnull ResourceBundleChangeListener listener);
+}
@@ -15,11 +15,8 @@
  */
 package basilisk.util;
 
-import basilisk.core.editors.ExtendedPropertyEditor;
-import basilisk.core.editors.PropertyEditorResolver;
+import basilisk.core.converters.ConverterResolver;
 import basilisk.exceptions.BasiliskException;
-import basilisk.exceptions.TypeConversionException;
-import com.googlecode.openbeans.PropertyEditor;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -34,7 +31,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
-import static basilisk.util.BasiliskNameUtils.isBlank;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -226,27 +222,7 @@ public final class TypeUtils {
             }
         }
 
-        PropertyEditor targetEditor = resolveTargetPropertyEditor(targetType, format);
-        if (targetEditor != null) {
-            targetEditor.setValue(value);
-            return (T) targetEditor.getValue();
-        }
-
-        throw new TypeConversionException(value, targetType);
-    }
-
-    @Nullable
-    private static <T> PropertyEditor resolveTargetPropertyEditor(@Nonnull Class<T> targetType, @Nullable String format) {
-        PropertyEditor editor = doResolveTargetPropertyEditor(targetType);
-        if (editor instanceof ExtendedPropertyEditor && !isBlank(format)) {
-            ((ExtendedPropertyEditor) editor).setFormat(format);
-        }
-        return editor;
-    }
-
-    @Nullable
-    private static <T> PropertyEditor doResolveTargetPropertyEditor(@Nonnull Class<T> targetType) {
-        return PropertyEditorResolver.findEditor(targetType);
+        return ConverterResolver.findConverter(targetType, format).convert(value);
     }
 
     public static boolean isBoolean(@Nonnull Class<?> type) {
@@ -56,6 +56,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
 
 import static basilisk.util.AnnotationUtils.named;
 import static basilisk.util.BasiliskApplicationUtils.parseLocale;
@@ -80,6 +81,7 @@ public abstract class AbstractBasiliskApplication implements BasiliskApplication
     //private Locale locale = Locale.getDefault();
     //private ApplicationPhase phase = ApplicationPhase.INITIALIZE;
     private Injector<?> injector;
+    private LocalePreloader localePreloader;
 
     private ObjectProperty<Locale> locale;
     private ReadOnlyObjectWrapper<ApplicationPhase> phase;
@@ -163,6 +165,28 @@ public abstract class AbstractBasiliskApplication implements BasiliskApplication
         setLocale(parseLocale(locale));
     }
 
+    @Nonnull
+    @Override
+    public Future<Locale> switchLocale(@Nonnull final Locale locale) {
+        requireNonNull(locale, "Argument 'locale' must not be null");
+        return getLocalePreloader().preload(locale, new Runnable() {
+            @Override
+            public void run() {
+                setLocale(locale);
+            }
+        });
+    }
+
+    @Nonnull
+    protected LocalePreloader getLocalePreloader() {
+        synchronized (lock) {
+            if (localePreloader == null) {
+                localePreloader = new LocalePreloader(getMessageSource(), getResourceResolver(), getUIThreadManager());
+            }
+            return localePreloader;
+        }
+    }
+
     public void addShutdownHandler(@Nonnull ShutdownHandler handler) {
         requireNonNull(handler, ERROR_SHUTDOWN_HANDLER_NULL);
         if (!shutdownHandlers.contains(handler)) shutdownHandlers.add(handler);
@@ -383,6 +407,12 @@ public abstract class AbstractBasiliskApplication implements BasiliskApplication
         setPhase(ApplicationPhase.STARTUP);
         event(ApplicationEvent.STARTUP_START, asList(this));
 
+        List<Locale> locales = LocalePreloader.toLocales(getConfiguration().get("application.preloadLocales", null));
+        if (!locales.isEmpty()) {
+            log.info("Preloading locales: {}", locales);
+            getLocalePreloader().preload(locales);
+        }
+
         Object startupGroups = getConfiguration().get("application.startupGroups", null);
         if (startupGroups instanceof List) {
             log.info("Initializing all startup groups: {}", startupGroups);
@@ -16,13 +16,13 @@
 package org.kordamp.basilisk.runtime.core;
 
 import basilisk.core.Configuration;
-import com.googlecode.openbeans.PropertyEditor;
+import basilisk.core.ConfigurationSnapshot;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.Properties;
 
-import static basilisk.core.editors.PropertyEditorResolver.findEditor;
+import static basilisk.core.converters.ConverterResolver.findConverter;
 import static basilisk.util.CollectionUtils.toProperties;
 import static basilisk.util.TypeUtils.castToBoolean;
 import static basilisk.util.TypeUtils.castToDouble;
@@ -35,6 +35,16 @@ import static java.util.Objects.requireNonNull;
  * @author Andres Almiray
  */
 public abstract class AbstractConfiguration implements Configuration {
+    /**
+     * Creates a new snapshot of the current state on every call, as subclasses may be mutable.
+     * Immutable subclasses should override this method and return a snapshot computed once.
+     */
+    @Nonnull
+    @Override
+    public ConfigurationSnapshot snapshot() {
+        return ConfigurationSnapshot.of(this);
+    }
+
     @Nullable
     @Override
     @SuppressWarnings("unchecked")
@@ -146,9 +156,7 @@ public abstract class AbstractConfiguration implements Configuration {
             if (type.isAssignableFrom(value.getClass())) {
                 return (T) value;
             } else {
-                PropertyEditor editor = findEditor(type);
-                editor.setValue(value);
-                return (T) editor.getValue();
+                return findConverter(type).convert(value);
             }
         }
         return null;
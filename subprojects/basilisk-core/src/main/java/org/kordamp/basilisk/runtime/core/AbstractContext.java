@@ -19,7 +19,6 @@ import basilisk.core.Context;
 import basilisk.exceptions.FieldException;
 import basilisk.inject.Contextual;
 import com.googlecode.openbeans.PropertyDescriptor;
-import com.googlecode.openbeans.PropertyEditor;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -27,7 +26,7 @@ import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 
-import static basilisk.core.editors.PropertyEditorResolver.findEditor;
+import static basilisk.core.converters.ConverterResolver.findConverter;
 import static basilisk.util.AnnotationUtils.annotationsOfMethodParameter;
 import static basilisk.util.AnnotationUtils.findAnnotation;
 import static basilisk.util.AnnotationUtils.nameFor;
@@ -204,9 +203,7 @@ public abstract class AbstractContext implements Context {
             if (type.isAssignableFrom(value.getClass())) {
                 return (T) value;
             } else {
-                PropertyEditor editor = findEditor(type);
-                editor.setValue(value);
-                return (T) editor.getValue();
+                return findConverter(type).convert(value);
             }
         }
         return null;
@@ -16,7 +16,7 @@
 package org.kordamp.basilisk.runtime.core;
 
 import basilisk.core.Configuration;
-import com.googlecode.openbeans.PropertyEditor;
+import basilisk.core.ConfigurationSnapshot;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -24,7 +24,7 @@ import java.util.Map;
 import java.util.Properties;
 import java.util.ResourceBundle;
 
-import static basilisk.core.editors.PropertyEditorResolver.findEditor;
+import static basilisk.core.converters.ConverterResolver.findConverter;
 import static basilisk.util.CollectionUtils.toProperties;
 import static basilisk.util.TypeUtils.castToBoolean;
 import static basilisk.util.TypeUtils.castToDouble;
@@ -177,15 +177,19 @@ public class ConfigurationDecorator implements Configuration {
         return delegate.asResourceBundle();
     }
 
+    @Nonnull
+    @Override
+    public ConfigurationSnapshot snapshot() {
+        return delegate.snapshot();
+    }
+
     @SuppressWarnings("unchecked")
     protected <T> T convertValue(@Nullable Object value, @Nonnull Class<T> type) {
         if (value != null) {
             if (type.isAssignableFrom(value.getClass())) {
                 return (T) value;
             } else {
-                PropertyEditor editor = findEditor(type);
-                editor.setValue(value);
-                return (T) editor.getValue();
+                return findConverter(type).convert(value);
             }
         }
         return null;
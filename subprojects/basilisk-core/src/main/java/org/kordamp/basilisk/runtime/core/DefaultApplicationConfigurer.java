@@ -21,7 +21,6 @@ import basilisk.core.ApplicationEvent;
 import basilisk.core.BasiliskApplication;
 import basilisk.core.LifecycleHandler;
 import basilisk.core.PlatformHandler;
-import basilisk.core.RunnableWithArgs;
 import basilisk.core.artifact.ArtifactHandler;
 import basilisk.core.artifact.ArtifactManager;
 import basilisk.core.artifact.BasiliskController;
@@ -36,6 +35,7 @@ import basilisk.core.resources.ResourceInjector;
 import basilisk.util.ServiceLoaderUtils;
 import com.googlecode.openbeans.PropertyEditor;
 import org.kordamp.basilisk.runtime.core.controller.NoopActionManager;
+import org.kordamp.basilisk.runtime.core.injection.NewInstanceEventBatch;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -181,9 +181,10 @@ public class DefaultApplicationConfigurer implements ApplicationConfigurer {
 
     protected void initializeResourcesInjector() {
         final ResourceInjector injector = application.getResourceInjector();
-        application.getEventRouter().addEventListener(ApplicationEvent.NEW_INSTANCE.getName(), new RunnableWithArgs() {
-            public void run(@Nullable Object... args) {
-                injector.injectResources(args[1]);
+        application.getEventRouter().addEventListener(ApplicationEvent.NEW_INSTANCE.getName(), new NewInstanceEventBatch.ImmediateListener() {
+            @Override
+            protected void onNewInstance(@Nonnull Class<?> klass, @Nonnull Object instance) {
+                injector.injectResources(instance);
             }
         });
     }
@@ -237,11 +238,11 @@ public class DefaultApplicationConfigurer implements ApplicationConfigurer {
             return;
         }
 
-        application.getEventRouter().addEventListener(ApplicationEvent.NEW_INSTANCE.getName(), new RunnableWithArgs() {
-            public void run(@Nullable Object... args) {
-                Class<?> klass = (Class) args[0];
+        application.getEventRouter().addEventListener(ApplicationEvent.NEW_INSTANCE.getName(), new NewInstanceEventBatch.ImmediateListener() {
+            @Override
+            protected void onNewInstance(@Nonnull Class<?> klass, @Nonnull Object instance) {
                 if (BasiliskController.class.isAssignableFrom(klass)) {
-                    application.getActionManager().createActions((BasiliskController) args[1]);
+                    application.getActionManager().createActions((BasiliskController) instance);
                 }
             }
         });
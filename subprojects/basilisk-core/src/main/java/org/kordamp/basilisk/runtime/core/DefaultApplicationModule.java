@@ -44,6 +44,7 @@ import basilisk.core.resources.ResourceResolver;
 import basilisk.core.threading.UIThreadManager;
 import basilisk.core.view.WindowManager;
 import basilisk.util.CompositeResourceBundleBuilder;
+import basilisk.util.ResourceBundleReloader;
 import org.kordamp.basilisk.runtime.core.addon.DefaultAddonManager;
 import org.kordamp.basilisk.runtime.core.artifact.ControllerArtifactHandler;
 import org.kordamp.basilisk.runtime.core.artifact.DefaultArtifactManager;
@@ -72,6 +73,7 @@ import org.kordamp.basilisk.runtime.core.threading.DefaultExecutorServiceProvide
 import org.kordamp.basilisk.runtime.core.threading.DefaultUIThreadManager;
 import org.kordamp.basilisk.runtime.core.view.NoopWindowManager;
 import org.kordamp.basilisk.runtime.util.DefaultCompositeResourceBundleBuilder;
+import org.kordamp.basilisk.runtime.util.DefaultResourceBundleReloader;
 import org.kordamp.basilisk.runtime.util.ResourceBundleProvider;
 
 import javax.inject.Named;
@@ -149,6 +151,10 @@ public class DefaultApplicationModule extends AbstractModule {
         bind(EventRouter.class)
             .to(DefaultEventRouter.class);
 
+        bind(ResourceBundleReloader.class)
+            .to(DefaultResourceBundleReloader.class)
+            .asSingleton();
+
         bind(ResourceResolverDecoratorFactory.class)
             .to(DefaultResourceResolverDecoratorFactory.class);
 
@@ -21,17 +21,32 @@ import basilisk.util.TypeUtils;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 
+import static basilisk.util.BasiliskNameUtils.requireNonBlank;
 import static java.util.Objects.requireNonNull;
 
 /**
+ * Events are dispatched directly along the subtree of child contexts created from this
+ * context, skipping every child that shadows the changed key. Subtrees without listeners
+ * are never visited.
+ *
  * @author Andres Almiray
  */
 public class DefaultObservableContext extends DefaultContext implements ObservableContext {
     private static final String ERROR_LISTENER_NULL = "Argument 'listener' must not be null";
+    private static final String ERROR_VALUES_NULL = "Argument 'values' must not be null";
+    private static final ContextEventListener[] EMPTY_LISTENERS = new ContextEventListener[0];
+
     private final List<ContextEventListener> listeners = new CopyOnWriteArrayList<>();
+    private final ConcurrentMap<String, List<ContextEventListener>> keyedListeners = new ConcurrentHashMap<>();
+    private final List<DefaultObservableContext> children = new CopyOnWriteArrayList<>();
 
     private final ContextEventListener parentListener = new ContextEventListener() {
         @Override
@@ -49,7 +64,9 @@ public class DefaultObservableContext extends DefaultContext implements Observab
 
     public DefaultObservableContext(@Nonnull Context parentContext) {
         super(parentContext);
-        if (parentContext instanceof ObservableContext) {
+        if (parentContext instanceof DefaultObservableContext) {
+            ((DefaultObservableContext) parentContext).children.add(this);
+        } else if (parentContext instanceof ObservableContext) {
             ObservableContext observableParent = (ObservableContext) parentContext;
             observableParent.addContextEventListener(parentListener);
         }
@@ -73,23 +90,64 @@ public class DefaultObservableContext extends DefaultContext implements Observab
         return listeners.toArray(new ContextEventListener[listeners.size()]);
     }
 
+    @Override
+    public void addContextEventListener(@Nonnull String key, @Nonnull ContextEventListener listener) {
+        requireNonBlank(key, ERROR_KEY_BLANK);
+        requireNonNull(listener, ERROR_LISTENER_NULL);
+        List<ContextEventListener> list = keyedListeners.get(key);
+        if (list == null) {
+            List<ContextEventListener> newList = new CopyOnWriteArrayList<>();
+            list = keyedListeners.putIfAbsent(key, newList);
+            if (list == null) list = newList;
+        }
+        if (!list.contains(listener)) list.add(listener);
+    }
+
+    @Override
+    public void removeContextEventListener(@Nonnull String key, @Nonnull ContextEventListener listener) {
+        requireNonBlank(key, ERROR_KEY_BLANK);
+        requireNonNull(listener, ERROR_LISTENER_NULL);
+        List<ContextEventListener> list = keyedListeners.get(key);
+        if (list != null) list.remove(listener);
+    }
+
+    @Nonnull
+    @Override
+    public ContextEventListener[] getContextEventListeners(@Nonnull String key) {
+        requireNonBlank(key, ERROR_KEY_BLANK);
+        List<ContextEventListener> list = keyedListeners.get(key);
+        return list != null ? list.toArray(new ContextEventListener[list.size()]) : EMPTY_LISTENERS;
+    }
+
     @Override
     public void put(@Nonnull String key, @Nullable Object value) {
-        boolean localKey = hasKey(key);
-        boolean parentKey = !localKey && containsKey(key);
-        Object oldValue = get(key);
+        if (!isObserved()) {
+            super.put(key, value);
+            return;
+        }
+
+        ContextEvent event = computePutEvent(key, value);
         super.put(key, value);
-        boolean valuesAreEqual = TypeUtils.equals(oldValue, value);
+        if (event != null) fireContextEvent(event);
+    }
 
-        if (parentKey) {
-            if (!valuesAreEqual) fireContextEvent(ContextEvent.Type.UPDATE, key, oldValue, value);
-        } else {
-            if (localKey) {
-                fireContextEvent(ContextEvent.Type.UPDATE, key, oldValue, value);
-            } else {
-                fireContextEvent(ContextEvent.Type.ADD, key, null, value);
+    @Override
+    public void putAll(@Nonnull Map<String, ?> values) {
+        requireNonNull(values, ERROR_VALUES_NULL);
+        if (!isObserved()) {
+            for (Map.Entry<String, ?> entry : values.entrySet()) {
+                super.put(entry.getKey(), entry.getValue());
             }
+            return;
+        }
+
+        List<ContextEvent> events = new ArrayList<>(values.size());
+        for (Map.Entry<String, ?> entry : values.entrySet()) {
+            ContextEvent event = computePutEvent(entry.getKey(), entry.getValue());
+            super.put(entry.getKey(), entry.getValue());
+            if (event != null) events.add(event);
         }
+        if (!events.isEmpty()) fireContextEvents(Collections.unmodifiableList(events));
     }
 
     @Nullable
@@ -163,11 +221,15 @@ public class DefaultObservableContext extends DefaultContext implements Observab
 
     @Override
     public void destroy() {
-        if (getParentContext() instanceof ObservableContext) {
+        if (getParentContext() instanceof DefaultObservableContext) {
+            ((DefaultObservableContext) getParentContext()).children.remove(this);
+        } else if (getParentContext() instanceof ObservableContext) {
             ObservableContext observableParent = (ObservableContext) getParentContext();
             observableParent.removeContextEventListener(parentListener);
         }
         listeners.clear();
+        keyedListeners.clear();
+        children.clear();
         super.destroy();
     }
 
@@ -179,5 +241,77 @@ public class DefaultObservableContext extends DefaultContext implements Observab
         for (ContextEventListener listener : listeners) {
             listener.contextChanged(event);
         }
+        notifyKeyedListeners(event);
+
+        String key = event.getKey();
+        for (DefaultObservableContext child : children) {
+            if (child.isObserved() && !child.hasKey(key)) {
+                child.fireContextEvent(event);
+            }
+        }
+    }
+
+    protected void fireContextEvents(@Nonnull List<ContextEvent> events) {
+        for (ContextEventListener listener : listeners) {
+            if (listener instanceof BatchContextEventListener) {
+                ((BatchContextEventListener) listener).contextBatchChanged(events);
+            } else {
+                for (ContextEvent event : events) {
+                    listener.contextChanged(event);
+                }
+            }
+        }
+        if (!keyedListeners.isEmpty()) {
+            for (ContextEvent event : events) {
+                notifyKeyedListeners(event);
+            }
+        }
+
+        for (DefaultObservableContext child : children) {
+            if (!child.isObserved()) continue;
+            List<ContextEvent> visible = new ArrayList<>(events.size());
+            for (ContextEvent event : events) {
+                if (!child.hasKey(event.getKey())) visible.add(event);
+            }
+            if (!visible.isEmpty()) child.fireContextEvents(Collections.unmodifiableList(visible));
+        }
+    }
+
+    /**
+     * Whether this context, or any context in its subtree, has at least one listener.
+     */
+    protected boolean isObserved() {
+        if (!listeners.isEmpty()) return true;
+        for (List<ContextEventListener> list : keyedListeners.values()) {
+            if (!list.isEmpty()) return true;
+        }
+        for (DefaultObservableContext child : children) {
+            if (child.isObserved()) return true;
+        }
+        return false;
+    }
+
+    private void notifyKeyedListeners(@Nonnull ContextEvent event) {
+        List<ContextEventListener> list = keyedListeners.get(event.getKey());
+        if (list != null) {
+            for (ContextEventListener listener : list) {
+                listener.contextChanged(event);
+            }
+        }
+    }
+
+    @Nullable
+    private ContextEvent computePutEvent(@Nonnull String key, @Nullable Object value) {
+        if (hasKey(key)) {
+            return new ContextEvent(ContextEvent.Type.UPDATE, key, doGet(key), value);
+        }
+
+        Context parent = getParentContext();
+        Object oldValue = parent != null ? parent.get(key) : null;
+        boolean parentKey = oldValue != null || (parent != null && parent.containsKey(key));
+        if (parentKey) {
+            return TypeUtils.equals(oldValue, value) ? null : new ContextEvent(ContextEvent.Type.UPDATE, key, oldValue, value);
+        }
+        return new ContextEvent(ContextEvent.Type.ADD, key, null, value);
     }
 }
@@ -16,35 +16,45 @@
 package org.kordamp.basilisk.runtime.core;
 
 import basilisk.core.Configuration;
+import basilisk.core.ConfigurationSnapshot;
 import basilisk.core.MutableConfiguration;
+import basilisk.core.ObservableConfiguration;
 import basilisk.util.AbstractMapResourceBundle;
 import basilisk.util.CompositeResourceBundle;
-import basilisk.util.ConfigUtils;
+import basilisk.util.TypeUtils;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
-import java.util.MissingResourceException;
 import java.util.ResourceBundle;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static basilisk.util.BasiliskNameUtils.requireNonBlank;
-import static basilisk.util.ConfigUtils.getConfigValue;
 import static java.util.Arrays.asList;
 import static java.util.Collections.unmodifiableMap;
+import static java.util.Collections.unmodifiableSet;
 import static java.util.Objects.requireNonNull;
 
 /**
+ * Listeners are notified in the thread that performed the change.
+ *
  * @author Andres Almiray
  */
-public class DelegatingMutableConfiguration extends ConfigurationDecorator implements MutableConfiguration {
+public class DelegatingMutableConfiguration extends ConfigurationDecorator implements MutableConfiguration, ObservableConfiguration {
     private static final String ERROR_KEY_BLANK = "Argument 'key' must not be blank";
     private static final String ERROR_VALUE_NULL = "Argument 'value' must not be null";
+    private static final String ERROR_LISTENER_NULL = "Argument 'listener' must not be null";
+
+    private final List<ConfigurationChangeListener> listeners = new CopyOnWriteArrayList<>();
+    private final Object lock = new Object();
 
-    private final Map<String, Object> mutableKeyValues = new LinkedHashMap<>();
-    private final Set<String> removedKeys = new LinkedHashSet<>();
+    private volatile Overrides overrides = Overrides.NONE;
+    private volatile CachedSnapshot cachedSnapshot;
 
     public DelegatingMutableConfiguration(@Nonnull Configuration delegate) {
         super(delegate);
@@ -54,21 +64,100 @@ public class DelegatingMutableConfiguration extends ConfigurationDecorator imple
     public void set(@Nonnull String key, @Nonnull Object value) {
         requireNonBlank(key, ERROR_KEY_BLANK);
         requireNonNull(value, ERROR_VALUE_NULL);
-        mutableKeyValues.put(key, value);
+        Object oldValue;
+        synchronized (lock) {
+            oldValue = get(key);
+            overrides = overrides.with(key, value);
+        }
+
+        if (oldValue == null) {
+            fireConfigurationChangeEvent(ConfigurationChangeEvent.Type.ADD, key, null, value);
+        } else if (!TypeUtils.equals(oldValue, value)) {
+            fireConfigurationChangeEvent(ConfigurationChangeEvent.Type.UPDATE, key, oldValue, value);
+        }
     }
 
     @Nullable
     @Override
     public Object remove(@Nonnull String key) {
         requireNonBlank(key, ERROR_KEY_BLANK);
-        if (mutableKeyValues.containsKey(key)) {
-            removedKeys.add(key);
-            return mutableKeyValues.remove(key);
-        } else if (!removedKeys.contains(key) && delegate.containsKey(key)) {
-            removedKeys.add(key);
-            return delegate.get(key);
+        Object oldValue = null;
+        synchronized (lock) {
+            Overrides current = overrides;
+            if (current.values.containsKey(key)) {
+                oldValue = current.values.get(key);
+                overrides = current.without(key);
+            } else if (!current.removedKeys.contains(key) && delegate.containsKey(key)) {
+                oldValue = delegate.get(key);
+                overrides = current.without(key);
+            }
+        }
+
+        if (oldValue != null) {
+            fireConfigurationChangeEvent(ConfigurationChangeEvent.Type.REMOVE, key, oldValue, null);
+        }
+        return oldValue;
+    }
+
+    /**
+     * Discards any change made to the given key with {@code set()} or {@code remove()}, thus the
+     * value provided by the delegate (if any) becomes visible again.
+     *
+     * @param key the key to be reverted.
+     *
+     * @return the value associated with the key before it was reverted.
+     *
+     * @since 0.3.0
+     */
+    @Nullable
+    public Object revert(@Nonnull String key) {
+        requireNonBlank(key, ERROR_KEY_BLANK);
+        Object oldValue;
+        Object newValue;
+        synchronized (lock) {
+            Overrides current = overrides;
+            if (!current.values.containsKey(key) && !current.removedKeys.contains(key)) {
+                return get(key);
+            }
+            oldValue = get(key);
+            overrides = current.reverting(key);
+            newValue = get(key);
+        }
+
+        if (oldValue == null && newValue != null) {
+            fireConfigurationChangeEvent(ConfigurationChangeEvent.Type.ADD, key, null, newValue);
+        } else if (oldValue != null && newValue == null) {
+            fireConfigurationChangeEvent(ConfigurationChangeEvent.Type.REMOVE, key, oldValue, null);
+        } else if (oldValue != null && !TypeUtils.equals(oldValue, newValue)) {
+            fireConfigurationChangeEvent(ConfigurationChangeEvent.Type.UPDATE, key, oldValue, newValue);
+        }
+        return oldValue;
+    }
+
+    @Override
+    public void addConfigurationChangeListener(@Nonnull ConfigurationChangeListener listener) {
+        requireNonNull(listener, ERROR_LISTENER_NULL);
+        if (!listeners.contains(listener)) listeners.add(listener);
+    }
+
+    @Override
+    public void removeConfigurationChangeListener(@Nonnull ConfigurationChangeListener listener) {
+        requireNonNull(listener, ERROR_LISTENER_NULL);
+        listeners.remove(listener);
+    }
+
+    @Nonnull
+    @Override
+    public ConfigurationChangeListener[] getConfigurationChangeListeners() {
+        return listeners.toArray(new ConfigurationChangeListener[listeners.size()]);
+    }
+
+    protected void fireConfigurationChangeEvent(@Nonnull ConfigurationChangeEvent.Type type, @Nonnull String key, @Nullable Object oldValue, @Nullable Object newValue) {
+        if (listeners.isEmpty()) return;
+        ConfigurationChangeEvent event = new ConfigurationChangeEvent(type, key, oldValue, newValue);
+        for (ConfigurationChangeListener listener : listeners) {
+            listener.configurationChanged(event);
         }
-        return null;
     }
 
     @Nullable
@@ -88,9 +177,10 @@ public class DelegatingMutableConfiguration extends ConfigurationDecorator imple
     @Nonnull
     @Override
     public Map<String, Object> asFlatMap() {
+        Overrides current = overrides;
         Map<String, Object> flatMap = new LinkedHashMap<>(delegate.asFlatMap());
-        flatMap.putAll(mutableKeyValues);
-        for (String removedKey : removedKeys) {
+        flatMap.putAll(current.values);
+        for (String removedKey : current.removedKeys) {
             flatMap.remove(removedKey);
         }
         return unmodifiableMap(flatMap);
@@ -102,18 +192,33 @@ public class DelegatingMutableConfiguration extends ConfigurationDecorator imple
         return new CompositeResourceBundle(asList(new PrivateMapResourceBundle(asFlatMap()), delegate.asResourceBundle()));
     }
 
+    /**
+     * Returns the snapshot of the delegate with the mutable entries applied on top. The result
+     * is cached until either the delegate's snapshot or the mutable entries change.
+     */
+    @Nonnull
+    @Override
+    public ConfigurationSnapshot snapshot() {
+        ConfigurationSnapshot base = delegate.snapshot();
+        Overrides current = overrides;
+        CachedSnapshot cached = cachedSnapshot;
+        if (cached == null || cached.base != base || cached.overrides != current) {
+            cached = new CachedSnapshot(base, current, base.with(current.values, current.removedKeys));
+            cachedSnapshot = cached;
+        }
+        return cached.snapshot;
+    }
+
     @Nullable
     @Override
     public Object get(@Nonnull String key) {
         requireNonBlank(key, ERROR_KEY_BLANK);
-        try {
-            return getConfigValue(mutableKeyValues, key);
-        } catch (MissingResourceException mre) {
-            if (removedKeys.contains(key)) {
-                return null;
-            }
-            return super.get(key);
+        Overrides current = overrides;
+        Object value = current.index.get(key);
+        if (value != null || current.removedKeys.contains(key)) {
+            return value;
         }
+        return super.get(key);
     }
 
     @Nullable
@@ -133,7 +238,63 @@ public class DelegatingMutableConfiguration extends ConfigurationDecorator imple
     @Override
     public boolean containsKey(@Nonnull String key) {
         requireNonBlank(key, ERROR_KEY_BLANK);
-        return ConfigUtils.containsKey(mutableKeyValues, key) || (!removedKeys.contains(key) && delegate.containsKey(key));
+        Overrides current = overrides;
+        return current.index.containsKey(key) || (!current.removedKeys.contains(key) && delegate.containsKey(key));
+    }
+
+    /**
+     * Immutable set of changes applied on top of the delegate. Writes publish a new instance
+     * while holding the lock, thus readers always see consistent values.
+     */
+    private static final class Overrides {
+        private static final Overrides NONE = new Overrides(Collections.<String, Object>emptyMap(), Collections.<String>emptySet());
+
+        private final Map<String, Object> values;
+        private final Set<String> removedKeys;
+        private final ConfigurationSnapshot index;
+
+        private Overrides(@Nonnull Map<String, Object> values, @Nonnull Set<String> removedKeys) {
+            this.values = values;
+            this.removedKeys = removedKeys;
+            this.index = ConfigurationSnapshot.of(values);
+        }
+
+        @Nonnull
+        private Overrides with(@Nonnull String key, @Nonnull Object value) {
+            Map<String, Object> newValues = new LinkedHashMap<>(values);
+            newValues.put(key, value);
+            return new Overrides(unmodifiableMap(newValues), removedKeys);
+        }
+
+        @Nonnull
+        private Overrides without(@Nonnull String key) {
+            Map<String, Object> newValues = new LinkedHashMap<>(values);
+            newValues.remove(key);
+            Set<String> newRemovedKeys = new LinkedHashSet<>(removedKeys);
+            newRemovedKeys.add(key);
+            return new Overrides(unmodifiableMap(newValues), unmodifiableSet(newRemovedKeys));
+        }
+
+        @Nonnull
+        private Overrides reverting(@Nonnull String key) {
+            Map<String, Object> newValues = new LinkedHashMap<>(values);
+            newValues.remove(key);
+            Set<String> newRemovedKeys = new LinkedHashSet<>(removedKeys);
+            newRemovedKeys.remove(key);
+            return new Overrides(unmodifiableMap(newValues), unmodifiableSet(newRemovedKeys));
+        }
+    }
+
+    private static final class CachedSnapshot {
+        private final ConfigurationSnapshot base;
+        private final Overrides overrides;
+        private final ConfigurationSnapshot snapshot;
+
+        private CachedSnapshot(@Nonnull ConfigurationSnapshot base, @Nonnull Overrides overrides, @Nonnull ConfigurationSnapshot snapshot) {
+            this.base = base;
+            this.overrides = overrides;
+            this.snapshot = snapshot;
+        }
     }
 
     private static class PrivateMapResourceBundle extends AbstractMapResourceBundle {
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.basilisk.runtime.core;
+
+import basilisk.core.MutableConfiguration;
+import basilisk.util.TypeUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Feeds a {@code MutableConfiguration} with the contents of properties files found on disk,
+ * reapplying them whenever they change. The path may point to a single file or to a
+ * directory, in which case every {@code *.properties} file is loaded in alphabetical
+ * order (thus {@code Config_dev.properties} overrides {@code Config.properties}).
+ * <p>
+ * Only keys that differ from the current configuration are updated; keys that disappear
+ * from the files after a reload are reverted when the target is a
+ * {@code DelegatingMutableConfiguration} (thus the delegate's value becomes visible again),
+ * otherwise they are removed. Change events are delivered by the target
+ * configuration (if it is an {@code ObservableConfiguration}) on the watcher thread.
+ *
+ * @author Andres Almiray
+ */
+public class FileWatchingConfigurationSource implements Closeable {
+    private static final Logger LOG = LoggerFactory.getLogger(FileWatchingConfigurationSource.class);
+    private static final String PROPERTIES_SUFFIX = ".properties";
+    private static final long DEFAULT_DEBOUNCE_MILLIS = 200L;
+
+    private final MutableConfiguration configuration;
+    private final Path path;
+    private final Path directory;
+    private final long debounceMillis;
+    private final Object lock = new Object();
+    private Map<String, Object> loadedValues = Collections.emptyMap();
+    private WatchService watchService;
+    private Thread watcher;
+
+    public FileWatchingConfigurationSource(@Nonnull MutableConfiguration configuration, @Nonnull Path path) {
+        this(configuration, path, DEFAULT_DEBOUNCE_MILLIS);
+    }
+
+    public FileWatchingConfigurationSource(@Nonnull MutableConfiguration configuration, @Nonnull Path path, long debounceMillis) {
+        this.configuration = requireNonNull(configuration, "Argument 'configuration' must not be null");
+        this.path = requireNonNull(path, "Argument 'path' must not be null").toAbsolutePath();
+        this.directory = Files.isDirectory(this.path) ? this.path : this.path.getParent();
+        this.debounceMillis = debounceMillis;
+    }
+
+    @Nonnull
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Loads the current contents of the watched files and starts watching for changes.
+     */
+    public void start() throws IOException {
+        synchronized (lock) {
+            if (watcher != null) {
+                return;
+            }
+            reload();
+            watchService = FileSystems.getDefault().newWatchService();
+            directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+            watcher = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    watch();
+                }
+            }, "basilisk-configuration-watcher");
+            watcher.setDaemon(true);
+            watcher.start();
+        }
+        LOG.info("Watching {} for configuration changes", path);
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (lock) {
+            if (watcher == null) {
+                return;
+            }
+            watcher.interrupt();
+            watcher = null;
+            watchService.close();
+            watchService = null;
+        }
+    }
+
+    /**
+     * Reads the watched files and applies every difference to the target configuration.
+     */
+    public void reload() {
+        Map<String, Object> values = load();
+        synchronized (lock) {
+            for (Map.Entry<String, Object> entry : values.entrySet()) {
+                if (!TypeUtils.equals(configuration.get(entry.getKey()), entry.getValue())) {
+                    configuration.set(entry.getKey(), entry.getValue());
+                }
+            }
+            for (String key : loadedValues.keySet()) {
+                if (!values.containsKey(key)) {
+                    if (configuration instanceof DelegatingMutableConfiguration) {
+                        ((DelegatingMutableConfiguration) configuration).revert(key);
+                    } else {
+                        configuration.remove(key);
+                    }
+                }
+            }
+            loadedValues = values;
+        }
+    }
+
+    private void watch() {
+        WatchService service = watchService;
+        while (!Thread.currentThread().isInterrupted()) {
+            WatchKey key;
+            try {
+                key = service.take();
+                // editors usually emit several events per save
+                Thread.sleep(debounceMillis);
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            }
+
+            boolean changed = false;
+            for (WatchEvent<?> event : key.pollEvents()) {
+                Object context = event.context();
+                if (context instanceof Path && isWatched(directory.resolve((Path) context))) {
+                    changed = true;
+                }
+            }
+            key.reset();
+
+            if (changed) {
+                try {
+                    reload();
+                } catch (RuntimeException e) {
+                    LOG.warn("Could not reload configuration from {}", path, e);
+                }
+            }
+        }
+    }
+
+    private boolean isWatched(@Nonnull Path file) {
+        if (Files.isDirectory(path)) {
+            return file.getFileName().toString().endsWith(PROPERTIES_SUFFIX);
+        }
+        return path.equals(file);
+    }
+
+    @Nonnull
+    private Map<String, Object> load() {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (Path file : resolveFiles()) {
+            Properties properties = new Properties();
+            try (InputStream in = Files.newInputStream(file)) {
+                properties.load(in);
+            } catch (IOException e) {
+                LOG.warn("Could not read configuration file {}", file, e);
+                continue;
+            }
+            for (String key : properties.stringPropertyNames()) {
+                values.put(key, properties.getProperty(key));
+            }
+        }
+        return values;
+    }
+
+    @Nonnull
+    private List<Path> resolveFiles() {
+        List<Path> files = new ArrayList<>();
+        if (Files.isDirectory(path)) {
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(path, "*" + PROPERTIES_SUFFIX)) {
+                for (Path file : stream) {
+                    files.add(file);
+                }
+            } catch (IOException e) {
+                LOG.warn("Could not list configuration files in {}", path, e);
+            }
+            Collections.sort(files);
+        } else if (Files.exists(path)) {
+            files.add(path);
+        }
+        return files;
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.basilisk.runtime.core;
+
+import basilisk.core.i18n.MessageSource;
+import basilisk.core.resources.ResourceResolver;
+import basilisk.core.threading.UIThreadManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+import static basilisk.util.BasiliskApplicationUtils.parseLocale;
+import static basilisk.util.BasiliskNameUtils.isBlank;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Loads messages and resources for a given Locale in the background.
+ * <p>
+ * Requests for the same Locale are deduplicated: while a Locale is being loaded every caller waits on the
+ * same load, and once loaded subsequent requests complete immediately. A Locale switch is applied only after
+ * its bundles are ready, thus the UI thread never blocks on bundle creation.
+ *
+ * @author Andres Almiray
+ */
+public class LocalePreloader {
+    private static final Logger LOG = LoggerFactory.getLogger(LocalePreloader.class);
+    private static final String ERROR_LOCALE_NULL = "Argument 'locale' must not be null";
+
+    private final MessageSource messageSource;
+    private final ResourceResolver resourceResolver;
+    private final UIThreadManager uiThreadManager;
+    private final ConcurrentMap<Locale, FutureTask<Locale>> loads = new ConcurrentHashMap<>();
+
+    public LocalePreloader(@Nonnull MessageSource messageSource, @Nonnull ResourceResolver resourceResolver, @Nonnull UIThreadManager uiThreadManager) {
+        this.messageSource = requireNonNull(messageSource, "Argument 'messageSource' must not be null");
+        this.resourceResolver = requireNonNull(resourceResolver, "Argument 'resourceResolver' must not be null");
+        this.uiThreadManager = requireNonNull(uiThreadManager, "Argument 'uiThreadManager' must not be null");
+    }
+
+    /**
+     * Loads the given Locale in the background.
+     *
+     * @param locale the Locale to be loaded
+     * @return a Future that completes once messages and resources for the Locale are available
+     */
+    @Nonnull
+    public Future<Locale> preload(@Nonnull Locale locale) {
+        return preload(locale, null);
+    }
+
+    /**
+     * Loads the given Locale in the background, then executes the supplied code inside the UI thread.
+     *
+     * @param locale  the Locale to be loaded
+     * @param onReady code to be executed inside the UI thread once the Locale has been loaded. May be null.
+     * @return a Future that completes once the Locale has been loaded and {@code onReady} has been executed
+     */
+    @Nonnull
+    public Future<Locale> preload(@Nonnull final Locale locale, @Nullable final Runnable onReady) {
+        requireNonNull(locale, ERROR_LOCALE_NULL);
+        return uiThreadManager.runFuture(new Callable<Locale>() {
+            @Override
+            public Locale call() throws Exception {
+                load(locale);
+                if (onReady != null) {
+                    uiThreadManager.runInsideUISync(onReady);
+                }
+                return locale;
+            }
+        });
+    }
+
+    /**
+     * Loads every Locale in the given collection in the background.
+     */
+    public void preload(@Nonnull Collection<Locale> locales) {
+        requireNonNull(locales, "Argument 'locales' must not be null");
+        for (Locale locale : locales) {
+            preload(locale);
+        }
+    }
+
+    /**
+     * Loads the given Locale in the calling thread, waiting for a load already in progress if there is one.
+     *
+     * @param locale the Locale to be loaded
+     */
+    public void load(@Nonnull final Locale locale) {
+        requireNonNull(locale, ERROR_LOCALE_NULL);
+        FutureTask<Locale> task = new FutureTask<>(new Callable<Locale>() {
+            @Override
+            public Locale call() throws Exception {
+                LOG.debug("Loading messages and resources for locale {}", locale);
+                messageSource.prewarm(locale);
+                resourceResolver.prewarm(locale);
+                return locale;
+            }
+        });
+        FutureTask<Locale> existing = loads.putIfAbsent(locale, task);
+        if (existing != null) {
+            task = existing;
+        }
+
+        // running a task that has already started or completed has no effect
+        task.run();
+        try {
+            task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading locale " + locale, e);
+        } catch (ExecutionException e) {
+            // forget the failed load so that it may be retried
+            loads.remove(locale, task);
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * Converts a configuration value into a list of Locales. Accepts a {@code Collection}, an array or a
+     * comma separated String of Locale literals such as {@code en_US}.
+     */
+    @Nonnull
+    public static List<Locale> toLocales(@Nullable Object value) {
+        if (value == null) {
+            return Collections.emptyList();
+        }
+
+        Collection<?> literals;
+        if (value instanceof Collection) {
+            literals = (Collection<?>) value;
+        } else if (value.getClass().isArray()) {
+            List<Object> list = new ArrayList<>();
+            Collections.addAll(list, (Object[]) value);
+            literals = list;
+        } else {
+            List<Object> list = new ArrayList<>();
+            Collections.addAll(list, (Object[]) String.valueOf(value).split(","));
+            literals = list;
+        }
+
+        List<Locale> locales = new ArrayList<>();
+        for (Object literal : literals) {
+            if (literal instanceof Locale) {
+                locales.add((Locale) literal);
+            } else if (literal != null && !isBlank(String.valueOf(literal))) {
+                locales.add(parseLocale(String.valueOf(literal).trim()));
+            }
+        }
+        return locales;
+    }
+}
@@ -15,6 +15,8 @@
  */
 package org.kordamp.basilisk.runtime.core;
 
+import basilisk.core.ConfigurationSnapshot;
+
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.inject.Inject;
@@ -36,6 +38,7 @@ public class ResourceBundleConfiguration extends AbstractConfiguration {
     protected static final String ERROR_KEY_BLANK = "Argument 'key' must not be blank";
     private final ResourceBundle resourceBundle;
     private final Map<String, Object> flatMap = new LinkedHashMap<>();
+    private final ConfigurationSnapshot snapshot;
 
     @Inject
     public ResourceBundleConfiguration(@Nonnull ResourceBundle resourceBundle) {
@@ -45,6 +48,7 @@ public class ResourceBundleConfiguration extends AbstractConfiguration {
             String key = keys.nextElement();
             flatMap.put(key, getConfigValue(resourceBundle, key));
         }
+        snapshot = ConfigurationSnapshot.of(this);
     }
 
     public boolean containsKey(@Nonnull String key) {
@@ -63,13 +67,56 @@ public class ResourceBundleConfiguration extends AbstractConfiguration {
         return resourceBundle;
     }
 
+    @Nonnull
+    @Override
+    public ConfigurationSnapshot snapshot() {
+        return snapshot;
+    }
+
     @Nullable
     @Override
     public Object get(@Nonnull String key) {
+        requireNonBlank(key, ERROR_KEY_BLANK);
+        if (snapshot != null) {
+            return snapshot.get(key);
+        }
+
+        // snapshot is being built
         try {
             return getConfigValue(resourceBundle, key);
         } catch (MissingResourceException mre) {
             return null;
         }
     }
+
+    @Override
+    public boolean getAsBoolean(@Nonnull String key, boolean defaultValue) {
+        return snapshot.getAsBoolean(requireNonBlank(key, ERROR_KEY_BLANK), defaultValue);
+    }
+
+    @Override
+    public int getAsInt(@Nonnull String key, int defaultValue) {
+        return snapshot.getAsInt(requireNonBlank(key, ERROR_KEY_BLANK), defaultValue);
+    }
+
+    @Override
+    public long getAsLong(@Nonnull String key, long defaultValue) {
+        return snapshot.getAsLong(requireNonBlank(key, ERROR_KEY_BLANK), defaultValue);
+    }
+
+    @Override
+    public float getAsFloat(@Nonnull String key, float defaultValue) {
+        return snapshot.getAsFloat(requireNonBlank(key, ERROR_KEY_BLANK), defaultValue);
+    }
+
+    @Override
+    public double getAsDouble(@Nonnull String key, double defaultValue) {
+        return snapshot.getAsDouble(requireNonBlank(key, ERROR_KEY_BLANK), defaultValue);
+    }
+
+    @Nullable
+    @Override
+    public String getAsString(@Nonnull String key, @Nullable String defaultValue) {
+        return snapshot.getAsString(requireNonBlank(key, ERROR_KEY_BLANK), defaultValue);
+    }
 }
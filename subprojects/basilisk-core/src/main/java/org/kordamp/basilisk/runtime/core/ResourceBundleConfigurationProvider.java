@@ -16,18 +16,32 @@
 package org.kordamp.basilisk.runtime.core;
 
 import basilisk.core.Configuration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nonnull;
+import javax.annotation.PreDestroy;
 import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Provider;
+import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.ResourceBundle;
 
+import static basilisk.util.BasiliskNameUtils.isBlank;
 import static java.util.Objects.requireNonNull;
 
 /**
+ * Setting {@code basilisk.configuration.watch} to a properties file or directory enables
+ * hot reloading of configuration values, see {@link FileWatchingConfigurationSource}. The
+ * watcher is closed when the configuration is destroyed on application shutdown.
+ *
  * @author Andres Almiray
  */
 public class ResourceBundleConfigurationProvider implements Provider<Configuration> {
+    private static final Logger LOG = LoggerFactory.getLogger(ResourceBundleConfigurationProvider.class);
+    private static final String KEY_CONFIGURATION_WATCH = "basilisk.configuration.watch";
+
     @Inject @Named("applicationResourceBundle")
     private ResourceBundle resourceBundle;
 
@@ -39,6 +53,43 @@ public class ResourceBundleConfigurationProvider implements Provider<Configurati
         requireNonNull(resourceBundle, "Argument 'resourceBundle' must not be null");
         requireNonNull(configurationDecoratorFactory, "Argument 'configurationDecoratorFactory' must not be null");
         ResourceBundleConfiguration configuration = new ResourceBundleConfiguration(resourceBundle);
-        return configurationDecoratorFactory.create(configuration);
+        ConfigurationDecorator decorated = configurationDecoratorFactory.create(configuration);
+
+        String watchPath = decorated.getAsString(KEY_CONFIGURATION_WATCH, null);
+        if (isBlank(watchPath)) {
+            return decorated;
+        }
+
+        WatchedConfiguration watched = new WatchedConfiguration(decorated);
+        FileWatchingConfigurationSource source = new FileWatchingConfigurationSource(watched, Paths.get(watchPath));
+        try {
+            source.start();
+            watched.source = source;
+        } catch (IOException e) {
+            LOG.warn("Could not watch {} for configuration changes", watchPath, e);
+        }
+        return watched;
+    }
+
+    private static final class WatchedConfiguration extends DelegatingMutableConfiguration {
+        private volatile FileWatchingConfigurationSource source;
+
+        private WatchedConfiguration(@Nonnull Configuration delegate) {
+            super(delegate);
+        }
+
+        @PreDestroy
+        private void destroy() {
+            FileWatchingConfigurationSource s = source;
+            if (s == null) {
+                return;
+            }
+            source = null;
+            try {
+                s.close();
+            } catch (IOException e) {
+                LOG.warn("Could not stop watching {} for configuration changes", s.getPath(), e);
+            }
+        }
     }
 }
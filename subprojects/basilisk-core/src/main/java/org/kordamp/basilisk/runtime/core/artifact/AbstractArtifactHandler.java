@@ -24,6 +24,7 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.inject.Inject;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.TreeMap;
 
@@ -43,6 +44,7 @@ public abstract class AbstractArtifactHandler<A extends BasiliskArtifact> implem
     private final BasiliskApplication application;
     private final Map<String, BasiliskClass> classesByName = new TreeMap<>();
     private BasiliskClass[] basiliskClasses = new BasiliskClass[0];
+    private volatile Map<String, BasiliskClass> classesBySimpleName = Collections.emptyMap();
 
     @Inject
     public AbstractArtifactHandler(@Nonnull BasiliskApplication application, @Nonnull Class<A> artifactType, @Nonnull String type, @Nonnull String trailing) {
@@ -69,12 +71,18 @@ public abstract class AbstractArtifactHandler<A extends BasiliskArtifact> implem
 
     public void initialize(@Nonnull Class<A>[] classes) {
         basiliskClasses = new BasiliskClass[classes.length];
+        Map<String, BasiliskClass> simpleNames = new HashMap<>();
         for (int i = 0; i < classes.length; i++) {
             Class<A> klass = classes[i];
             BasiliskClass basiliskClass = newBasiliskClassInstance(klass);
             basiliskClasses[i] = basiliskClass;
             classesByName.put(klass.getName(), basiliskClass);
+            // findClassFor() resolves to the first class with a given simple name
+            if (!simpleNames.containsKey(klass.getSimpleName())) {
+                simpleNames.put(klass.getSimpleName(), basiliskClass);
+            }
         }
+        classesBySimpleName = simpleNames;
     }
 
     @Nonnull
@@ -138,13 +146,7 @@ public abstract class AbstractArtifactHandler<A extends BasiliskArtifact> implem
             simpleName += trailing;
         }
 
-        for (BasiliskClass basiliskClass : basiliskClasses) {
-            if (basiliskClass.getClazz().getSimpleName().equals(simpleName)) {
-                return basiliskClass;
-            }
-        }
-
-        return null;
+        return classesBySimpleName.get(simpleName);
     }
 
     @Nonnull
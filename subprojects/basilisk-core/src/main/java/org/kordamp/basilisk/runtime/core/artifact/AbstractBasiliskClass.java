@@ -19,6 +19,7 @@ import basilisk.core.BasiliskApplication;
 import basilisk.core.artifact.BasiliskClass;
 import basilisk.util.BasiliskClassUtils;
 import basilisk.util.BasiliskNameUtils;
+import basilisk.util.MethodDescriptor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -190,6 +191,16 @@ public abstract class AbstractBasiliskClass implements BasiliskClass {
     @Nonnull
     public String[] getEventNames() {
         if (eventsCache.isEmpty()) {
+            ArtifactMetadata metadata = ArtifactMetadata.forClass(getClazz());
+            if (metadata != null) {
+                for (MethodDescriptor method : metadata.getMethods().keySet()) {
+                    if (isPlainMethod(method) && isEventHandler(method.getName())) {
+                        eventsCache.add(method.getName().substring(2));
+                    }
+                }
+                return eventsCache.toArray(new String[eventsCache.size()]);
+            }
+
             for (Method method : getClazz().getMethods()) {
                 String methodName = method.getName();
                 if (!eventsCache.contains(methodName) &&
@@ -0,0 +1,253 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.basilisk.runtime.core.artifact;
+
+import basilisk.core.resources.InjectedResource;
+import basilisk.inject.Contextual;
+import basilisk.util.MethodDescriptor;
+import com.googlecode.openbeans.PropertyDescriptor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.security.CodeSource;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static basilisk.util.BasiliskClassUtils.getPropertyDescriptors;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Artifact metadata generated at compile time by {@code ArtifactProviderProcessor}, read from
+ * {@code META-INF/basilisk/metadata/<binary class name>}. Callers fall back to reflection when
+ * a class has no metadata, for example when it was compiled without the annotation processor.
+ * <p>
+ * Inherited members are only taken from the metadata when the superclass was loaded from the same
+ * location as the class. Superclasses loaded from elsewhere, a library jar for example, may have been
+ * recompiled since the metadata was generated, so their members are inspected by reflection.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+public final class ArtifactMetadata {
+    private static final Logger LOG = LoggerFactory.getLogger(ArtifactMetadata.class);
+    private static final String METADATA_PATH = "META-INF/basilisk/metadata/";
+    private static final String VERSION = "2";
+    private static final Object NULL_VALUE = new Object();
+
+    private static final ClassValue<Object> metadata = new ClassValue<Object>() {
+        @Override
+        protected Object computeValue(Class<?> type) {
+            ArtifactMetadata artifactMetadata = load(type);
+            return artifactMetadata != null ? artifactMetadata : NULL_VALUE;
+        }
+    };
+
+    private final Map<MethodDescriptor, String> methods;
+    private final Set<String> contextualMembers;
+    private final Set<String> resourceMembers;
+
+    private ArtifactMetadata(@Nonnull Map<MethodDescriptor, String> methods, @Nonnull Set<String> contextualMembers, @Nonnull Set<String> resourceMembers) {
+        this.methods = Collections.unmodifiableMap(methods);
+        this.contextualMembers = Collections.unmodifiableSet(contextualMembers);
+        this.resourceMembers = Collections.unmodifiableSet(resourceMembers);
+    }
+
+    /**
+     * Returns the generated metadata of the given class.
+     *
+     * @param type the artifact class
+     * @return the metadata of {@code type} or {@code null} if none was generated
+     */
+    @Nullable
+    public static ArtifactMetadata forClass(@Nonnull Class<?> type) {
+        requireNonNull(type, "Argument 'type' must not be null");
+        Object value = metadata.get(type);
+        return value != NULL_VALUE ? (ArtifactMetadata) value : null;
+    }
+
+    /**
+     * Returns the public instance methods of the class and its superclasses, except those of
+     * {@code Object}, mapped to the name of their return type. Descriptors carry the modifiers
+     * reported by {@code Method.getModifiers()}.
+     */
+    @Nonnull
+    public Map<MethodDescriptor, String> getMethods() {
+        return methods;
+    }
+
+    /**
+     * Returns the {@code @Contextual} members of the class hierarchy, as {@code "field <name>"}
+     * or {@code "property <name>"}.
+     */
+    @Nonnull
+    public Set<String> getContextualMembers() {
+        return contextualMembers;
+    }
+
+    /**
+     * Returns the {@code @InjectedResource} members of the class hierarchy, as {@code "field <name>"}
+     * or {@code "property <name>"}.
+     */
+    @Nonnull
+    public Set<String> getResourceMembers() {
+        return resourceMembers;
+    }
+
+    @Nullable
+    private static ArtifactMetadata load(@Nonnull Class<?> type) {
+        ClassLoader classLoader = type.getClassLoader();
+        if (classLoader == null) {
+            return null;
+        }
+
+        URL url = classLoader.getResource(METADATA_PATH + type.getName());
+        if (url == null) {
+            return null;
+        }
+
+        try (InputStream in = url.openStream()) {
+            return parse(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)), type);
+        } catch (IOException | RuntimeException e) {
+            LOG.warn("Could not read metadata of {} from {}", type.getName(), url, e);
+            return null;
+        }
+    }
+
+    @Nullable
+    static ArtifactMetadata parse(@Nonnull BufferedReader reader) throws IOException {
+        return parse(reader, null);
+    }
+
+    @Nullable
+    private static ArtifactMetadata parse(@Nonnull BufferedReader reader, @Nullable Class<?> type) throws IOException {
+        Map<MethodDescriptor, String> methods = new LinkedHashMap<>();
+        Set<String> contextualMembers = new LinkedHashSet<>();
+        Set<String> resourceMembers = new LinkedHashSet<>();
+        boolean supported = false;
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            int separator = line.indexOf('=');
+            if (separator < 0) {
+                continue;
+            }
+            String key = line.substring(0, separator).trim();
+            String value = line.substring(separator + 1).trim();
+            switch (key) {
+                case "version":
+                    supported = VERSION.equals(value);
+                    break;
+                case "method":
+                    parseMethod(value, methods);
+                    break;
+                case "contextual":
+                    contextualMembers.add(value);
+                    break;
+                case "resource":
+                    resourceMembers.add(value);
+                    break;
+                default:
+                    // ignore unknown entries
+            }
+        }
+
+        if (!supported) {
+            return null;
+        }
+        if (type != null) {
+            addMembersOfForeignSuperclasses(type, contextualMembers, resourceMembers);
+        }
+        return new ArtifactMetadata(methods, contextualMembers, resourceMembers);
+    }
+
+    private static void addMembersOfForeignSuperclasses(@Nonnull Class<?> type, @Nonnull Set<String> contextualMembers, @Nonnull Set<String> resourceMembers) {
+        Set<Class<?>> foreignSuperclasses = new HashSet<>();
+        for (Class<?> superclass = type.getSuperclass(); superclass != null && superclass != Object.class; superclass = superclass.getSuperclass()) {
+            if (!isSameLocation(type, superclass)) {
+                foreignSuperclasses.add(superclass);
+                for (Field field : superclass.getDeclaredFields()) {
+                    addMember(field, "field " + field.getName(), contextualMembers, resourceMembers);
+                }
+            }
+        }
+
+        if (foreignSuperclasses.isEmpty()) {
+            return;
+        }
+        for (PropertyDescriptor descriptor : getPropertyDescriptors(type)) {
+            Method method = descriptor.getWriteMethod();
+            if (method != null && foreignSuperclasses.contains(method.getDeclaringClass())) {
+                addMember(method, "property " + descriptor.getName(), contextualMembers, resourceMembers);
+            }
+        }
+    }
+
+    private static void addMember(@Nonnull AnnotatedElement member, @Nonnull String name, @Nonnull Set<String> contextualMembers, @Nonnull Set<String> resourceMembers) {
+        if (member.isAnnotationPresent(Contextual.class)) {
+            contextualMembers.add(name);
+        }
+        if (member.isAnnotationPresent(InjectedResource.class)) {
+            resourceMembers.add(name);
+        }
+    }
+
+    private static boolean isSameLocation(@Nonnull Class<?> type, @Nonnull Class<?> other) {
+        if (type.getClassLoader() != other.getClassLoader()) {
+            return false;
+        }
+        String location = locationOf(type);
+        return location != null && location.equals(locationOf(other));
+    }
+
+    @Nullable
+    private static String locationOf(@Nonnull Class<?> type) {
+        CodeSource codeSource = type.getProtectionDomain().getCodeSource();
+        // compare external forms as URL.equals() may resolve host names
+        return codeSource != null && codeSource.getLocation() != null ? codeSource.getLocation().toExternalForm() : null;
+    }
+
+    private static void parseMethod(@Nonnull String value, @Nonnull Map<MethodDescriptor, String> methods) {
+        // <modifiers> <returnType> <name>(<paramType>,<paramType>)
+        int first = value.indexOf(' ');
+        int second = value.indexOf(' ', first + 1);
+        int open = value.indexOf('(', second);
+        int close = value.lastIndexOf(')');
+        if (first < 0 || second < 0 || open < 0 || close < open) {
+            throw new IllegalArgumentException("Invalid method entry '" + value + "'");
+        }
+
+        int modifiers = Integer.parseInt(value.substring(0, first));
+        String params = value.substring(open + 1, close).trim();
+        String[] paramTypes = params.isEmpty() ? new String[0] : params.split(",");
+        MethodDescriptor descriptor = new MethodDescriptor(value.substring(second + 1, open), paramTypes, modifiers);
+        methods.put(descriptor, value.substring(first + 1, second));
+    }
+}
@@ -18,9 +18,11 @@ package org.kordamp.basilisk.runtime.core.artifact;
 import basilisk.core.BasiliskApplication;
 import basilisk.core.artifact.BasiliskControllerClass;
 import basilisk.util.BasiliskClassUtils;
+import basilisk.util.MethodDescriptor;
 
 import javax.annotation.Nonnull;
 import java.lang.reflect.Method;
+import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
 
@@ -42,6 +44,19 @@ public class DefaultBasiliskControllerClass extends DefaultBasiliskClass impleme
     @Nonnull
     public String[] getActionNames() {
         if (actionsCache.isEmpty()) {
+            ArtifactMetadata metadata = ArtifactMetadata.forClass(getClazz());
+            if (metadata != null) {
+                for (Map.Entry<MethodDescriptor, String> method : metadata.getMethods().entrySet()) {
+                    String methodName = method.getKey().getName();
+                    if (BasiliskClassUtils.isPlainMethod(method.getKey()) &&
+                        !BasiliskClassUtils.isEventHandler(methodName) &&
+                        "void".equals(method.getValue())) {
+                        actionsCache.add(methodName);
+                    }
+                }
+                return actionsCache.toArray(new String[actionsCache.size()]);
+            }
+
             for (Method method : getClazz().getMethods()) {
                 String methodName = method.getName();
                 if (!actionsCache.contains(methodName) &&
@@ -17,7 +17,9 @@ package org.kordamp.basilisk.runtime.core.controller;
 
 import basilisk.core.BasiliskApplication;
 import basilisk.core.Configuration;
+import basilisk.core.ConfigurationSnapshot;
 import basilisk.core.Context;
+import basilisk.core.ObservableConfiguration;
 import basilisk.core.artifact.BasiliskController;
 import basilisk.core.artifact.BasiliskControllerClass;
 import basilisk.core.controller.AbortActionExecution;
@@ -27,7 +29,6 @@ import basilisk.core.controller.ActionHandler;
 import basilisk.core.controller.ActionInterceptor;
 import basilisk.core.controller.ActionManager;
 import basilisk.core.i18n.MessageSource;
-import basilisk.core.i18n.NoSuchMessageException;
 import basilisk.core.mvc.MVCGroup;
 import basilisk.core.threading.UIThreadManager;
 import basilisk.exceptions.BasiliskException;
@@ -35,6 +36,7 @@ import basilisk.exceptions.InstanceMethodInvocationException;
 import basilisk.inject.Contextual;
 import basilisk.transform.Threading;
 import basilisk.util.AnnotationUtils;
+import basilisk.util.ClassMetadata;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -50,10 +52,12 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.EventObject;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static basilisk.core.BasiliskExceptionHandler.sanitize;
 import static basilisk.util.BasiliskClassUtils.EMPTY_ARGS;
@@ -86,6 +90,7 @@ public abstract class AbstractActionManager implements ActionManager {
     private final ActionCache actionCache = new ActionCache();
     private final Map<String, Threading.Policy> threadingPolicies = new ConcurrentHashMap<>();
     private final List<ActionHandler> handlers = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean configurationObserved = new AtomicBoolean(false);
 
     private final BasiliskApplication application;
 
@@ -96,7 +101,7 @@ public abstract class AbstractActionManager implements ActionManager {
 
     @Nullable
     private static Method findActionAsMethod(@Nonnull BasiliskController controller, @Nonnull String actionName) {
-        for (Method method : controller.getClass().getMethods()) {
+        for (Method method : ClassMetadata.of(controller.getClass()).getMethods()) {
             if (actionName.equals(method.getName()) &&
                 isPublic(method.getModifiers()) &&
                 !isStatic(method.getModifiers()) &&
@@ -256,8 +261,10 @@ public abstract class AbstractActionManager implements ActionManager {
                         doInvokeAction(controller, actionName, updatedArgs);
                     } catch (RuntimeException e) {
                         status = ActionExecutionStatus.EXCEPTION;
-                        exception = (RuntimeException) sanitize(e);
-                        LOG.warn("An exception occurred when executing {}", qualifiedActionName, exception);
+                        exception = e;
+                        if (LOG.isWarnEnabled()) {
+                            LOG.warn("An exception occurred when executing {}", qualifiedActionName, sanitize(exception));
+                        }
                     }
                     LOG.trace("Status after execution of {} is {}", qualifiedActionName, status);
 
@@ -348,6 +355,7 @@ public abstract class AbstractActionManager implements ActionManager {
         String fullQualifiedActionName = controller.getClass().getName() + "." + actionName;
         Threading.Policy policy = threadingPolicies.get(fullQualifiedActionName);
         if (policy == null) {
+            observeConfiguration();
             if (isThreadingDisabled(fullQualifiedActionName)) {
                 policy = Threading.Policy.SKIP;
             } else {
@@ -425,18 +433,34 @@ public abstract class AbstractActionManager implements ActionManager {
         }
     }
 
+    private void observeConfiguration() {
+        Configuration configuration = getConfiguration();
+        if (configuration instanceof ObservableConfiguration && configurationObserved.compareAndSet(false, true)) {
+            ((ObservableConfiguration) configuration).addConfigurationChangeListener(new ObservableConfiguration.ConfigurationChangeListener() {
+                @Override
+                public void configurationChanged(@Nonnull ObservableConfiguration.ConfigurationChangeEvent event) {
+                    String key = event.getKey();
+                    if (key.startsWith(KEY_THREADING) || KEY_DISABLE_THREADING_INJECTION.equals(key)) {
+                        LOG.debug("Configuration key {} changed; clearing cached threading policies", key);
+                        threadingPolicies.clear();
+                    }
+                }
+            });
+        }
+    }
+
     private boolean isThreadingDisabled(@Nonnull String actionName) {
-        if (getConfiguration().getAsBoolean(KEY_DISABLE_THREADING_INJECTION, false)) {
+        ConfigurationSnapshot settings = getConfiguration().snapshot();
+        if (settings.getAsBoolean(KEY_DISABLE_THREADING_INJECTION, false)) {
             return true;
         }
 
-        Map<String, Object> settings = getConfiguration().asFlatMap();
-
         String keyName = KEY_THREADING + "." + actionName;
         while (!KEY_THREADING.equals(keyName)) {
             Object value = settings.get(keyName);
             keyName = keyName.substring(0, keyName.lastIndexOf("."));
-            if (value != null && !castToBoolean(value)) return true;
+            // nested nodes are not flat settings
+            if (value != null && !(value instanceof Map) && !castToBoolean(value)) return true;
         }
 
         return false;
@@ -492,11 +516,13 @@ public abstract class AbstractActionManager implements ActionManager {
 
     @Nullable
     protected String msg(@Nonnull String key, @Nonnull String actionName, @Nonnull String subkey, @Nullable String defaultValue) {
-        try {
-            return getMessageSource().getMessage(key + actionName + "." + subkey);
-        } catch (NoSuchMessageException nsme) {
-            return getMessageSource().getMessage("application.action." + actionName + "." + subkey, defaultValue);
+        MessageSource messageSource = getMessageSource();
+        String actionKey = key + actionName + "." + subkey;
+        String message = messageSource.findMessage(actionKey, EMPTY_ARGS, Locale.getDefault());
+        if (message != null) {
+            return message;
         }
+        return messageSource.getMessage("application.action." + actionName + "." + subkey, defaultValue);
     }
 
     private static class ActionWrapper extends ActionDecorator {
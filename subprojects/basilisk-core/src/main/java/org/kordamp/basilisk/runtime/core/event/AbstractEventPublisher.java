@@ -204,4 +204,10 @@ public abstract class AbstractEventPublisher implements EventPublisher {
         requireNonBlank(eventName, ERROR_EVENT_NAME_BLANK);
         return eventRouter.getEventListeners(eventName);
     }
+
+    @Override
+    public boolean hasEventListeners(@Nonnull String eventName) {
+        requireNonBlank(eventName, ERROR_EVENT_NAME_BLANK);
+        return eventRouter.hasEventListeners(eventName);
+    }
 }
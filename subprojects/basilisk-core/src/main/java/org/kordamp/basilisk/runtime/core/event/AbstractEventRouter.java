@@ -21,7 +21,9 @@ import basilisk.core.ExecutorServiceManager;
 import basilisk.core.RunnableWithArgs;
 import basilisk.core.event.Event;
 import basilisk.core.event.EventRouter;
+import basilisk.util.ArgumentSignature;
 import basilisk.util.BasiliskClassUtils;
+import basilisk.util.ClassMetadata;
 import basilisk.util.MethodDescriptor;
 import basilisk.util.MethodUtils;
 import org.slf4j.Logger;
@@ -39,12 +41,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicInteger;
 
-import static basilisk.util.BasiliskClassUtils.convertToTypeArray;
+import static basilisk.util.BasiliskClassUtils.isAssignableOrConvertibleFrom;
 import static basilisk.util.BasiliskNameUtils.capitalize;
 import static basilisk.util.BasiliskNameUtils.requireNonBlank;
 import static java.util.Arrays.asList;
@@ -135,6 +138,7 @@ public abstract class AbstractEventRouter implements EventRouter {
         if (!isEventPublishingEnabled()) return;
         requireNonBlank(eventName, ERROR_EVENT_NAME_BLANK);
         if (params == null) params = EMPTY_LIST;
+        if (!hasEventListeners(eventName)) return;
         buildPublisher(eventName, params, "synchronously").run();
     }
 
@@ -217,12 +221,11 @@ public abstract class AbstractEventRouter implements EventRouter {
         requireNonBlank(eventHandler, ERROR_EVENT_HANDLER_BLANK);
         requireNonNull(params, ERROR_PARAMS_NULL);
 
-        Class[] argTypes = convertToTypeArray(asArray(params));
-        MethodDescriptor target = new MethodDescriptor(eventHandler, argTypes);
-        Method method = methodCache.findMatchingMethodFor(instance.getClass(), target);
+        Object[] args = asArray(params);
+        Method method = methodCache.findMatchingMethodFor(instance.getClass(), eventHandler, ArgumentSignature.forArguments(args));
 
         if (method != null) {
-            MethodUtils.invokeSafe(method, instance, asArray(params));
+            MethodUtils.invokeSafe(method, instance, args);
         }
     }
 
@@ -261,7 +264,7 @@ public abstract class AbstractEventRouter implements EventRouter {
         }
 
         boolean added = false;
-        for (String eventName : methodCache.fetchMethodMetadata(listener.getClass()).keySet()) {
+        for (String eventName : methodCache.getMethodMetadata(listener.getClass()).keySet()) {
             eventName = eventName.substring(2); // cut off "on" from the name
             List<Object> instances = instanceListeners.get(eventName);
             if (instances == null) {
@@ -319,7 +322,7 @@ public abstract class AbstractEventRouter implements EventRouter {
         }
 
         boolean removed = false;
-        for (String eventName : methodCache.fetchMethodMetadata(listener.getClass()).keySet()) {
+        for (String eventName : methodCache.getMethodMetadata(listener.getClass()).keySet()) {
             eventName = eventName.substring(2); // cut off "on" from the name
             List<Object> instances = instanceListeners.get(eventName);
             if (instances != null && instances.contains(listener)) {
@@ -448,6 +451,22 @@ public abstract class AbstractEventRouter implements EventRouter {
         return unmodifiableCollection(listeners);
     }
 
+    @Override
+    public boolean hasEventListeners(@Nonnull String eventName) {
+        requireNonBlank(eventName, ERROR_EVENT_NAME_BLANK);
+        eventName = capitalize(eventName);
+        List<Object> instances = instanceListeners.get(eventName);
+        if (instances != null) {
+            synchronized (instances) {
+                if (!instances.isEmpty()) return true;
+            }
+        }
+        synchronized (functionalListeners) {
+            List<Object> list = functionalListeners.get(eventName);
+            return list != null && !list.isEmpty();
+        }
+    }
+
     protected Runnable buildPublisher(@Nonnull final String event, @Nonnull final List<?> params, @Nonnull final String mode) {
         requireNonNull(event, ERROR_EVENT_NULL);
         requireNonNull(params, ERROR_PARAMS_NULL);
@@ -524,26 +543,18 @@ public abstract class AbstractEventRouter implements EventRouter {
     }
 
     protected static class MethodCache {
+        private static final Object NO_METHOD = new Object();
+
         private final Map<Class<?>, Map<String, List<MethodInfo>>> methodMap = new ConcurrentHashMap<>();
+        private final ConcurrentMap<Class<?>, ConcurrentMap<String, ConcurrentMap<ArgumentSignature, Object>>> resolvedMethods = new ConcurrentHashMap<>();
 
         public boolean isEventListener(@Nonnull Class<?> klass) {
-            Map<String, List<MethodInfo>> methodMetadata = methodMap.get(klass);
-            if (methodMetadata == null) {
-                methodMetadata = fetchMethodMetadata(klass);
-                if (!methodMetadata.isEmpty()) {
-                    methodMap.put(klass, methodMetadata);
-                } else {
-                    methodMetadata = null;
-                }
-            }
-            return methodMetadata != null;
+            return !getMethodMetadata(klass).isEmpty();
         }
 
         @Nullable
         public Method findMatchingMethodFor(@Nonnull Class<?> klass, @Nonnull MethodDescriptor target) {
-            Map<String, List<MethodInfo>> methodMetadata = methodMap.get(klass);
-
-            List<MethodInfo> descriptors = methodMetadata.get(target.getName());
+            List<MethodInfo> descriptors = getMethodMetadata(klass).get(target.getName());
             if (descriptors != null) {
                 for (MethodInfo info : descriptors) {
                     if (info.descriptor.matches(target)) {
@@ -555,10 +566,80 @@ public abstract class AbstractEventRouter implements EventRouter {
             return null;
         }
 
+        /**
+         * Finds the event handler matching the given argument types. Results are cached per
+         * class, handler name and signature, so overloaded handlers are only scanned once per
+         * distinct signature.
+         *
+         * @since 0.3.0
+         */
+        @Nullable
+        public Method findMatchingMethodFor(@Nonnull Class<?> klass, @Nonnull String name, @Nonnull ArgumentSignature signature) {
+            // only handlers that exist are cached, thus non listener classes and unknown names leave no trace
+            List<MethodInfo> descriptors = getMethodMetadata(klass).get(name);
+            if (descriptors == null) {
+                return null;
+            }
+
+            ConcurrentMap<String, ConcurrentMap<ArgumentSignature, Object>> methodsByName = resolvedMethods.get(klass);
+            if (methodsByName == null) {
+                methodsByName = new ConcurrentHashMap<>();
+                ConcurrentMap<String, ConcurrentMap<ArgumentSignature, Object>> existing = resolvedMethods.putIfAbsent(klass, methodsByName);
+                if (existing != null) {
+                    methodsByName = existing;
+                }
+            }
+
+            ConcurrentMap<ArgumentSignature, Object> methodsBySignature = methodsByName.get(name);
+            if (methodsBySignature == null) {
+                methodsBySignature = new ConcurrentHashMap<>();
+                ConcurrentMap<ArgumentSignature, Object> existing = methodsByName.putIfAbsent(name, methodsBySignature);
+                if (existing != null) {
+                    methodsBySignature = existing;
+                }
+            }
+
+            Object method = methodsBySignature.get(signature);
+            if (method == null) {
+                method = resolveMethod(descriptors, signature);
+                methodsBySignature.putIfAbsent(signature, method);
+            }
+            return method != NO_METHOD ? (Method) method : null;
+        }
+
+        @Nonnull
+        private Object resolveMethod(@Nonnull List<MethodInfo> descriptors, @Nonnull ArgumentSignature signature) {
+            // exact matches win over compatible ones
+            for (MethodInfo info : descriptors) {
+                if (info.matchesExactly(signature)) {
+                    return info.method;
+                }
+            }
+            for (MethodInfo info : descriptors) {
+                if (info.accepts(signature)) {
+                    return info.method;
+                }
+            }
+            return NO_METHOD;
+        }
+
+        @Nonnull
+        private Map<String, List<MethodInfo>> getMethodMetadata(@Nonnull Class<?> klass) {
+            Map<String, List<MethodInfo>> methodMetadata = methodMap.get(klass);
+            if (methodMetadata == null) {
+                methodMetadata = fetchMethodMetadata(klass);
+                // classes without handlers are not cached, they are rarely looked up again
+                if (!methodMetadata.isEmpty()) {
+                    methodMap.put(klass, methodMetadata);
+                }
+            }
+            return methodMetadata;
+        }
+
         private Map<String, List<MethodInfo>> fetchMethodMetadata(Class<?> klass) {
             Map<String, List<MethodInfo>> methodMetadata = new LinkedHashMap<>();
 
-            for (Method method : klass.getMethods()) {
+            for (Method method : ClassMetadata.of(klass).getMethods()) {
                 MethodDescriptor descriptor = MethodDescriptor.forMethod(method);
                 if (BasiliskClassUtils.isEventHandler(descriptor)) {
                     String methodName = method.getName();
@@ -578,10 +659,12 @@ public abstract class AbstractEventRouter implements EventRouter {
     protected static class MethodInfo {
         private final MethodDescriptor descriptor;
         private final Method method;
+        private final Class<?>[] parameterTypes;
 
         public MethodInfo(MethodDescriptor descriptor, Method method) {
             this.descriptor = descriptor;
             this.method = method;
+            this.parameterTypes = method.getParameterTypes();
         }
 
         public MethodDescriptor getDescriptor() {
@@ -591,6 +674,39 @@ public abstract class AbstractEventRouter implements EventRouter {
         public Method getMethod() {
             return method;
         }
+
+        private boolean matchesExactly(@Nonnull ArgumentSignature signature) {
+            if (signature.isExactly(parameterTypes)) {
+                return true;
+            }
+            if (signature.size() != parameterTypes.length) {
+                return false;
+            }
+            // a wrapper argument is an exact match for its primitive parameter
+            for (int i = 0; i < parameterTypes.length; i++) {
+                if (signature.getType(i) != MethodUtils.toNonPrimitiveClass(parameterTypes[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean accepts(@Nonnull ArgumentSignature signature) {
+            if (signature.size() != parameterTypes.length) {
+                return false;
+            }
+            for (int i = 0; i < parameterTypes.length; i++) {
+                Class<?> type = signature.getType(i);
+                if (type == null) {
+                    if (parameterTypes[i].isPrimitive()) {
+                        return false;
+                    }
+                } else if (!isAssignableOrConvertibleFrom(MethodUtils.toNonPrimitiveClass(parameterTypes[i]), type)) {
+                    return false;
+                }
+            }
+            return true;
+        }
     }
 
     private static class DefaultThreadFactory implements ThreadFactory {
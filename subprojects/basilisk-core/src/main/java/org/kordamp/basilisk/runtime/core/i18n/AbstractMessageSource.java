@@ -18,14 +18,20 @@ package org.kordamp.basilisk.runtime.core.i18n;
 import basilisk.core.CallableWithArgs;
 import basilisk.core.i18n.MessageSource;
 import basilisk.core.i18n.NoSuchMessageException;
+import basilisk.util.MessageFormatCache;
+import basilisk.util.MissingKeyCache;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.text.MessageFormat;
+import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static basilisk.util.BasiliskNameUtils.requireNonBlank;
 import static java.util.Objects.requireNonNull;
@@ -42,6 +48,24 @@ public abstract class AbstractMessageSource implements MessageSource {
 
     protected static final Object[] EMPTY_OBJECT_ARGS = new Object[0];
 
+    private final MessageFormatCache messageFormatCache = new MessageFormatCache();
+    private final MissingKeyCache missingKeys;
+    private final ConcurrentMap<Locale, ResourceBundle> resourceBundles = new ConcurrentHashMap<>();
+
+    protected AbstractMessageSource() {
+        this(false);
+    }
+
+    /**
+     * @param cacheMissingKeys whether keys that cannot be found should be remembered per locale, thus
+     *                         repeated lookups skip the bundles. Subclasses that opt in must call
+     *                         {@link #clearMissingKeys()} whenever new keys become available.
+     * @since 0.3.0
+     */
+    protected AbstractMessageSource(boolean cacheMissingKeys) {
+        this.missingKeys = cacheMissingKeys ? new MissingKeyCache() : null;
+    }
+
     @Nonnull
     @Override
     public String getMessage(@Nonnull String key) throws NoSuchMessageException {
@@ -105,11 +129,23 @@ public abstract class AbstractMessageSource implements MessageSource {
     @Nullable
     @Override
     public String getMessage(@Nonnull String key, @Nonnull Object[] args, @Nonnull Locale locale, @Nullable String defaultMessage) {
-        try {
-            return getMessage(key, args, locale);
-        } catch (NoSuchMessageException nsme) {
-            return null == defaultMessage ? key : defaultMessage;
-        }
+        requireNonBlank(key, ERROR_KEY_BLANK);
+        requireNonNull(args, ERROR_ARGS_NULL);
+        requireNonNull(locale, ERROR_LOCALE_NULL);
+        String message = findMessage(key, args, locale);
+        if (message != null) return message;
+        return null == defaultMessage ? key : defaultMessage;
+    }
+
+    @Nullable
+    @Override
+    public String findMessage(@Nonnull String key, @Nonnull Object[] args, @Nonnull Locale locale) {
+        requireNonBlank(key, ERROR_KEY_BLANK);
+        requireNonNull(args, ERROR_ARGS_NULL);
+        requireNonNull(locale, ERROR_LOCALE_NULL);
+        Object message = findMessageValue(key, locale);
+        Object result = message != null ? evalMessageWithArguments(message, args) : null;
+        return result != null ? result.toString() : null;
     }
 
     @Nullable
@@ -151,31 +187,84 @@ public abstract class AbstractMessageSource implements MessageSource {
     @Nullable
     @Override
     public String getMessage(@Nonnull String key, @Nonnull Map<String, Object> args, @Nonnull Locale locale, @Nullable String defaultMessage) {
-        try {
-            return getMessage(key, args, locale);
-        } catch (NoSuchMessageException nsme) {
-            return null == defaultMessage ? key : defaultMessage;
-        }
+        requireNonBlank(key, ERROR_KEY_BLANK);
+        requireNonNull(args, ERROR_ARGS_NULL);
+        requireNonNull(locale, ERROR_LOCALE_NULL);
+        Object message = findMessageValue(key, locale);
+        Object result = message != null ? evalMessageWithArguments(message, args) : null;
+        if (result != null) return result.toString();
+        return null == defaultMessage ? key : defaultMessage;
     }
 
     @Nonnull
     @Override
     public Object resolveMessageValue(@Nonnull String key, @Nonnull Locale locale) throws NoSuchMessageException {
+        Object message = findMessageValue(key, locale);
+        if (message == null) {
+            throw new NoSuchMessageException(key, locale);
+        }
+        return message;
+    }
+
+    @Nullable
+    @Override
+    public Object findMessageValue(@Nonnull String key, @Nonnull Locale locale) {
         requireNonBlank(key, ERROR_KEY_BLANK);
         requireNonNull(locale, ERROR_LOCALE_NULL);
-        try {
-            Object message = doResolveMessageValue(key, locale);
-            if (message instanceof CharSequence) {
-                String msg = message.toString();
-                if (msg.length() >= 4 && msg.startsWith(REF_KEY_START) && msg.endsWith(REF_KEY_END)) {
-                    String refKey = msg.substring(2, msg.length() - 1);
-                    message = resolveMessageValue(refKey, locale);
-                }
+        if (missingKeys != null && missingKeys.isMissing(key, locale)) {
+            return null;
+        }
+        Object message = doFindMessageValue(key, locale);
+        if (message instanceof CharSequence) {
+            String msg = message.toString();
+            if (msg.length() >= 4 && msg.startsWith(REF_KEY_START) && msg.endsWith(REF_KEY_END)) {
+                String refKey = msg.substring(2, msg.length() - 1);
+                message = findMessageValue(refKey, locale);
             }
-            return message;
-        } catch (MissingResourceException mre) {
-            throw new NoSuchMessageException(key, locale);
         }
+        if (message == null && missingKeys != null) {
+            missingKeys.markMissing(key, locale);
+        }
+        return message;
+    }
+
+    @Override
+    public void prewarm(@Nonnull Locale locale) {
+        requireNonNull(locale, ERROR_LOCALE_NULL);
+    }
+
+    @Nonnull
+    @Override
+    public ResourceBundle asResourceBundle(@Nonnull Locale locale) {
+        requireNonNull(locale, ERROR_LOCALE_NULL);
+        ResourceBundle resourceBundle = resourceBundles.get(locale);
+        if (null == resourceBundle) {
+            resourceBundle = new MessageSourceResourceBundle(this, locale);
+            ResourceBundle existing = resourceBundles.putIfAbsent(locale, resourceBundle);
+            if (null != existing) {
+                resourceBundle = existing;
+            }
+        }
+        return resourceBundle;
+    }
+
+    /**
+     * Returns the keys that can be resolved for the given locale. Backs the key enumeration of
+     * {@link #asResourceBundle(Locale)}; the default implementation relies on the bundle returned
+     * by {@link #asResourceBundle()} unless that bundle is one of the views created by this source
+     * (which delegate back to this method), in which case no keys can be enumerated. Subclasses
+     * that hold a bundle per locale should override this method.
+     *
+     * @since 0.3.0
+     */
+    @Nonnull
+    protected Set<String> keySet(@Nonnull Locale locale) {
+        requireNonNull(locale, ERROR_LOCALE_NULL);
+        ResourceBundle resourceBundle = asResourceBundle();
+        if (null == resourceBundle || resourceBundles.containsValue(resourceBundle)) {
+            return Collections.emptySet();
+        }
+        return resourceBundle.keySet();
     }
 
     @Nonnull
@@ -192,7 +281,7 @@ public abstract class AbstractMessageSource implements MessageSource {
         requireNonNull(message, ERROR_MESSAGE_NULL);
         requireNonNull(args, ERROR_ARGS_NULL);
         if (args.length == 0) return message;
-        return MessageFormat.format(message, args);
+        return messageFormatCache.format(message, args);
     }
 
     @Nonnull
@@ -200,19 +289,47 @@ public abstract class AbstractMessageSource implements MessageSource {
     public String formatMessage(@Nonnull String message, @Nonnull Map<String, Object> args) {
         requireNonNull(message, ERROR_MESSAGE_NULL);
         requireNonNull(args, ERROR_ARGS_NULL);
-        for (Map.Entry<String, Object> variable : args.entrySet()) {
-            String var = variable.getKey();
-            String value = variable.getValue() != null ? variable.getValue().toString() : null;
-            if (value != null) {
-                message = message.replace("{:" + var + "}", value);
-            }
-        }
-        return message;
+        return messageFormatCache.formatNamed(message, args);
     }
 
     @Nonnull
     protected abstract Object doResolveMessageValue(@Nonnull String key, @Nonnull Locale locale) throws NoSuchMessageException;
 
+    /**
+     * Resolves the value for the given key, returning {@code null} instead of throwing when the key cannot be found.
+     * Subclasses that can detect a missing key cheaply should override this method; the default implementation
+     * delegates to {@link #doResolveMessageValue(String, Locale)}.
+     */
+    @Nullable
+    protected Object doFindMessageValue(@Nonnull String key, @Nonnull Locale locale) {
+        try {
+            return doResolveMessageValue(key, locale);
+        } catch (NoSuchMessageException | MissingResourceException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Forgets every key previously recorded as missing. Subclasses that cache missing keys and whose
+     * contents may change after construction must call this method whenever new keys become available.
+     */
+    protected void clearMissingKeys() {
+        if (missingKeys != null) {
+            missingKeys.clear();
+        }
+    }
+
+    /**
+     * Forgets every key previously recorded as missing for the given locale.
+     *
+     * @since 0.3.0
+     */
+    protected void clearMissingKeys(@Nonnull Locale locale) {
+        if (missingKeys != null) {
+            missingKeys.clear(locale);
+        }
+    }
+
     @Nullable
     protected Object evalMessageWithArguments(@Nonnull Object message, @Nonnull Object[] args) {
         if (message instanceof CallableWithArgs) {
@@ -15,16 +15,23 @@
  */
 package org.kordamp.basilisk.runtime.core.i18n;
 
+import basilisk.core.CallableWithArgs;
 import basilisk.core.i18n.MessageSource;
 import basilisk.core.i18n.NoSuchMessageException;
-import basilisk.util.CompositeResourceBundle;
+import basilisk.util.ResourceBundleChangeEvent;
+import basilisk.util.ResourceBundleChangeListener;
+import basilisk.util.ResourceBundleReloader;
 
 import javax.annotation.Nonnull;
-import java.util.ArrayList;
+import javax.annotation.Nullable;
 import java.util.Collection;
-import java.util.List;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.Locale;
 import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static basilisk.util.BasiliskClassUtils.requireNonEmpty;
 import static basilisk.util.BasiliskNameUtils.requireNonBlank;
@@ -35,6 +42,7 @@ import static java.util.Objects.requireNonNull;
  */
 public class CompositeMessageSource extends AbstractMessageSource {
     private final MessageSource[] messageSources;
+    private final ConcurrentMap<Locale, KeyUnion> keyUnions = new ConcurrentHashMap<>();
 
     public CompositeMessageSource(@Nonnull Collection<MessageSource> messageSources) {
         this(toMessageSourceArray(messageSources));
@@ -44,6 +52,34 @@ public class CompositeMessageSource extends AbstractMessageSource {
         this.messageSources = requireNonNull(messageSources, "Argument 'messageSources' must not be null");
     }
 
+    /**
+     * Creates a composite that remembers the keys none of its sources can find, and forgets them
+     * for a locale whenever the given reloader reports a reloaded bundle for that locale.
+     *
+     * @since 0.3.0
+     */
+    public CompositeMessageSource(@Nonnull Collection<MessageSource> messageSources, @Nonnull ResourceBundleReloader resourceBundleReloader) {
+        this(toMessageSourceArray(messageSources), resourceBundleReloader);
+    }
+
+    /**
+     * Creates a composite that remembers the keys none of its sources can find, and forgets them
+     * for a locale whenever the given reloader reports a reloaded bundle for that locale.
+     *
+     * @since 0.3.0
+     */
+    public CompositeMessageSource(@Nonnull MessageSource[] messageSources, @Nonnull ResourceBundleReloader resourceBundleReloader) {
+        super(true);
+        this.messageSources = requireNonNull(messageSources, "Argument 'messageSources' must not be null");
+        requireNonNull(resourceBundleReloader, "Argument 'resourceBundleReloader' must not be null");
+        resourceBundleReloader.addResourceBundleChangeListener(new ResourceBundleChangeListener() {
+            @Override
+            public void bundleChanged(@Nonnull ResourceBundleChangeEvent event) {
+                clearMissingKeys(event.getLocale());
+            }
+        });
+    }
+
     private static MessageSource[] toMessageSourceArray(@Nonnull Collection<MessageSource> messageSources) {
         requireNonNull(messageSources, "Argument 'messageSources' must not be null");
         requireNonEmpty(messageSources, "Argument 'messageSources' must not be empty");
@@ -53,25 +89,81 @@ public class CompositeMessageSource extends AbstractMessageSource {
     @Nonnull
     @Override
     protected Object doResolveMessageValue(@Nonnull String key, @Nonnull Locale locale) throws NoSuchMessageException {
+        Object message = doFindMessageValue(key, locale);
+        if (message == null) {
+            throw new NoSuchMessageException(key, locale);
+        }
+        return message;
+    }
+
+    @Nullable
+    @Override
+    protected Object doFindMessageValue(@Nonnull String key, @Nonnull Locale locale) {
         requireNonBlank(key, ERROR_KEY_BLANK);
         requireNonNull(locale, ERROR_LOCALE_NULL);
         for (MessageSource messageSource : messageSources) {
-            try {
-                return messageSource.getMessage(key, locale);
-            } catch (NoSuchMessageException nsme) {
-                // ignore
+            Object message = messageSource.findMessageValue(key, locale);
+            if (message instanceof CharSequence || message instanceof CallableWithArgs) {
+                return message;
             }
         }
-        throw new NoSuchMessageException(key, locale);
+        return null;
+    }
+
+    @Override
+    public void prewarm(@Nonnull Locale locale) {
+        requireNonNull(locale, ERROR_LOCALE_NULL);
+        for (MessageSource messageSource : messageSources) {
+            messageSource.prewarm(locale);
+        }
     }
 
     @Nonnull
     @Override
     public ResourceBundle asResourceBundle() {
-        List<ResourceBundle> bundles = new ArrayList<>();
-        for (MessageSource messageSource : messageSources) {
-            bundles.add(messageSource.asResourceBundle());
+        return asResourceBundle(Locale.getDefault());
+    }
+
+    @Nonnull
+    @Override
+    protected Set<String> keySet(@Nonnull Locale locale) {
+        requireNonNull(locale, ERROR_LOCALE_NULL);
+        Set<?>[] sources = new Set<?>[messageSources.length];
+        for (int i = 0; i < messageSources.length; i++) {
+            sources[i] = messageSources[i].asResourceBundle(locale).keySet();
+        }
+
+        // key sets of loaded bundles are immutable and replaced as a whole on reload,
+        // comparing them by identity is enough to know whether the union is still current
+        KeyUnion union = keyUnions.get(locale);
+        if (null == union || !union.isBackedBy(sources)) {
+            union = new KeyUnion(sources);
+            keyUnions.put(locale, union);
+        }
+        return union.keys;
+    }
+
+    private static final class KeyUnion {
+        private final Set<?>[] sources;
+        private final Set<String> keys;
+
+        @SuppressWarnings("unchecked")
+        private KeyUnion(@Nonnull Set<?>[] sources) {
+            this.sources = sources;
+            Set<String> keys = new LinkedHashSet<>();
+            for (Set<?> source : sources) {
+                keys.addAll((Set<String>) source);
+            }
+            this.keys = Collections.unmodifiableSet(keys);
+        }
+
+        private boolean isBackedBy(@Nonnull Set<?>[] sources) {
+            for (int i = 0; i < sources.length; i++) {
+                if (this.sources[i] != sources[i]) {
+                    return false;
+                }
+            }
+            return true;
         }
-        return new CompositeResourceBundle(bundles);
     }
 }
@@ -18,30 +18,43 @@ package org.kordamp.basilisk.runtime.core.i18n;
 import basilisk.core.resources.NoSuchResourceException;
 import basilisk.util.CompositeResourceBundle;
 import basilisk.util.CompositeResourceBundleBuilder;
+import basilisk.util.ReloadableResourceBundleSource;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.Locale;
 import java.util.Map;
 import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
 
 import static basilisk.util.BasiliskNameUtils.requireNonBlank;
+import static basilisk.util.ConfigUtils.collectChangedKeys;
 import static java.util.Objects.requireNonNull;
 
 /**
  * @author Andres Almiray
  */
-public class DefaultMessageSource extends AbstractMessageSource {
+public class DefaultMessageSource extends AbstractMessageSource implements ReloadableResourceBundleSource {
     private final String basename;
     private final Map<Locale, ResourceBundle> bundles = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Locale, FutureTask<ResourceBundle>> pendingBundles = new ConcurrentHashMap<>();
     private final CompositeResourceBundleBuilder compositeResourceBundleBuilder;
 
     public DefaultMessageSource(@Nonnull CompositeResourceBundleBuilder builder, @Nonnull String basename) {
+        super(true);
         this.compositeResourceBundleBuilder = requireNonNull(builder, "Argument 'builder' must not be null");
         this.basename = requireNonBlank(basename, "Argument 'basename' must not be blank");
     }
 
     @Nonnull
+    @Override
     public String getBasename() {
         return basename;
     }
@@ -53,24 +66,88 @@ public class DefaultMessageSource extends AbstractMessageSource {
         return getBundle(locale).getObject(key);
     }
 
+    @Nullable
+    @Override
+    protected Object doFindMessageValue(@Nonnull String key, @Nonnull Locale locale) {
+        ResourceBundle bundle = getBundle(locale);
+        if (bundle instanceof CompositeResourceBundle) {
+            return ((CompositeResourceBundle) bundle).findObject(key);
+        }
+        return super.doFindMessageValue(key, locale);
+    }
+
+    @Override
+    public void prewarm(@Nonnull Locale locale) {
+        getBundle(locale);
+    }
+
     @Nonnull
-    protected ResourceBundle getBundle(@Nonnull Locale locale) {
+    @Override
+    public Set<Locale> getLoadedLocales() {
+        return Collections.unmodifiableSet(new LinkedHashSet<>(bundles.keySet()));
+    }
+
+    @Nonnull
+    @Override
+    public Set<String> reloadBundle(@Nonnull Locale locale) {
+        requireNonNull(locale, ERROR_LOCALE_NULL);
+        ResourceBundle previous = bundles.get(locale);
+        if (null == previous) {
+            return Collections.emptySet();
+        }
+
+        ResourceBundle current = compositeResourceBundleBuilder.create(basename, locale);
+        bundles.put(locale, current);
+        clearMissingKeys(locale);
+        return collectChangedKeys(previous, current);
+    }
+
+    @Nonnull
+    protected ResourceBundle getBundle(@Nonnull final Locale locale) {
         requireNonNull(locale, ERROR_LOCALE_NULL);
         ResourceBundle rb = bundles.get(locale);
-        if (null == rb) {
-            rb = compositeResourceBundleBuilder.create(basename, locale);
+        if (null != rb) {
+            return rb;
+        }
+
+        // concurrent requests for the same locale share a single build
+        FutureTask<ResourceBundle> task = new FutureTask<>(new Callable<ResourceBundle>() {
+            @Override
+            public ResourceBundle call() throws Exception {
+                return compositeResourceBundleBuilder.create(basename, locale);
+            }
+        });
+        FutureTask<ResourceBundle> existing = pendingBundles.putIfAbsent(locale, task);
+        if (existing != null) {
+            task = existing;
+        }
+        try {
+            task.run();
+            rb = task.get();
             bundles.put(locale, rb);
+            return rb;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading bundle " + basename + " for locale " + locale, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw new IllegalStateException(cause);
+        } finally {
+            pendingBundles.remove(locale, task);
         }
-        return rb;
     }
 
     @Nonnull
     @Override
     public ResourceBundle asResourceBundle() {
-        // force initialization of default bundle
-        if (bundles.isEmpty()) {
-            getBundle(Locale.getDefault());
-        }
-        return new CompositeResourceBundle(bundles.values());
+        return asResourceBundle(Locale.getDefault());
+    }
+
+    @Nonnull
+    @Override
+    protected Set<String> keySet(@Nonnull Locale locale) {
+        return getBundle(locale).keySet();
     }
 }
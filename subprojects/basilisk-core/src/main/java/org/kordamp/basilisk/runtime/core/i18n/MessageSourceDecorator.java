@@ -132,6 +132,11 @@ public class MessageSourceDecorator implements MessageSource {
         return getDelegate().asResourceBundle();
     }
 
+    @Nonnull
+    public ResourceBundle asResourceBundle(@Nonnull Locale locale) {
+        return getDelegate().asResourceBundle(locale);
+    }
+
     @Nullable
     public String getMessage(@Nonnull String key, @Nonnull Map<String, Object> args, @Nonnull Locale locale, @Nullable String defaultMessage) {
         return getDelegate().getMessage(key, args, locale, defaultMessage);
@@ -146,4 +151,18 @@ public class MessageSourceDecorator implements MessageSource {
     public Object resolveMessageValue(@Nonnull String key, @Nonnull Locale locale) throws NoSuchMessageException {
         return getDelegate().resolveMessageValue(key, locale);
     }
+
+    @Nullable
+    public Object findMessageValue(@Nonnull String key, @Nonnull Locale locale) {
+        return getDelegate().findMessageValue(key, locale);
+    }
+
+    @Nullable
+    public String findMessage(@Nonnull String key, @Nonnull Object[] args, @Nonnull Locale locale) {
+        return getDelegate().findMessage(key, args, locale);
+    }
+
+    public void prewarm(@Nonnull Locale locale) {
+        getDelegate().prewarm(locale);
+    }
 }
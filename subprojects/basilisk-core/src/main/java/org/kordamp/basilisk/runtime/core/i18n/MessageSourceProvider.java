@@ -17,6 +17,7 @@ package org.kordamp.basilisk.runtime.core.i18n;
 
 import basilisk.core.i18n.MessageSource;
 import basilisk.util.CompositeResourceBundleBuilder;
+import basilisk.util.ResourceBundleReloader;
 
 import javax.annotation.Nonnull;
 import javax.inject.Inject;
@@ -37,6 +38,9 @@ public class MessageSourceProvider implements Provider<MessageSource> {
     @Inject
     private MessageSourceDecoratorFactory messageSourceDecoratorFactory;
 
+    @Inject
+    private ResourceBundleReloader resourceBundleReloader;
+
     public MessageSourceProvider(@Nonnull String basename) {
         this.basename = requireNonBlank(basename, "Argument 'basename' must not be blank");
     }
@@ -45,7 +49,9 @@ public class MessageSourceProvider implements Provider<MessageSource> {
     public MessageSource get() {
         requireNonNull(resourceBundleBuilder, "Argument 'resourceBundleBuilder' must not be null");
         requireNonNull(messageSourceDecoratorFactory, "Argument 'messageSourceDecoratorFactory' must not be null");
+        requireNonNull(resourceBundleReloader, "Argument 'resourceBundleReloader' must not be null");
         DefaultMessageSource messageSource = new DefaultMessageSource(resourceBundleBuilder, basename);
+        resourceBundleReloader.register(messageSource);
         return messageSourceDecoratorFactory.create(messageSource);
     }
 }
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.basilisk.runtime.core.i18n;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.Locale;
+import java.util.ResourceBundle;
+import java.util.Set;
+
+import static basilisk.util.BasiliskNameUtils.requireNonBlank;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Live {@code ResourceBundle} view of an {@code AbstractMessageSource} for a single locale.
+ * Lookups and key enumeration go straight to the message source, so the view never copies
+ * keys and always reflects reloaded bundles.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+final class MessageSourceResourceBundle extends ResourceBundle {
+    private final AbstractMessageSource messageSource;
+    private final Locale locale;
+
+    MessageSourceResourceBundle(@Nonnull AbstractMessageSource messageSource, @Nonnull Locale locale) {
+        this.messageSource = requireNonNull(messageSource, "Argument 'messageSource' must not be null");
+        this.locale = requireNonNull(locale, "Argument 'locale' must not be null");
+    }
+
+    @Override
+    public Locale getLocale() {
+        return locale;
+    }
+
+    @Nullable
+    @Override
+    protected Object handleGetObject(@Nonnull String key) {
+        return messageSource.findMessageValue(requireNonBlank(key, "Argument 'key' must not be blank"), locale);
+    }
+
+    @Nonnull
+    @Override
+    public Enumeration<String> getKeys() {
+        return Collections.enumeration(messageSource.keySet(locale));
+    }
+
+    @Override
+    public boolean containsKey(String key) {
+        return messageSource.keySet(locale).contains(key);
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return messageSource.keySet(locale);
+    }
+
+    @Override
+    protected Set<String> handleKeySet() {
+        return messageSource.keySet(locale);
+    }
+}
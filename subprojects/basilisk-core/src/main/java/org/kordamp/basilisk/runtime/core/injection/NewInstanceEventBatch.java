@@ -0,0 +1,172 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.basilisk.runtime.core.injection;
+
+import basilisk.core.ApplicationEvent;
+import basilisk.core.RunnableWithArgs;
+import basilisk.core.event.EventRouter;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+
+import static basilisk.util.BasiliskClassUtils.requireState;
+import static java.util.Arrays.asList;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Collects the artifact instances created by the current thread whose {@code ApplicationEvent.NEW_INSTANCE}
+ * event should be published later, as a batch. MVC groups configured with {@code events.batch = true}
+ * use it to publish those events once all members have been instantiated, instead of from within
+ * the injector while instances are being provisioned.
+ * <p>
+ * Batches nest: a group created while another group is instantiating its members starts a batch of
+ * its own, or suspends the current one if it does not batch events, thus every group publishes the
+ * events of its own members. Listeners extending {@link ImmediateListener} (such as the ones that inject
+ * resources and create controller actions) are notified as soon as an instance is created even while
+ * a batch is in process, hence {@code @PostConstruct} methods may rely on their work; only the remaining
+ * listeners are notified when the batch is published.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+public class NewInstanceEventBatch {
+    private static final List<Object> SUSPENDED = Collections.emptyList();
+    private static final ThreadLocal<Deque<List<Object>>> CONTEXT = new ThreadLocal<>();
+    private static final ThreadLocal<Object> PUBLISHING = new ThreadLocal<>();
+
+    /**
+     * Starts a new batch for the current thread. Must be paired with {@link #finish()}.
+     */
+    public static void start() {
+        push(new ArrayList<Object>());
+    }
+
+    /**
+     * Suspends the batch in process (if any) until the matching call to {@link #finish()}, thus
+     * instances created in between publish their events right away. Must be paired with {@link #finish()}.
+     */
+    public static void suspend() {
+        push(SUSPENDED);
+    }
+
+    /**
+     * Ends the batch (or suspension) started last by the current thread, resuming the enclosing one.
+     *
+     * @return the deferred instances in creation order, empty if the batch was suspended
+     */
+    @Nonnull
+    public static List<Object> finish() {
+        Deque<List<Object>> batches = CONTEXT.get();
+        requireState(batches != null && !batches.isEmpty(), "There is no NewInstanceEventBatch in process!");
+        List<Object> instances = batches.pop();
+        if (batches.isEmpty()) {
+            CONTEXT.remove();
+        }
+        return instances;
+    }
+
+    /**
+     * Defers the {@code ApplicationEvent.NEW_INSTANCE} event of the given instance if there is a batch in process.
+     * {@link ImmediateListener}s should be notified with {@link #notifyImmediateListeners(EventRouter, Object)}
+     * when this method returns {@code true}.
+     *
+     * @param instance the newly created instance
+     * @return {@code true} if the event was deferred, {@code false} if it should be published right away
+     */
+    public static boolean defer(@Nonnull Object instance) {
+        requireNonNull(instance, "Argument 'instance' must not be null");
+        Deque<List<Object>> batches = CONTEXT.get();
+        if (batches == null) {
+            return false;
+        }
+        List<Object> instances = batches.peek();
+        if (instances == SUSPENDED) {
+            return false;
+        }
+        instances.add(instance);
+        return true;
+    }
+
+    /**
+     * Notifies the {@link ImmediateListener}s registered with the given router of a deferred instance.
+     */
+    public static void notifyImmediateListeners(@Nonnull EventRouter eventRouter, @Nonnull Object instance) {
+        requireNonNull(eventRouter, "Argument 'eventRouter' must not be null");
+        requireNonNull(instance, "Argument 'instance' must not be null");
+        if (!eventRouter.isEventPublishingEnabled()) {
+            return;
+        }
+        for (Object listener : eventRouter.getEventListeners(ApplicationEvent.NEW_INSTANCE.getName())) {
+            if (listener instanceof ImmediateListener) {
+                ((ImmediateListener) listener).onNewInstance(instance.getClass(), instance);
+            }
+        }
+    }
+
+    /**
+     * Publishes the {@code ApplicationEvent.NEW_INSTANCE} event of every given instance, in order.
+     * {@link ImmediateListener}s are not notified again.
+     */
+    public static void publish(@Nonnull EventRouter eventRouter, @Nonnull List<Object> instances) {
+        requireNonNull(eventRouter, "Argument 'eventRouter' must not be null");
+        requireNonNull(instances, "Argument 'instances' must not be null");
+        Object previous = PUBLISHING.get();
+        try {
+            for (Object instance : instances) {
+                PUBLISHING.set(instance);
+                eventRouter.publishEvent(ApplicationEvent.NEW_INSTANCE.getName(), asList(instance.getClass(), instance));
+            }
+        } finally {
+            if (previous != null) {
+                PUBLISHING.set(previous);
+            } else {
+                PUBLISHING.remove();
+            }
+        }
+    }
+
+    private static void push(@Nonnull List<Object> batch) {
+        Deque<List<Object>> batches = CONTEXT.get();
+        if (batches == null) {
+            batches = new ArrayDeque<>();
+            CONTEXT.set(batches);
+        }
+        batches.push(batch);
+    }
+
+    /**
+     * An {@code ApplicationEvent.NEW_INSTANCE} listener that is notified as soon as an instance is
+     * created, regardless of batching.
+     */
+    public abstract static class ImmediateListener implements RunnableWithArgs {
+        @Override
+        public final void run(@Nullable Object... args) {
+            requireNonNull(args, "Argument 'args' must not be null");
+            if (args[1] == PUBLISHING.get()) {
+                // already notified when the instance was deferred
+                return;
+            }
+            onNewInstance((Class<?>) args[0], args[1]);
+        }
+
+        protected abstract void onNewInstance(@Nonnull Class<?> klass, @Nonnull Object instance);
+    }
+}
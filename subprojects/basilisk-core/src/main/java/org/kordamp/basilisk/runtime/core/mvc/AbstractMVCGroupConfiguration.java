@@ -15,6 +15,7 @@
  */
 package org.kordamp.basilisk.runtime.core.mvc;
 
+import basilisk.core.ConfigurationSnapshot;
 import basilisk.core.mvc.MVCGroup;
 import basilisk.core.mvc.MVCGroupConfiguration;
 
@@ -39,11 +40,13 @@ public abstract class AbstractMVCGroupConfiguration implements MVCGroupConfigura
     protected final Map<String, String> members = new LinkedHashMap<>();
     protected final Map<String, Object> config = new LinkedHashMap<>();
     protected final String mvcType;
+    protected final ConfigurationSnapshot configSnapshot;
 
     public AbstractMVCGroupConfiguration(@Nonnull String mvcType, @Nonnull Map<String, String> members, @Nonnull Map<String, Object> config) {
         this.mvcType = requireNonBlank(mvcType, "Argument 'mvcType' must not be blank");
         this.members.putAll(requireNonNull(members, ERROR_MEMBERS_NULL));
         this.config.putAll(requireNonNull(config, "Argument 'config' must not be null"));
+        this.configSnapshot = ConfigurationSnapshot.of(this.config);
     }
 
     @Override
@@ -73,6 +76,14 @@ public abstract class AbstractMVCGroupConfiguration implements MVCGroupConfigura
         return unmodifiableMap(config);
     }
 
+    /**
+     * Returns a precompiled view of {@link #getConfig()} for fast dotted-key lookups.
+     */
+    @Nonnull
+    public ConfigurationSnapshot getConfigSnapshot() {
+        return configSnapshot;
+    }
+
     @Nonnull
     @Override
     public MVCGroup create() {
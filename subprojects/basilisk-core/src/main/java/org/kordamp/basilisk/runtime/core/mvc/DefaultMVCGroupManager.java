@@ -18,12 +18,14 @@ package org.kordamp.basilisk.runtime.core.mvc;
 import basilisk.core.ApplicationClassLoader;
 import basilisk.core.ApplicationEvent;
 import basilisk.core.BasiliskApplication;
+import basilisk.core.ConfigurationSnapshot;
 import basilisk.core.artifact.ArtifactManager;
 import basilisk.core.artifact.BasiliskArtifact;
 import basilisk.core.artifact.BasiliskClass;
 import basilisk.core.artifact.BasiliskController;
 import basilisk.core.artifact.BasiliskMvcArtifact;
 import basilisk.core.artifact.BasiliskView;
+import basilisk.core.event.EventRouter;
 import basilisk.core.mvc.MVCGroup;
 import basilisk.core.mvc.MVCGroupConfiguration;
 import basilisk.exceptions.BasiliskException;
@@ -33,8 +35,11 @@ import basilisk.exceptions.NewInstanceException;
 import basilisk.exceptions.PropertyException;
 import basilisk.inject.Contextual;
 import basilisk.util.CollectionUtils;
+import basilisk.util.MethodInvoker;
 import com.googlecode.openbeans.PropertyDescriptor;
+import org.kordamp.basilisk.runtime.core.artifact.ArtifactMetadata;
 import org.kordamp.basilisk.runtime.core.injection.InjectionUnitOfWork;
+import org.kordamp.basilisk.runtime.core.injection.NewInstanceEventBatch;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -52,7 +57,6 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
-import static basilisk.core.BasiliskExceptionHandler.sanitize;
 import static basilisk.util.AnnotationUtils.annotationsOfMethodParameter;
 import static basilisk.util.AnnotationUtils.findAnnotation;
 import static basilisk.util.AnnotationUtils.nameFor;
@@ -64,7 +68,6 @@ import static basilisk.util.BasiliskClassUtils.setPropertyOrFieldValueNoExceptio
 import static basilisk.util.BasiliskClassUtils.setPropertyValue;
 import static basilisk.util.BasiliskNameUtils.capitalize;
 import static basilisk.util.BasiliskNameUtils.isBlank;
-import static basilisk.util.ConfigUtils.getConfigValueAsBoolean;
 import static java.util.Arrays.asList;
 import static java.util.Objects.requireNonNull;
 
@@ -78,6 +81,7 @@ public class DefaultMVCGroupManager extends AbstractMVCGroupManager {
     private static final String CONFIG_KEY_COMPONENT = "component";
     private static final String CONFIG_KEY_EVENTS_LIFECYCLE = "events.lifecycle";
     private static final String CONFIG_KEY_EVENTS_LISTENER = "events.listener";
+    private static final String CONFIG_KEY_EVENTS_BATCH = "events.batch";
     private static final String KEY_PARENT_GROUP = "parentGroup";
 
     private final ApplicationClassLoader applicationClassLoader;
@@ -116,6 +120,8 @@ public class DefaultMVCGroupManager extends AbstractMVCGroupManager {
 
         Map<String, Object> instances = new LinkedHashMap<>();
         List<Object> injectedInstances = new ArrayList<>();
+        List<Object> newInstances;
+        boolean batchEvents = configSnapshot(configuration).getAsBoolean(CONFIG_KEY_EVENTS_BATCH, false);
 
         try {
             InjectionUnitOfWork.start();
@@ -123,9 +129,16 @@ public class DefaultMVCGroupManager extends AbstractMVCGroupManager {
             throw new MVCGroupInstantiationException("Can not instantiate MVC group '" + configuration.getMvcType() + "' with id '" + mvcId + "'", configuration.getMvcType(), mvcId, ise);
         }
 
+        // a group that does not batch suspends the batch of an enclosing group, if any
+        if (batchEvents) {
+            NewInstanceEventBatch.start();
+        } else {
+            NewInstanceEventBatch.suspend();
+        }
         try {
             instances.putAll(instantiateMembers(classMap, argsCopy));
         } finally {
+            newInstances = NewInstanceEventBatch.finish();
             try {
                 injectedInstances.addAll(InjectionUnitOfWork.finish());
             } catch (IllegalStateException ise) {
@@ -135,6 +148,7 @@ public class DefaultMVCGroupManager extends AbstractMVCGroupManager {
 
         MVCGroup group = newMVCGroup(configuration, mvcId, instances, (MVCGroup) args.get(KEY_PARENT_GROUP));
         adjustMvcArguments(group, argsCopy);
+        publishNewInstanceEvents(newInstances);
 
         boolean fireEvents = isConfigFlagEnabled(configuration, CONFIG_KEY_EVENTS_LIFECYCLE);
         if (fireEvents) {
@@ -166,6 +180,15 @@ public class DefaultMVCGroupManager extends AbstractMVCGroupManager {
         return group;
     }
 
+    protected void publishNewInstanceEvents(@Nonnull List<Object> instances) {
+        EventRouter eventRouter = getApplication().getEventRouter();
+        if (instances.isEmpty() || !eventRouter.hasEventListeners(ApplicationEvent.NEW_INSTANCE.getName())) {
+            return;
+        }
+
+        NewInstanceEventBatch.publish(eventRouter, instances);
+    }
+
     protected void adjustMvcArguments(@Nonnull MVCGroup group, @Nonnull Map<String, Object> args) {
         // must set it again because mvcId might have been initialized internally
         args.put("mvcId", group.getMvcId());
@@ -176,7 +199,7 @@ public class DefaultMVCGroupManager extends AbstractMVCGroupManager {
     @Nonnull
     @SuppressWarnings("ConstantConditions")
     protected String resolveMvcId(@Nonnull MVCGroupConfiguration configuration, @Nullable String mvcId) {
-        boolean component = getConfigValueAsBoolean(configuration.getConfig(), CONFIG_KEY_COMPONENT, false);
+        boolean component = configSnapshot(configuration).getAsBoolean(CONFIG_KEY_COMPONENT, false);
 
         if (isBlank(mvcId)) {
             if (component) {
@@ -287,13 +310,9 @@ public class DefaultMVCGroupManager extends AbstractMVCGroupManager {
             getApplication().getUIThreadManager().runInsideUISync(new Runnable() {
                 @Override
                 public void run() {
-                    try {
-                        BasiliskView view = (BasiliskView) member;
-                        view.initUI();
-                        view.mvcGroupInit(args);
-                    } catch (RuntimeException e) {
-                        throw (RuntimeException) sanitize(e);
-                    }
+                    BasiliskView view = (BasiliskView) member;
+                    view.initUI();
+                    view.mvcGroupInit(args);
                 }
             });
         } else if (member instanceof BasiliskMvcArtifact) {
@@ -377,6 +396,10 @@ public class DefaultMVCGroupManager extends AbstractMVCGroupManager {
     }
 
     protected void fillContextualMemberProperties(@Nonnull MVCGroup group, @Nonnull String type, @Nonnull Object member) {
+        if (!hasContextualMembers(member)) {
+            return;
+        }
+
         for (PropertyDescriptor descriptor : getPropertyDescriptors(member.getClass())) {
             Method method = descriptor.getWriteMethod();
             if (method != null && method.getAnnotation(Contextual.class) != null) {
@@ -393,7 +416,7 @@ public class DefaultMVCGroupManager extends AbstractMVCGroupManager {
                 }
 
                 try {
-                    method.invoke(member, arg);
+                    MethodInvoker.of(method).invoke(member, arg);
                 } catch (IllegalAccessException | InvocationTargetException e) {
                     throw new MVCGroupInstantiationException(group.getMvcType(), group.getMvcId(), e);
                 }
@@ -485,11 +508,7 @@ public class DefaultMVCGroupManager extends AbstractMVCGroupManager {
                 getApplication().getUIThreadManager().runInsideUISync(new Runnable() {
                     @Override
                     public void run() {
-                        try {
-                            artifact.mvcGroupDestroy();
-                        } catch (RuntimeException e) {
-                            throw (RuntimeException) sanitize(e);
-                        }
+                        artifact.mvcGroupDestroy();
                     }
                 });
             } else {
@@ -506,6 +525,10 @@ public class DefaultMVCGroupManager extends AbstractMVCGroupManager {
     }
 
     protected void destroyContextualMemberProperties(@Nonnull String type, @Nonnull BasiliskArtifact member) {
+        if (!hasContextualMembers(member)) {
+            return;
+        }
+
         for (Field field : getAllDeclaredFields(member.getClass())) {
             if (field.getAnnotation(Contextual.class) != null) {
                 try {
@@ -518,6 +541,12 @@ public class DefaultMVCGroupManager extends AbstractMVCGroupManager {
         }
     }
 
+    private static boolean hasContextualMembers(@Nonnull Object member) {
+        // without generated metadata the class has to be inspected
+        ArtifactMetadata metadata = ArtifactMetadata.forClass(member.getClass());
+        return metadata == null || !metadata.getContextualMembers().isEmpty();
+    }
+
     protected void destroyNonArtifactMember(@Nonnull String type, @Nonnull Object member) {
         // empty
     }
@@ -527,7 +556,15 @@ public class DefaultMVCGroupManager extends AbstractMVCGroupManager {
     }
 
     protected boolean isConfigFlagEnabled(@Nonnull MVCGroupConfiguration configuration, @Nonnull String key) {
-        return getConfigValueAsBoolean(configuration.getConfig(), key, true);
+        return configSnapshot(configuration).getAsBoolean(key, true);
+    }
+
+    @Nonnull
+    private static ConfigurationSnapshot configSnapshot(@Nonnull MVCGroupConfiguration configuration) {
+        if (configuration instanceof AbstractMVCGroupConfiguration) {
+            return ((AbstractMVCGroupConfiguration) configuration).getConfigSnapshot();
+        }
+        return ConfigurationSnapshot.of(configuration.getConfig());
     }
 
     @Nullable
@@ -18,28 +18,42 @@ package org.kordamp.basilisk.runtime.core.resources;
 import basilisk.core.editors.ExtendedPropertyEditor;
 import basilisk.core.resources.InjectedResource;
 import basilisk.core.resources.ResourceInjector;
-import basilisk.exceptions.InstanceMethodInvocationException;
+import basilisk.util.FieldAccessor;
+import basilisk.util.MethodInvoker;
 import com.googlecode.openbeans.PropertyDescriptor;
 import com.googlecode.openbeans.PropertyEditor;
+import org.kordamp.basilisk.runtime.core.artifact.ArtifactMetadata;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.io.File;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.net.URL;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static basilisk.core.BasiliskExceptionHandler.sanitize;
+import static basilisk.core.converters.ConverterResolver.findConverter;
 import static basilisk.core.editors.PropertyEditorResolver.findEditor;
 import static basilisk.util.BasiliskClassUtils.getPropertyDescriptors;
-import static basilisk.util.BasiliskClassUtils.invokeExactInstanceMethod;
 import static basilisk.util.BasiliskNameUtils.getSetterName;
 import static basilisk.util.BasiliskNameUtils.isBlank;
 import static basilisk.util.BasiliskNameUtils.requireNonBlank;
+import static basilisk.util.MethodUtils.getAccessibleMethod;
 import static java.lang.reflect.Modifier.isStatic;
 import static java.util.Objects.requireNonNull;
 
@@ -58,22 +72,217 @@ public abstract class AbstractResourceInjector implements ResourceInjector {
     protected static final String ERROR_FULLY_QUALIFIED_NAME_BLANK = "Argument 'fqName' must not be blank";
     protected static final String ERROR_FULLY_QUALIFIED_FIELD_NAME_BLANK = "Argument 'fqFieldName' must not be blank";
 
+    private static final Object NULL_VALUE = new Object();
+    private static final InjectionPoint[] NO_INJECTION_POINTS = new InjectionPoint[0];
+    private static final Set<Class<?>> SHAREABLE_TYPES = new HashSet<Class<?>>(Arrays.<Class<?>>asList(
+        String.class, Boolean.class, Character.class, Byte.class, Short.class, Integer.class, Long.class,
+        Float.class, Double.class, BigInteger.class, BigDecimal.class, Class.class, Locale.class,
+        URI.class, URL.class, File.class
+    ));
+
+    private final boolean resolvesPropertyEditors = overridesResolvePropertyEditor(getClass());
+    private final ConcurrentMap<Class<?>, InjectionPoint[]> injectionPlans = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Set<InjectionPoint>> injectionPointsByKey = new ConcurrentHashMap<>();
+
     @Override
     public void injectResources(@Nonnull Object instance) {
         requireNonNull(instance, ERROR_INSTANCE_NULL);
         Class<?> klass = instance.getClass();
+        ArtifactMetadata metadata = ArtifactMetadata.forClass(klass);
+        if (null != metadata && metadata.getResourceMembers().isEmpty()) {
+            return;
+        }
+
         do {
             doResourceInjection(klass, instance);
             klass = klass.getSuperclass();
         } while (null != klass);
     }
 
+    /**
+     * Discards all memoized resource values. Injection plans are kept as they
+     * only depend on class metadata.
+     *
+     * @since 0.3.0
+     */
+    public void clearResolvedResources() {
+        for (InjectionPoint[] injectionPoints : injectionPlans.values()) {
+            for (InjectionPoint injectionPoint : injectionPoints) {
+                injectionPoint.values.clear();
+            }
+        }
+    }
+
+    /**
+     * Discards the memoized resource values of the given keys, thus instances created
+     * afterwards see the current values of reloaded bundles.
+     *
+     * @param keys the resource keys that changed
+     * @since 0.3.0
+     */
+    public void clearResolvedResources(@Nonnull Set<String> keys) {
+        requireNonNull(keys, "Argument 'keys' must not be null");
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        for (String key : keys) {
+            Set<InjectionPoint> injectionPoints = injectionPointsByKey.get(key);
+            if (null != injectionPoints) {
+                for (InjectionPoint injectionPoint : injectionPoints) {
+                    injectionPoint.values.clear();
+                }
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Memoized values for those keys are discarded for every class, not only for the class of the given instance.
+     */
+    @Override
+    public void injectResources(@Nonnull Object instance, @Nonnull Set<String> keys) {
+        requireNonNull(instance, ERROR_INSTANCE_NULL);
+        requireNonNull(keys, "Argument 'keys' must not be null");
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        clearResolvedResources(keys);
+        Locale locale = getLocale();
+        Class<?> klass = instance.getClass();
+        do {
+            for (InjectionPoint injectionPoint : getInjectionPlan(klass)) {
+                if (keys.contains(injectionPoint.key)) {
+                    injectResource(injectionPoint, instance, locale);
+                }
+            }
+            klass = klass.getSuperclass();
+        } while (null != klass);
+    }
+
     protected boolean doResourceInjection(@Nonnull Class<?> klass, @Nonnull Object instance) {
         requireNonNull(klass, ERROR_CLASS_NULL);
         requireNonNull(instance, ERROR_INSTANCE_NULL);
 
-        boolean injected = false;
-        List<String> names = new ArrayList<>();
+        InjectionPoint[] injectionPoints = getInjectionPlan(klass);
+        if (injectionPoints.length == 0) {
+            return false;
+        }
+
+        Locale locale = getLocale();
+        for (InjectionPoint injectionPoint : injectionPoints) {
+            injectResource(injectionPoint, instance, locale);
+        }
+        return true;
+    }
+
+    private void injectResource(@Nonnull InjectionPoint injectionPoint, @Nonnull Object instance, @Nonnull Locale locale) {
+        if (LOG.isDebugEnabled()) {
+            LOG.debug((injectionPoint.field != null ? "Field " + injectionPoint.fqName : "Property " + injectionPoint.name) +
+                " of instance " + instance +
+                " [key='" + injectionPoint.key +
+                "', args='" + Arrays.toString(injectionPoint.args) +
+                "', defaultValue='" + injectionPoint.defaultValue +
+                "', format='" + injectionPoint.format +
+                "'] is marked for resource injection.");
+        }
+
+        Object value = resolveValue(injectionPoint, locale);
+        if (null != value) {
+            if (null != injectionPoint.field) {
+                Method setter = injectionPoint.resolveSetter(instance.getClass(), value.getClass());
+                setFieldValue(instance, injectionPoint.field, setter, value, injectionPoint.fqName);
+            } else {
+                setPropertyValue(instance, injectionPoint.method, value, injectionPoint.fqName);
+            }
+        }
+    }
+
+    /**
+     * Returns the locale used to resolve and memoize resources. Defaults to {@code Locale.getDefault()}.
+     *
+     * @since 0.3.0
+     */
+    @Nonnull
+    protected Locale getLocale() {
+        return Locale.getDefault();
+    }
+
+    /**
+     * Whether a resolved value may be shared by every instance that requests it.
+     * Only values of immutable types qualify, anything else is resolved and
+     * converted again for each instance.
+     *
+     * @param value the resolved (and possibly converted) value
+     * @since 0.3.0
+     */
+    protected boolean isShareableValue(@Nonnull Object value) {
+        return SHAREABLE_TYPES.contains(value.getClass()) || value instanceof Enum;
+    }
+
+    @Nullable
+    private Object resolveValue(@Nonnull InjectionPoint injectionPoint, @Nonnull Locale locale) {
+        Object value = injectionPoint.values.get(locale);
+        if (null != value) {
+            return value != NULL_VALUE ? value : null;
+        }
+
+        if (isBlank(injectionPoint.defaultValue)) {
+            value = resolveResource(injectionPoint.key, injectionPoint.args);
+        } else {
+            value = resolveResource(injectionPoint.key, injectionPoint.args, injectionPoint.defaultValue);
+        }
+
+        if (null != value && !injectionPoint.type.isAssignableFrom(value.getClass())) {
+            value = convertValue(injectionPoint.type, value, injectionPoint.format);
+        }
+
+        if (null == value) {
+            injectionPoint.values.putIfAbsent(locale, NULL_VALUE);
+        } else if (isShareableValue(value)) {
+            injectionPoint.values.putIfAbsent(locale, value);
+        }
+        return value;
+    }
+
+    @Nonnull
+    private InjectionPoint[] getInjectionPlan(@Nonnull Class<?> klass) {
+        InjectionPoint[] injectionPoints = injectionPlans.get(klass);
+        if (null == injectionPoints) {
+            injectionPoints = createInjectionPlan(klass);
+            // index before publishing the plan, thus no memoized value escapes clearResolvedResources(keys)
+            for (InjectionPoint injectionPoint : injectionPoints) {
+                indexInjectionPoint(injectionPoint);
+            }
+            InjectionPoint[] existing = injectionPlans.putIfAbsent(klass, injectionPoints);
+            if (null != existing) {
+                for (InjectionPoint injectionPoint : injectionPoints) {
+                    injectionPointsByKey.get(injectionPoint.key).remove(injectionPoint);
+                }
+                injectionPoints = existing;
+            }
+        }
+        return injectionPoints;
+    }
+
+    private void indexInjectionPoint(@Nonnull InjectionPoint injectionPoint) {
+        Set<InjectionPoint> injectionPoints = injectionPointsByKey.get(injectionPoint.key);
+        if (null == injectionPoints) {
+            injectionPoints = Collections.newSetFromMap(new ConcurrentHashMap<InjectionPoint, Boolean>());
+            Set<InjectionPoint> existing = injectionPointsByKey.putIfAbsent(injectionPoint.key, injectionPoints);
+            if (null != existing) {
+                injectionPoints = existing;
+            }
+        }
+        injectionPoints.add(injectionPoint);
+    }
+
+    @Nonnull
+    private InjectionPoint[] createInjectionPlan(@Nonnull Class<?> klass) {
+        List<InjectionPoint> injectionPoints = new ArrayList<>();
+        Set<String> names = new HashSet<>();
 
         PropertyDescriptor[] propertyDescriptors = getPropertyDescriptors(klass);
         for (PropertyDescriptor pd : propertyDescriptors) {
@@ -82,85 +291,27 @@ public abstract class AbstractResourceInjector implements ResourceInjector {
                 continue;
             }
 
-            final InjectedResource annotation = method.getAnnotation(InjectedResource.class);
+            InjectedResource annotation = method.getAnnotation(InjectedResource.class);
             if (null == annotation) continue;
 
             String propertyName = pd.getName();
             String fqName = method.getDeclaringClass().getName().replace('$', '.') + "." + propertyName;
-            String key = annotation.key();
-            String[] args = annotation.args();
-            String defaultValue = annotation.defaultValue();
-            String format = annotation.format();
-            if (isBlank(key)) key = fqName;
-
-            if (LOG.isDebugEnabled()) {
-                LOG.debug("Property " + propertyName +
-                    " of instance " + instance +
-                    " [key='" + key +
-                    "', args='" + Arrays.toString(args) +
-                    "', defaultValue='" + defaultValue +
-                    "', format='" + format +
-                    "'] is marked for resource injection.");
-            }
-
-            Object value;
-            if (isBlank(defaultValue)) {
-                value = resolveResource(key, args);
-            } else {
-                value = resolveResource(key, args, defaultValue);
-            }
-
-            if (null != value) {
-                Class<?> propertyType = method.getParameterTypes()[0];
-                if (!propertyType.isAssignableFrom(value.getClass())) {
-                    value = convertValue(propertyType, value, format);
-                }
-                setPropertyValue(instance, method, value, fqName);
-            }
+            injectionPoints.add(new InjectionPoint(propertyName, fqName, annotation, method.getParameterTypes()[0], method, null));
             names.add(propertyName);
-            injected = true;
         }
 
         for (Field field : klass.getDeclaredFields()) {
             if (field.isSynthetic() || names.contains(field.getName())) {
                 continue;
             }
-            final InjectedResource annotation = field.getAnnotation(InjectedResource.class);
+            InjectedResource annotation = field.getAnnotation(InjectedResource.class);
             if (null == annotation) continue;
 
             String fqName = field.getDeclaringClass().getName().replace('$', '.') + "." + field.getName();
-            String key = annotation.key();
-            String[] args = annotation.args();
-            String defaultValue = annotation.defaultValue();
-            String format = annotation.format();
-            if (isBlank(key)) key = fqName;
-
-            if (LOG.isDebugEnabled()) {
-                LOG.debug("Field " + fqName +
-                    " of instance " + instance +
-                    " [key='" + key +
-                    "', args='" + Arrays.toString(args) +
-                    "', defaultValue='" + defaultValue +
-                    "', format='" + format +
-                    "'] is marked for resource injection.");
-            }
-
-            Object value;
-            if (isBlank(defaultValue)) {
-                value = resolveResource(key, args);
-            } else {
-                value = resolveResource(key, args, defaultValue);
-            }
-
-            if (null != value) {
-                if (!field.getType().isAssignableFrom(value.getClass())) {
-                    value = convertValue(field.getType(), value, format);
-                }
-                setFieldValue(instance, field, value, fqName);
-            }
-            injected = true;
+            injectionPoints.add(new InjectionPoint(field.getName(), fqName, annotation, field.getType(), null, field));
         }
-        return injected;
+
+        return injectionPoints.isEmpty() ? NO_INJECTION_POINTS : injectionPoints.toArray(new InjectionPoint[injectionPoints.size()]);
     }
 
     @Nullable
@@ -173,6 +324,11 @@ public abstract class AbstractResourceInjector implements ResourceInjector {
     protected Object convertValue(@Nonnull Class<?> type, @Nonnull Object value, @Nullable String format) {
         requireNonNull(type, ERROR_TYPE_NULL);
         requireNonNull(value, ERROR_VALUE_NULL);
+        if (!resolvesPropertyEditors) {
+            return findConverter(type, format).convert(value);
+        }
+
+        // honor subclasses that still customize editor resolution
         PropertyEditor propertyEditor = resolvePropertyEditor(type, format);
         if (null == propertyEditor) return value;
         if (value instanceof CharSequence) {
@@ -183,7 +339,12 @@ public abstract class AbstractResourceInjector implements ResourceInjector {
         return propertyEditor.getValue();
     }
 
+    /**
+     * @deprecated override {@link #convertValue(Class, Object, String)} or register a {@code Converter}
+     * with {@code ConverterResolver} instead. Values are converted with this method only if a subclass overrides it.
+     */
     @Nullable
+    @Deprecated
     protected PropertyEditor resolvePropertyEditor(@Nonnull Class<?> type, @Nullable String format) {
         requireNonNull(type, ERROR_TYPE_NULL);
         PropertyEditor propertyEditor = findEditor(type);
@@ -193,12 +354,24 @@ public abstract class AbstractResourceInjector implements ResourceInjector {
         return propertyEditor;
     }
 
+    private static boolean overridesResolvePropertyEditor(@Nonnull Class<?> klass) {
+        for (Class<?> c = klass; c != AbstractResourceInjector.class; c = c.getSuperclass()) {
+            try {
+                c.getDeclaredMethod("resolvePropertyEditor", Class.class, String.class);
+                return true;
+            } catch (NoSuchMethodException e) {
+                // keep looking
+            }
+        }
+        return false;
+    }
+
     protected void setPropertyValue(@Nonnull Object instance, @Nonnull Method method, @Nullable Object value, @Nonnull String fqName) {
         requireNonNull(instance, ERROR_INSTANCE_NULL);
         requireNonNull(method, ERROR_METHOD_NULL);
         requireNonBlank(fqName, ERROR_FULLY_QUALIFIED_NAME_BLANK);
         try {
-            method.invoke(instance, value);
+            MethodInvoker.of(method).invoke(instance, value);
         } catch (IllegalAccessException | InvocationTargetException e) {
             if (LOG.isWarnEnabled()) {
                 LOG.warn("Cannot set value on property " + fqName + " of instance " + instance, sanitize(e));
@@ -207,19 +380,82 @@ public abstract class AbstractResourceInjector implements ResourceInjector {
     }
 
     protected void setFieldValue(@Nonnull Object instance, @Nonnull Field field, @Nullable Object value, @Nonnull String fqFieldName) {
+        requireNonNull(instance, ERROR_INSTANCE_NULL);
+        requireNonNull(field, ERROR_FIELD_NULL);
+        Method setter = getAccessibleMethod(instance.getClass(), getSetterName(field.getName()), value != null ? value.getClass() : Object.class);
+        setFieldValue(instance, field, setter, value, fqFieldName);
+    }
+
+    /**
+     * Sets the value of a field, calling the supplied setter if available.
+     *
+     * @param setter a public setter matching the value's type, may be {@code null}
+     * @since 0.3.0
+     */
+    protected void setFieldValue(@Nonnull Object instance, @Nonnull Field field, @Nullable Method setter, @Nullable Object value, @Nonnull String fqFieldName) {
         requireNonNull(instance, ERROR_INSTANCE_NULL);
         requireNonNull(field, ERROR_FIELD_NULL);
         requireNonBlank(fqFieldName, ERROR_FULLY_QUALIFIED_FIELD_NAME_BLANK);
-        String setter = getSetterName(field.getName());
-        try {
-            invokeExactInstanceMethod(instance, setter, value);
-        } catch (InstanceMethodInvocationException imie) {
+        if (null != setter) {
             try {
-                field.setAccessible(true);
-                field.set(instance, value);
-            } catch (IllegalAccessException e) {
-                LOG.warn("Cannot set value on field {} of instance {}", fqFieldName, instance, sanitize(e));
+                MethodInvoker.of(setter).invoke(instance, value);
+                return;
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                // fall back to setting the field directly
             }
         }
+
+        try {
+            FieldAccessor.of(field).set(instance, value);
+        } catch (IllegalAccessException e) {
+            LOG.warn("Cannot set value on field {} of instance {}", fqFieldName, instance, sanitize(e));
+        }
+    }
+
+    private static final class InjectionPoint {
+        private final String name;
+        private final String fqName;
+        private final String key;
+        private final String[] args;
+        private final String defaultValue;
+        private final String format;
+        private final Class<?> type;
+        private final Method method;
+        private final Field field;
+        private final ConcurrentMap<Locale, Object> values = new ConcurrentHashMap<>();
+        private final ConcurrentMap<Class<?>, SetterBinding> setters = new ConcurrentHashMap<>();
+
+        private InjectionPoint(@Nonnull String name, @Nonnull String fqName, @Nonnull InjectedResource annotation, @Nonnull Class<?> type, @Nullable Method method, @Nullable Field field) {
+            this.name = name;
+            this.fqName = fqName;
+            this.key = isBlank(annotation.key()) ? fqName : annotation.key();
+            this.args = annotation.args();
+            this.defaultValue = annotation.defaultValue();
+            this.format = annotation.format();
+            this.type = type;
+            this.method = method;
+            this.field = field;
+        }
+
+        @Nullable
+        private Method resolveSetter(@Nonnull Class<?> instanceType, @Nonnull Class<?> valueType) {
+            // setters are matched against the exact type of the value, same as invokeExactInstanceMethod
+            SetterBinding binding = setters.get(instanceType);
+            if (null == binding || binding.valueType != valueType) {
+                binding = new SetterBinding(valueType, getAccessibleMethod(instanceType, getSetterName(name), valueType));
+                setters.put(instanceType, binding);
+            }
+            return binding.setter;
+        }
+    }
+
+    private static final class SetterBinding {
+        private final Class<?> valueType;
+        private final Method setter;
+
+        private SetterBinding(@Nonnull Class<?> valueType, @Nullable Method setter) {
+            this.valueType = valueType;
+            this.setter = setter;
+        }
     }
 }
@@ -18,17 +18,17 @@ package org.kordamp.basilisk.runtime.core.resources;
 import basilisk.core.CallableWithArgs;
 import basilisk.core.resources.NoSuchResourceException;
 import basilisk.core.resources.ResourceResolver;
-import com.googlecode.openbeans.PropertyEditor;
+import basilisk.util.MessageFormatCache;
+import basilisk.util.MissingKeyCache;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.text.MessageFormat;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.MissingResourceException;
 
-import static basilisk.core.editors.PropertyEditorResolver.findEditor;
+import static basilisk.core.converters.ConverterResolver.findConverter;
 import static basilisk.util.BasiliskNameUtils.requireNonBlank;
 import static java.util.Objects.requireNonNull;
 
@@ -43,6 +43,23 @@ public abstract class AbstractResourceResolver implements ResourceResolver {
 
     protected static final Object[] EMPTY_OBJECT_ARGS = new Object[0];
 
+    private final MessageFormatCache messageFormatCache = new MessageFormatCache();
+    private final MissingKeyCache missingKeys;
+
+    protected AbstractResourceResolver() {
+        this(false);
+    }
+
+    /**
+     * @param cacheMissingKeys whether keys that cannot be found should be remembered per locale, thus
+     *                         repeated lookups skip the bundles. Subclasses that opt in must call
+     *                         {@link #clearMissingKeys()} whenever new keys become available.
+     * @since 0.3.0
+     */
+    protected AbstractResourceResolver(boolean cacheMissingKeys) {
+        this.missingKeys = cacheMissingKeys ? new MissingKeyCache() : null;
+    }
+
     @Nonnull
     @Override
     public Object resolveResource(@Nonnull String key) throws NoSuchResourceException {
@@ -106,11 +123,13 @@ public abstract class AbstractResourceResolver implements ResourceResolver {
     @Nullable
     @Override
     public Object resolveResource(@Nonnull String key, @Nonnull Object[] args, @Nonnull Locale locale, @Nullable Object defaultValue) {
-        try {
-            return resolveResource(key, args, locale);
-        } catch (NoSuchResourceException nsre) {
-            return null == defaultValue ? key : defaultValue;
-        }
+        requireNonBlank(key, ERROR_KEY_BLANK);
+        requireNonNull(args, ERROR_ARGS_NULL);
+        requireNonNull(locale, ERROR_LOCALE_NULL);
+        Object resource = findResourceValue(key, locale);
+        Object result = resource != null ? evalResourceWithArguments(resource, args) : null;
+        if (result != null) return result;
+        return null == defaultValue ? key : defaultValue;
     }
 
     @Nullable
@@ -152,11 +171,13 @@ public abstract class AbstractResourceResolver implements ResourceResolver {
     @Nullable
     @Override
     public Object resolveResource(@Nonnull String key, @Nonnull Map<String, Object> args, @Nonnull Locale locale, @Nullable Object defaultValue) {
-        try {
-            return resolveResource(key, args, locale);
-        } catch (NoSuchResourceException nsre) {
-            return null == defaultValue ? key : defaultValue;
-        }
+        requireNonBlank(key, ERROR_KEY_BLANK);
+        requireNonNull(args, ERROR_ARGS_NULL);
+        requireNonNull(locale, ERROR_LOCALE_NULL);
+        Object resource = findResourceValue(key, locale);
+        Object result = resource != null ? evalResourceWithArguments(resource, args) : null;
+        if (result != null) return result;
+        return null == defaultValue ? key : defaultValue;
     }
 
     @Nullable
@@ -258,21 +279,38 @@ public abstract class AbstractResourceResolver implements ResourceResolver {
     @Nonnull
     @Override
     public Object resolveResourceValue(@Nonnull String key, @Nonnull Locale locale) throws NoSuchResourceException {
+        Object resource = findResourceValue(key, locale);
+        if (resource == null) {
+            throw new NoSuchResourceException(key, locale);
+        }
+        return resource;
+    }
+
+    @Nullable
+    @Override
+    public Object findResourceValue(@Nonnull String key, @Nonnull Locale locale) {
         requireNonBlank(key, ERROR_KEY_BLANK);
         requireNonNull(locale, ERROR_LOCALE_NULL);
-        try {
-            Object resource = doResolveResourceValue(key, locale);
-            if (resource instanceof CharSequence) {
-                String msg = resource.toString();
-                if (msg.length() >= 4 && msg.startsWith(REF_KEY_START) && msg.endsWith(REF_KEY_END)) {
-                    String refKey = msg.substring(2, msg.length() - 1);
-                    resource = resolveResourceValue(refKey, locale);
-                }
+        if (missingKeys != null && missingKeys.isMissing(key, locale)) {
+            return null;
+        }
+        Object resource = doFindResourceValue(key, locale);
+        if (resource instanceof CharSequence) {
+            String msg = resource.toString();
+            if (msg.length() >= 4 && msg.startsWith(REF_KEY_START) && msg.endsWith(REF_KEY_END)) {
+                String refKey = msg.substring(2, msg.length() - 1);
+                resource = findResourceValue(refKey, locale);
             }
-            return resource;
-        } catch (MissingResourceException mre) {
-            throw new NoSuchResourceException(key, locale);
         }
+        if (resource == null && missingKeys != null) {
+            missingKeys.markMissing(key, locale);
+        }
+        return resource;
+    }
+
+    @Override
+    public void prewarm(@Nonnull Locale locale) {
+        requireNonNull(locale, ERROR_LOCALE_NULL);
     }
 
     @Nonnull
@@ -289,7 +327,7 @@ public abstract class AbstractResourceResolver implements ResourceResolver {
         requireNonNull(resource, ERROR_RESOURCE_NULL);
         requireNonNull(args, ERROR_ARGS_NULL);
         if (args.length == 0) return resource;
-        return MessageFormat.format(resource, args);
+        return messageFormatCache.format(resource, args);
     }
 
     @Nonnull
@@ -297,19 +335,47 @@ public abstract class AbstractResourceResolver implements ResourceResolver {
     public String formatResource(@Nonnull String resource, @Nonnull Map<String, Object> args) {
         requireNonNull(resource, ERROR_RESOURCE_NULL);
         requireNonNull(args, ERROR_ARGS_NULL);
-        for (Map.Entry<String, Object> variable : args.entrySet()) {
-            String var = variable.getKey();
-            String value = variable.getValue() != null ? variable.getValue().toString() : null;
-            if (value != null) {
-                resource = resource.replace("{:" + var + "}", value);
-            }
-        }
-        return resource;
+        return messageFormatCache.formatNamed(resource, args);
     }
 
     @Nonnull
     protected abstract Object doResolveResourceValue(@Nonnull String key, @Nonnull Locale locale) throws NoSuchResourceException;
 
+    /**
+     * Resolves the value for the given key, returning {@code null} instead of throwing when the key cannot be found.
+     * Subclasses that can detect a missing key cheaply should override this method; the default implementation
+     * delegates to {@link #doResolveResourceValue(String, Locale)}.
+     */
+    @Nullable
+    protected Object doFindResourceValue(@Nonnull String key, @Nonnull Locale locale) {
+        try {
+            return doResolveResourceValue(key, locale);
+        } catch (NoSuchResourceException | MissingResourceException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Forgets every key previously recorded as missing. Subclasses that cache missing keys and whose
+     * contents may change after construction must call this method whenever new keys become available.
+     */
+    protected void clearMissingKeys() {
+        if (missingKeys != null) {
+            missingKeys.clear();
+        }
+    }
+
+    /**
+     * Forgets every key previously recorded as missing for the given locale.
+     *
+     * @since 0.3.0
+     */
+    protected void clearMissingKeys(@Nonnull Locale locale) {
+        if (missingKeys != null) {
+            missingKeys.clear(locale);
+        }
+    }
+
     @Nullable
     protected Object evalResourceWithArguments(@Nonnull Object resource, @Nonnull Object[] args) {
         if (resource instanceof CallableWithArgs) {
@@ -346,9 +412,7 @@ public abstract class AbstractResourceResolver implements ResourceResolver {
             if (type.isAssignableFrom(value.getClass())) {
                 return (T) value;
             } else {
-                PropertyEditor editor = findEditor(type);
-                editor.setValue(value);
-                return (T) editor.getValue();
+                return findConverter(type).convert(value);
             }
         }
         return null;
@@ -17,8 +17,12 @@ package org.kordamp.basilisk.runtime.core.resources;
 
 import basilisk.core.resources.NoSuchResourceException;
 import basilisk.core.resources.ResourceResolver;
+import basilisk.util.ResourceBundleChangeEvent;
+import basilisk.util.ResourceBundleChangeListener;
+import basilisk.util.ResourceBundleReloader;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.util.Collection;
 import java.util.Locale;
 
@@ -40,6 +44,34 @@ public class CompositeResourceResolver extends AbstractResourceResolver {
         this.resourceResolvers = requireNonNull(resourceResolvers, "Argument 'resourceResolvers' must not be null");
     }
 
+    /**
+     * Creates a composite that remembers the keys none of its resolvers can find, and forgets them
+     * for a locale whenever the given reloader reports a reloaded bundle for that locale.
+     *
+     * @since 0.3.0
+     */
+    public CompositeResourceResolver(@Nonnull Collection<ResourceResolver> resourceResolvers, @Nonnull ResourceBundleReloader resourceBundleReloader) {
+        this(toResourceResolverArray(resourceResolvers), resourceBundleReloader);
+    }
+
+    /**
+     * Creates a composite that remembers the keys none of its resolvers can find, and forgets them
+     * for a locale whenever the given reloader reports a reloaded bundle for that locale.
+     *
+     * @since 0.3.0
+     */
+    public CompositeResourceResolver(@Nonnull ResourceResolver[] resourceResolvers, @Nonnull ResourceBundleReloader resourceBundleReloader) {
+        super(true);
+        this.resourceResolvers = requireNonNull(resourceResolvers, "Argument 'resourceResolvers' must not be null");
+        requireNonNull(resourceBundleReloader, "Argument 'resourceBundleReloader' must not be null");
+        resourceBundleReloader.addResourceBundleChangeListener(new ResourceBundleChangeListener() {
+            @Override
+            public void bundleChanged(@Nonnull ResourceBundleChangeEvent event) {
+                clearMissingKeys(event.getLocale());
+            }
+        });
+    }
+
     private static ResourceResolver[] toResourceResolverArray(@Nonnull Collection<ResourceResolver> resourceResolvers) {
         requireNonNull(resourceResolvers, "Argument 'resourceResolvers' must not be null");
         requireNonEmpty(resourceResolvers, "Argument 'resourceResolvers' must not be empty");
@@ -49,15 +81,32 @@ public class CompositeResourceResolver extends AbstractResourceResolver {
     @Nonnull
     @Override
     protected Object doResolveResourceValue(@Nonnull String key, @Nonnull Locale locale) throws NoSuchResourceException {
+        Object resource = doFindResourceValue(key, locale);
+        if (resource == null) {
+            throw new NoSuchResourceException(key, locale);
+        }
+        return resource;
+    }
+
+    @Nullable
+    @Override
+    protected Object doFindResourceValue(@Nonnull String key, @Nonnull Locale locale) {
         requireNonBlank(key, ERROR_KEY_BLANK);
         requireNonNull(locale, ERROR_LOCALE_NULL);
         for (ResourceResolver resourceResolver : resourceResolvers) {
-            try {
-                return resourceResolver.resolveResourceValue(key, locale);
-            } catch (NoSuchResourceException nsre) {
-                // ignore
+            Object resource = resourceResolver.findResourceValue(key, locale);
+            if (resource != null) {
+                return resource;
             }
         }
-        throw new NoSuchResourceException(key, locale);
+        return null;
+    }
+
+    @Override
+    public void prewarm(@Nonnull Locale locale) {
+        requireNonNull(locale, ERROR_LOCALE_NULL);
+        for (ResourceResolver resourceResolver : resourceResolvers) {
+            resourceResolver.prewarm(locale);
+        }
     }
 }
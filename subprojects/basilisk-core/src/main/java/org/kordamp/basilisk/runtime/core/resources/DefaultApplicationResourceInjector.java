@@ -16,17 +16,32 @@
 package org.kordamp.basilisk.runtime.core.resources;
 
 import basilisk.core.resources.ResourceResolver;
+import basilisk.util.ResourceBundleChangeEvent;
+import basilisk.util.ResourceBundleChangeListener;
+import basilisk.util.ResourceBundleReloader;
 
 import javax.annotation.Nonnull;
 import javax.inject.Inject;
 import javax.inject.Named;
 
+import static java.util.Objects.requireNonNull;
+
 /**
+ * Memoized resource values are discarded whenever the {@code ResourceBundleReloader} reports
+ * changed keys, thus instances created afterwards receive the reloaded values.
+ *
  * @author Andres Almiray
  */
 public class DefaultApplicationResourceInjector extends DefaultResourceInjector {
     @Inject
-    public DefaultApplicationResourceInjector(@Nonnull @Named("applicationResourceResolver") ResourceResolver resourceResolver) {
+    public DefaultApplicationResourceInjector(@Nonnull @Named("applicationResourceResolver") ResourceResolver resourceResolver, @Nonnull ResourceBundleReloader resourceBundleReloader) {
         super(resourceResolver);
+        requireNonNull(resourceBundleReloader, "Argument 'resourceBundleReloader' must not be null");
+        resourceBundleReloader.addResourceBundleChangeListener(new ResourceBundleChangeListener() {
+            @Override
+            public void bundleChanged(@Nonnull ResourceBundleChangeEvent event) {
+                clearResolvedResources(event.getKeys());
+            }
+        });
     }
 }
@@ -15,13 +15,11 @@
  */
 package org.kordamp.basilisk.runtime.core.resources;
 
-import basilisk.core.resources.NoSuchResourceException;
 import basilisk.core.resources.ResourceResolver;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.inject.Inject;
-import java.util.Locale;
 
 import static java.util.Objects.requireNonNull;
 
@@ -29,6 +27,8 @@ import static java.util.Objects.requireNonNull;
  * @author Andres Almiray
  */
 public class DefaultResourceInjector extends AbstractResourceInjector {
+    private static final Object NO_RESOURCE = new Object();
+
     private ResourceResolver resourceResolver;
 
     @Inject
@@ -38,15 +38,12 @@ public class DefaultResourceInjector extends AbstractResourceInjector {
 
     @Nullable
     protected Object resolveResource(@Nonnull String key, @Nonnull String[] args) {
-        try {
-            return resourceResolver.resolveResource(key, args, Locale.getDefault());
-        } catch (NoSuchResourceException nsre) {
-            return null;
-        }
+        Object resource = resourceResolver.resolveResource(key, args, getLocale(), NO_RESOURCE);
+        return resource != NO_RESOURCE ? resource : null;
     }
 
     @Nullable
     protected Object resolveResource(@Nonnull String key, @Nonnull String[] args, @Nonnull String defaultValue) {
-        return resourceResolver.resolveResource(key, args, Locale.getDefault(), defaultValue);
+        return resourceResolver.resolveResource(key, args, getLocale(), defaultValue);
     }
 }
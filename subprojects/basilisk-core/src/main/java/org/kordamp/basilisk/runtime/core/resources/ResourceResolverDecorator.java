@@ -17,7 +17,6 @@ package org.kordamp.basilisk.runtime.core.resources;
 
 import basilisk.core.resources.NoSuchResourceException;
 import basilisk.core.resources.ResourceResolver;
-import com.googlecode.openbeans.PropertyEditor;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -25,7 +24,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 
-import static basilisk.core.editors.PropertyEditorResolver.findEditor;
+import static basilisk.core.converters.ConverterResolver.findConverter;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -145,6 +144,17 @@ public class ResourceResolverDecorator implements ResourceResolver {
         return getDelegate().resolveResourceValue(key, locale);
     }
 
+    @Override
+    @Nullable
+    public Object findResourceValue(@Nonnull String key, @Nonnull Locale locale) {
+        return getDelegate().findResourceValue(key, locale);
+    }
+
+    @Override
+    public void prewarm(@Nonnull Locale locale) {
+        getDelegate().prewarm(locale);
+    }
+
     @Override
     @Nonnull
     public String formatResource(@Nonnull String resource, @Nonnull List<?> args) {
@@ -265,9 +275,7 @@ public class ResourceResolverDecorator implements ResourceResolver {
             if (type.isAssignableFrom(value.getClass())) {
                 return (T) value;
             } else {
-                PropertyEditor editor = findEditor(type);
-                editor.setValue(value);
-                return (T) editor.getValue();
+                return findConverter(type).convert(value);
             }
         }
         return null;
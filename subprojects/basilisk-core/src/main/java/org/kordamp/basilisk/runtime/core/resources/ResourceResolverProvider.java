@@ -17,6 +17,7 @@ package org.kordamp.basilisk.runtime.core.resources;
 
 import basilisk.core.resources.ResourceResolver;
 import basilisk.util.CompositeResourceBundleBuilder;
+import basilisk.util.ResourceBundleReloader;
 
 import javax.annotation.Nonnull;
 import javax.inject.Inject;
@@ -37,6 +38,9 @@ public class ResourceResolverProvider implements Provider<ResourceResolver> {
     @Inject
     private ResourceResolverDecoratorFactory resourceResolverDecoratorFactory;
 
+    @Inject
+    private ResourceBundleReloader resourceBundleReloader;
+
     public ResourceResolverProvider(@Nonnull String basename) {
         this.basename = requireNonBlank(basename, "Argument 'basename' must not be blank");
     }
@@ -45,7 +49,9 @@ public class ResourceResolverProvider implements Provider<ResourceResolver> {
     public ResourceResolver get() {
         requireNonNull(resourceBundleBuilder, "Argument 'resourceBundleBuilder' must not be null");
         requireNonNull(resourceResolverDecoratorFactory, "Argument 'resourceResolverDecoratorFactory' must not be null");
+        requireNonNull(resourceBundleReloader, "Argument 'resourceBundleReloader' must not be null");
         DefaultResourceResolver resourceResolver = new DefaultResourceResolver(resourceBundleBuilder, basename);
+        resourceBundleReloader.register(resourceResolver);
         return resourceResolverDecoratorFactory.create(resourceResolver);
     }
 }
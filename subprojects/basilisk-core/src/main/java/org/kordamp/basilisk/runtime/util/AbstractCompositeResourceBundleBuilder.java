@@ -25,8 +25,12 @@ import javax.inject.Inject;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.PropertyResourceBundle;
 import java.util.ResourceBundle;
 
 import static basilisk.util.BasiliskNameUtils.requireNonBlank;
@@ -43,10 +47,12 @@ public abstract class AbstractCompositeResourceBundleBuilder implements Composit
     protected static final String ERROR_LOCALE_NULL = "Argument 'locale' must not be null";
 
     protected final ResourceHandler resourceHandler;
+    private final ResourceBundleCache resourceBundleCache;
 
     @Inject
     public AbstractCompositeResourceBundleBuilder(@Nonnull ResourceHandler resourceHandler) {
         this.resourceHandler = requireNonNull(resourceHandler, ERROR_RESOURCE_HANDLER_NULL);
+        this.resourceBundleCache = ResourceBundleCache.fromSystemProperties(resourceHandler.classloader());
     }
 
     @Override
@@ -67,20 +73,62 @@ public abstract class AbstractCompositeResourceBundleBuilder implements Composit
             locale.getLanguage()
         };
 
-        basename = basename.replace('.', '/');
+        ResourceBundleCache cache = getResourceBundleCache();
+        if (cache != null) {
+            ResourceBundle cached = cache.load(basename, locale);
+            if (cached != null) {
+                return new CompositeResourceBundle(Collections.singletonList(cached));
+            }
+        }
+
+        String path = basename.replace('.', '/');
         List<ResourceBundle> bundles = new ArrayList<>();
         for (String suffix : combinations) {
             if (suffix.endsWith("_")) continue;
-            bundles.addAll(loadBundlesFor(basename + "_" + suffix));
+            bundles.addAll(loadBundlesFor(path + "_" + suffix));
         }
-        bundles.addAll(loadBundlesFor(basename));
+        bundles.addAll(loadBundlesFor(path));
         if (bundles.size() == 0) {
-            throw new IllegalArgumentException("There are no ResourceBundle resources matching " + basename);
+            throw new IllegalArgumentException("There are no ResourceBundle resources matching " + path);
+        }
+
+        if (cache != null && isCacheable(bundles)) {
+            cache.store(basename, locale, mergeEntries(bundles));
         }
 
         return new CompositeResourceBundle(bundles);
     }
 
+    @Nullable
+    protected ResourceBundleCache getResourceBundleCache() {
+        return resourceBundleCache;
+    }
+
+    /**
+     * Only bundles whose contents are plain strings may be stored in the on-disk cache.
+     */
+    protected boolean isCacheable(@Nonnull List<ResourceBundle> bundles) {
+        for (ResourceBundle bundle : bundles) {
+            if (!(bundle instanceof PropertyResourceBundle)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Nonnull
+    private static Map<String, String> mergeEntries(@Nonnull List<ResourceBundle> bundles) {
+        Map<String, String> entries = new LinkedHashMap<>();
+        for (ResourceBundle bundle : bundles) {
+            for (String key : bundle.keySet()) {
+                if (!entries.containsKey(key)) {
+                    entries.put(key, bundle.getString(key));
+                }
+            }
+        }
+        return entries;
+    }
+
     @Nonnull
     protected ResourceHandler getResourceHandler() {
         return resourceHandler;
@@ -0,0 +1,278 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.basilisk.runtime.util;
+
+import basilisk.core.resources.ResourceHandler;
+import basilisk.util.ReloadableResourceBundleSource;
+import basilisk.util.ResourceBundleChangeEvent;
+import basilisk.util.ResourceBundleChangeListener;
+import basilisk.util.ResourceBundleReloader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static basilisk.core.BasiliskExceptionHandler.sanitize;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Reloads bundles when their backing {@code .properties} files change on disk.
+ * <p>
+ * Reloading is meant for development and is disabled unless the {@code basilisk.resourcebundle.reload}
+ * system property is set to {@code true}. Only properties files found in directories of the classpath
+ * can be watched; files packaged inside jars never change while the application runs. Locale specific
+ * files are expected to live next to the default file of their bundle.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+public class DefaultResourceBundleReloader implements ResourceBundleReloader {
+    private static final Logger LOG = LoggerFactory.getLogger(DefaultResourceBundleReloader.class);
+    public static final String KEY_RELOAD_ENABLED = "basilisk.resourcebundle.reload";
+    private static final String PROPERTIES_SUFFIX = ".properties";
+    private static final String ERROR_SOURCE_NULL = "Argument 'source' must not be null";
+    private static final String ERROR_LISTENER_NULL = "Argument 'listener' must not be null";
+
+    private final ResourceHandler resourceHandler;
+    private final boolean enabled;
+    private final Map<Path, List<ReloadableResourceBundleSource>> sourcesByDirectory = new ConcurrentHashMap<>();
+    private final List<ResourceBundleChangeListener> listeners = new CopyOnWriteArrayList<>();
+    private final Object lock = new Object[0];
+    private WatchService watchService;
+
+    @Inject
+    public DefaultResourceBundleReloader(@Nonnull ResourceHandler resourceHandler) {
+        this(resourceHandler, Boolean.getBoolean(KEY_RELOAD_ENABLED));
+    }
+
+    public DefaultResourceBundleReloader(@Nonnull ResourceHandler resourceHandler, boolean enabled) {
+        this.resourceHandler = requireNonNull(resourceHandler, "Argument 'resourceHandler' must not be null");
+        this.enabled = enabled;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void register(@Nonnull ReloadableResourceBundleSource source) {
+        requireNonNull(source, ERROR_SOURCE_NULL);
+        if (!enabled) {
+            return;
+        }
+
+        String path = source.getBasename().replace('.', '/');
+        List<URL> resources = resourceHandler.getResources(path + PROPERTIES_SUFFIX);
+        if (resources == null) {
+            return;
+        }
+
+        for (URL resource : resources) {
+            Path directory = toDirectory(resource);
+            if (directory != null) {
+                watch(directory, source);
+            }
+        }
+    }
+
+    @Override
+    public void addResourceBundleChangeListener(@Nonnull ResourceBundleChangeListener listener) {
+        requireNonNull(listener, ERROR_LISTENER_NULL);
+        if (!listeners.contains(listener)) {
+            listeners.add(listener);
+        }
+    }
+
+    @Override
+    public void removeResourceBundleChangeListener(@Nonnull ResourceBundleChangeListener listener) {
+        requireNonNull(listener, ERROR_LISTENER_NULL);
+        listeners.remove(listener);
+    }
+
+    /**
+     * Stops watching files. Registered sources keep their current bundles. Invoked when the
+     * application shuts down.
+     */
+    @PreDestroy
+    public void close() {
+        synchronized (lock) {
+            if (watchService != null) {
+                try {
+                    watchService.close();
+                } catch (IOException e) {
+                    LOG.warn("An error occurred while closing the resource bundle watch service", sanitize(e));
+                }
+                watchService = null;
+            }
+            sourcesByDirectory.clear();
+        }
+    }
+
+    /**
+     * Reloads every loaded bundle of the sources registered for {@code directory} that is backed by
+     * {@code fileName} and notifies listeners of the keys that changed.
+     */
+    protected void handleFileChange(@Nonnull Path directory, @Nonnull String fileName) {
+        List<ReloadableResourceBundleSource> sources = sourcesByDirectory.get(directory);
+        if (sources == null || !fileName.endsWith(PROPERTIES_SUFFIX)) {
+            return;
+        }
+
+        String name = fileName.substring(0, fileName.length() - PROPERTIES_SUFFIX.length());
+        for (ReloadableResourceBundleSource source : sources) {
+            String basename = source.getBasename();
+            String simpleName = basename.substring(basename.lastIndexOf('.') + 1);
+            String suffix;
+            if (name.equals(simpleName)) {
+                suffix = "";
+            } else if (name.startsWith(simpleName + "_")) {
+                suffix = name.substring(simpleName.length() + 1);
+            } else {
+                continue;
+            }
+
+            for (Locale locale : source.getLoadedLocales()) {
+                if (!suffix.isEmpty() && !matches(locale, suffix)) {
+                    continue;
+                }
+                try {
+                    Set<String> keys = source.reloadBundle(locale);
+                    LOG.info("Reloaded bundle {} for locale {} after {} changed", basename, locale, fileName);
+                    if (!keys.isEmpty()) {
+                        fireBundleChanged(new ResourceBundleChangeEvent(source, locale, keys));
+                    }
+                } catch (RuntimeException e) {
+                    LOG.warn("Could not reload bundle " + basename + " for locale " + locale, sanitize(e));
+                }
+            }
+        }
+    }
+
+    protected void fireBundleChanged(@Nonnull ResourceBundleChangeEvent event) {
+        for (ResourceBundleChangeListener listener : listeners) {
+            try {
+                listener.bundleChanged(event);
+            } catch (RuntimeException e) {
+                LOG.warn("An error occurred while notifying " + listener + " of " + event, sanitize(e));
+            }
+        }
+    }
+
+    private static boolean matches(@Nonnull Locale locale, @Nonnull String suffix) {
+        return suffix.equals(locale.getLanguage()) ||
+            suffix.equals(locale.getLanguage() + "_" + locale.getCountry()) ||
+            suffix.equals(locale.getLanguage() + "_" + locale.getCountry() + "_" + locale.getVariant());
+    }
+
+    @Nullable
+    private static Path toDirectory(@Nonnull URL resource) {
+        if (!"file".equals(resource.getProtocol())) {
+            return null;
+        }
+        try {
+            return Paths.get(resource.toURI()).getParent();
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private void watch(@Nonnull Path directory, @Nonnull ReloadableResourceBundleSource source) {
+        synchronized (lock) {
+            List<ReloadableResourceBundleSource> sources = sourcesByDirectory.get(directory);
+            if (sources == null) {
+                try {
+                    directory.register(getWatchService(), ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+                } catch (IOException e) {
+                    LOG.warn("Cannot watch directory " + directory, sanitize(e));
+                    return;
+                }
+                sources = new CopyOnWriteArrayList<>();
+                sourcesByDirectory.put(directory, sources);
+            }
+            if (!sources.contains(source)) {
+                sources.add(source);
+            }
+        }
+    }
+
+    @Nonnull
+    private WatchService getWatchService() throws IOException {
+        if (watchService == null) {
+            watchService = FileSystems.getDefault().newWatchService();
+            Thread thread = new Thread(new Watcher(watchService), "basilisk-resourcebundle-reloader");
+            thread.setDaemon(true);
+            thread.start();
+        }
+        return watchService;
+    }
+
+    private final class Watcher implements Runnable {
+        private final WatchService watchService;
+
+        private Watcher(@Nonnull WatchService watchService) {
+            this.watchService = watchService;
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                WatchKey key;
+                try {
+                    key = watchService.take();
+                } catch (InterruptedException | ClosedWatchServiceException e) {
+                    return;
+                }
+
+                Path directory = (Path) key.watchable();
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == OVERFLOW) {
+                        continue;
+                    }
+                    Path file = (Path) event.context();
+                    handleFileChange(directory, file.getFileName().toString());
+                }
+
+                if (!key.reset()) {
+                    sourcesByDirectory.remove(directory);
+                }
+            }
+        }
+    }
+}
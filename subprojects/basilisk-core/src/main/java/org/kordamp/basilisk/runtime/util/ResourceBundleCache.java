@@ -0,0 +1,292 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.basilisk.runtime.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.Set;
+
+import static basilisk.util.BasiliskNameUtils.isBlank;
+import static basilisk.util.BasiliskNameUtils.requireNonBlank;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * On-disk cache of merged, properties based resource bundles.
+ * <p>
+ * Each (basename, locale) pair is stored as a binary key/value file. Files are grouped in a subdirectory
+ * named after a fingerprint of the classpath (the path, size and modification time of every jar), thus
+ * applications sharing the cache directory do not overwrite each other's entries. Every file records the
+ * full fingerprint as well; a file whose fingerprint does not match the current classpath is ignored and
+ * rewritten. The cache
+ * disables itself when the classpath contains directories or non-file URLs, as their contents cannot be
+ * fingerprinted cheaply.
+ * <p>
+ * The cache is enabled by setting the {@value #KEY_CACHE_ENABLED} System property to {@code true}. Files are
+ * written to the directory named by {@value #KEY_CACHE_DIR}, which defaults to
+ * {@code ${user.home}/.basilisk/cache/resourcebundles}.
+ *
+ * @author Andres Almiray
+ */
+public class ResourceBundleCache {
+    public static final String KEY_CACHE_ENABLED = "basilisk.resourcebundle.cache";
+    public static final String KEY_CACHE_DIR = "basilisk.resourcebundle.cache.dir";
+
+    private static final Logger LOG = LoggerFactory.getLogger(ResourceBundleCache.class);
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+    private static final int MAGIC = 0xBA51B0DE;
+    private static final int VERSION = 1;
+    private static final String SUFFIX = ".bin";
+    private static final int GROUP_LENGTH = 16;
+
+    private final Path directory;
+    private final ClassLoader classLoader;
+    private volatile String fingerprint;
+    private volatile boolean fingerprintComputed;
+
+    public ResourceBundleCache(@Nonnull Path directory, @Nonnull ClassLoader classLoader) {
+        this.directory = requireNonNull(directory, "Argument 'directory' must not be null");
+        this.classLoader = requireNonNull(classLoader, "Argument 'classLoader' must not be null");
+    }
+
+    /**
+     * Creates a cache configured by System properties.
+     *
+     * @param classLoader the classloader used to locate bundles
+     * @return a cache instance or {@code null} if caching has not been enabled
+     */
+    @Nullable
+    public static ResourceBundleCache fromSystemProperties(@Nonnull ClassLoader classLoader) {
+        if (!Boolean.parseBoolean(System.getProperty(KEY_CACHE_ENABLED))) {
+            return null;
+        }
+        String dir = System.getProperty(KEY_CACHE_DIR);
+        Path directory = isBlank(dir) ? Paths.get(System.getProperty("user.home"), ".basilisk", "cache", "resourcebundles") : Paths.get(dir);
+        return new ResourceBundleCache(directory, classLoader);
+    }
+
+    @Nonnull
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Reads the cached bundle for the given basename and locale.
+     *
+     * @return the cached bundle, or {@code null} if there is no usable entry
+     */
+    @Nullable
+    public ResourceBundle load(@Nonnull String basename, @Nonnull Locale locale) {
+        requireNonBlank(basename, "Argument 'basename' must not be blank");
+        requireNonNull(locale, "Argument 'locale' must not be null");
+        String fp = getFingerprint();
+        if (fp == null) return null;
+
+        Path file = resolveFile(fp, basename, locale);
+        if (!Files.isRegularFile(file)) return null;
+
+        try {
+            // a heap copy does not keep the file locked (as a mapping does on Windows) until GC
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION || !fp.equals(readString(buffer))) {
+                LOG.debug("Discarding stale resource bundle cache {}", file);
+                return null;
+            }
+            int count = buffer.getInt();
+            Map<String, Object> entries = new LinkedHashMap<>(count * 4 / 3 + 1);
+            for (int i = 0; i < count; i++) {
+                String key = readString(buffer);
+                entries.put(key, readString(buffer));
+            }
+            LOG.trace("Loaded {} entries for {} ({}) from {}", count, basename, locale, file);
+            return new CachedResourceBundle(entries);
+        } catch (IOException | RuntimeException e) {
+            LOG.debug("Could not read resource bundle cache " + file, e);
+            return null;
+        }
+    }
+
+    /**
+     * Writes the given entries as the cached bundle for the given basename and locale.
+     */
+    public void store(@Nonnull String basename, @Nonnull Locale locale, @Nonnull Map<String, String> entries) {
+        requireNonBlank(basename, "Argument 'basename' must not be blank");
+        requireNonNull(locale, "Argument 'locale' must not be null");
+        requireNonNull(entries, "Argument 'entries' must not be null");
+        String fp = getFingerprint();
+        if (fp == null) return;
+
+        Path file = resolveFile(fp, basename, locale);
+        try {
+            Files.createDirectories(file.getParent());
+            Path tmp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+            try (OutputStream os = Files.newOutputStream(tmp);
+                 DataOutputStream out = new DataOutputStream(new BufferedOutputStream(os))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                writeString(out, fp);
+                out.writeInt(entries.size());
+                for (Map.Entry<String, String> entry : entries.entrySet()) {
+                    writeString(out, entry.getKey());
+                    writeString(out, entry.getValue());
+                }
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            LOG.trace("Stored {} entries for {} ({}) in {}", entries.size(), basename, locale, file);
+        } catch (IOException | RuntimeException e) {
+            LOG.debug("Could not write resource bundle cache " + file, e);
+        }
+    }
+
+    @Nullable
+    protected String getFingerprint() {
+        if (!fingerprintComputed) {
+            fingerprint = computeFingerprint();
+            fingerprintComputed = true;
+        }
+        return fingerprint;
+    }
+
+    @Nullable
+    protected String computeFingerprint() {
+        Set<File> entries = new LinkedHashSet<>();
+        String classpath = System.getProperty("java.class.path");
+        if (!isBlank(classpath)) {
+            for (String entry : classpath.split(File.pathSeparator)) {
+                if (!isBlank(entry)) entries.add(new File(entry).getAbsoluteFile());
+            }
+        }
+        for (ClassLoader cl = classLoader; cl != null; cl = cl.getParent()) {
+            if (cl instanceof URLClassLoader) {
+                for (URL url : ((URLClassLoader) cl).getURLs()) {
+                    if (!"file".equals(url.getProtocol())) {
+                        LOG.debug("Resource bundle cache disabled; classpath contains {}", url);
+                        return null;
+                    }
+                    try {
+                        entries.add(new File(url.toURI()).getAbsoluteFile());
+                    } catch (URISyntaxException | IllegalArgumentException e) {
+                        return null;
+                    }
+                }
+            }
+        }
+
+        StringBuilder b = new StringBuilder();
+        for (File entry : entries) {
+            if (entry.isDirectory()) {
+                LOG.debug("Resource bundle cache disabled; classpath contains directory {}", entry);
+                return null;
+            }
+            b.append(entry.getPath()).append('|')
+                .append(entry.length()).append('|')
+                .append(entry.lastModified()).append('\n');
+        }
+        return digest(b.toString());
+    }
+
+    @Nonnull
+    private Path resolveFile(@Nonnull String fingerprint, @Nonnull String basename, @Nonnull Locale locale) {
+        String group = sanitize(fingerprint.length() > GROUP_LENGTH ? fingerprint.substring(0, GROUP_LENGTH) : fingerprint);
+        String name = sanitize(basename);
+        String suffix = locale.toString();
+        return directory.resolve(group).resolve(name + (isBlank(suffix) ? "" : "_" + suffix) + SUFFIX);
+    }
+
+    @Nonnull
+    private static String sanitize(@Nonnull String name) {
+        return name.replaceAll("[^A-Za-z0-9_.-]", "_");
+    }
+
+    @Nonnull
+    private static String digest(@Nonnull String input) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-1");
+            byte[] bytes = md.digest(input.getBytes(UTF_8));
+            StringBuilder b = new StringBuilder(bytes.length * 2);
+            for (byte bt : bytes) {
+                b.append(Character.forDigit((bt >> 4) & 0xF, 16)).append(Character.forDigit(bt & 0xF, 16));
+            }
+            return b.toString();
+        } catch (NoSuchAlgorithmException e) {
+            // every JRE ships SHA-1; fall back to the raw input
+            return input;
+        }
+    }
+
+    private static void writeString(@Nonnull DataOutputStream out, @Nonnull String value) throws IOException {
+        byte[] bytes = value.getBytes(UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    @Nonnull
+    private static String readString(@Nonnull ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, UTF_8);
+    }
+
+    private static final class CachedResourceBundle extends ResourceBundle {
+        private final Map<String, Object> entries;
+
+        private CachedResourceBundle(@Nonnull Map<String, Object> entries) {
+            this.entries = entries;
+        }
+
+        @Nullable
+        @Override
+        protected Object handleGetObject(@Nonnull String key) {
+            return entries.get(key);
+        }
+
+        @Nonnull
+        @Override
+        public Enumeration<String> getKeys() {
+            return Collections.enumeration(entries.keySet());
+        }
+
+        @Override
+        protected Set<String> handleKeySet() {
+            return entries.keySet();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package basilisk.core
+
+import basilisk.core.controller.AbortActionExecution
+import spock.lang.Specification
+
+class BasiliskExceptionHandlerSpec extends Specification {
+    void "Sanitize removes frames of excluded packages only"() {
+        given:
+        Throwable throwable = new RuntimeException('boom')
+        throwable.stackTrace = [
+            frame('java.lang.reflect.Method'),
+            frame('com.acme.Foo'),
+            frame('org.codehaus.groovy.runtime.InvokerHelper'),
+            frame('javaxy.Bar')
+        ] as StackTraceElement[]
+
+        when:
+        BasiliskExceptionHandler.sanitize(throwable)
+
+        then:
+        throwable.stackTrace*.className == ['com.acme.Foo', 'javaxy.Bar']
+    }
+
+    void "Sanitize terminates on cyclic causes"() {
+        given:
+        Throwable first = new RuntimeException('first')
+        Throwable second = new IllegalStateException('second', first)
+        first.initCause(second)
+        first.stackTrace = [frame('sun.misc.Unsafe'), frame('com.acme.Foo')] as StackTraceElement[]
+        second.stackTrace = [frame('groovy.lang.Closure'), frame('com.acme.Bar')] as StackTraceElement[]
+
+        when:
+        BasiliskExceptionHandler.sanitize(first)
+
+        then:
+        first.stackTrace*.className == ['com.acme.Foo']
+        second.stackTrace*.className == ['com.acme.Bar']
+    }
+
+    void "AbortActionExecution carries no stack trace"() {
+        expect:
+        new AbortActionExecution().stackTrace.length == 0
+    }
+
+    private static StackTraceElement frame(String className) {
+        new StackTraceElement(className, 'method', null, -1)
+    }
+}
@@ -15,6 +15,7 @@
  */
 package basilisk.core
 
+import basilisk.core.ObservableContext.ContextEventListener
 import basilisk.core.editors.IntegerPropertyEditor
 import basilisk.core.editors.PropertyEditorResolver
 import org.kordamp.basilisk.runtime.core.DefaultObservableContext
@@ -227,6 +228,76 @@ class ObservableContextSpec extends Specification {
         listener3.contextEvent == null
     }
 
+    void "listen to keyed context events"() {
+        given:
+        ObservableContext parent = new DefaultObservableContext()
+        ObservableContext child = new DefaultObservableContext(parent)
+        TestContextEventListener listener = new TestContextEventListener()
+        child.addContextEventListener('key', listener)
+
+        when:
+        parent.put('other', 'value')
+
+        then:
+        listener.contextEvent == null
+        child.getContextEventListeners('key') == ([listener] as ContextEventListener[])
+
+        when:
+        parent.put('key', 'value')
+
+        then:
+        listener.contextEvent.type == ObservableContext.ContextEvent.Type.ADD
+        listener.contextEvent.key == 'key'
+        listener.contextEvent.newValue == 'value'
+
+        when:
+        child.put('key', 'shadow')
+        listener.contextEvent = null
+        parent.put('key', 'new')
+
+        then:
+        listener.contextEvent == null
+
+        when:
+        child.removeContextEventListener('key', listener)
+
+        then:
+        child.getContextEventListeners('key').size() == 0
+    }
+
+    void "putAll emits one aggregated event to batch listeners"() {
+        given:
+        ObservableContext parent = new DefaultObservableContext()
+        ObservableContext child = new DefaultObservableContext(parent)
+        child.put('shadowed', 'child')
+        TestBatchContextEventListener listener = new TestBatchContextEventListener()
+        child.addContextEventListener(listener)
+
+        when:
+        parent.putAll([key1: 'value1', key2: 'value2', shadowed: 'parent'])
+
+        then:
+        listener.batches.size() == 1
+        listener.batches[0]*.key == ['key1', 'key2']
+        listener.batches[0]*.type == [ObservableContext.ContextEvent.Type.ADD, ObservableContext.ContextEvent.Type.ADD]
+        parent.get('shadowed') == 'parent'
+        child.get('shadowed') == 'child'
+    }
+
+    private static class TestBatchContextEventListener implements ObservableContext.BatchContextEventListener {
+        List<List<ObservableContext.ContextEvent>> batches = []
+
+        @Override
+        void contextChanged(@Nonnull ObservableContext.ContextEvent contextEvent) {
+            batches << [contextEvent]
+        }
+
+        @Override
+        void contextBatchChanged(@Nonnull List<ObservableContext.ContextEvent> contextEvents) {
+            batches << contextEvents
+        }
+    }
+
     private static class TestContextEventListener implements ObservableContext.ContextEventListener {
         ObservableContext.ContextEvent contextEvent
 
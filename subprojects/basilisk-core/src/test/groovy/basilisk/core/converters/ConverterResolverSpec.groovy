@@ -0,0 +1,98 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package basilisk.core.converters
+
+import basilisk.core.editors.DatePropertyEditor
+import basilisk.core.editors.IntegerPropertyEditor
+import basilisk.core.editors.PropertyEditorResolver
+import spock.lang.Specification
+
+import java.text.SimpleDateFormat
+
+class ConverterResolverSpec extends Specification {
+    void setup() {
+        ConverterResolver.clear()
+        PropertyEditorResolver.clear()
+        PropertyEditorResolver.registerEditor(Integer, IntegerPropertyEditor)
+        PropertyEditorResolver.registerEditor(Date, DatePropertyEditor)
+    }
+
+    void cleanup() {
+        ConverterResolver.clear()
+    }
+
+    void "Converters are shared per target type and format"() {
+        expect:
+        ConverterResolver.findConverter(Integer).is(ConverterResolver.findConverter(Integer))
+        ConverterResolver.findConverter(Date, 'yyyy-MM-dd').is(ConverterResolver.findConverter(Date, 'yyyy-MM-dd'))
+        !ConverterResolver.findConverter(Date).is(ConverterResolver.findConverter(Date, 'yyyy-MM-dd'))
+    }
+
+    void "Converters delegate to registered property editors"() {
+        expect:
+        ConverterResolver.findConverter(Integer).convert('42') == 42
+        ConverterResolver.findConverter(Date, 'yyyy-MM-dd').convert('2016-01-02') == new SimpleDateFormat('yyyy-MM-dd').parse('2016-01-02')
+    }
+
+    void "Registering a property editor invalidates cached converters"() {
+        given:
+        Converter converter = ConverterResolver.findConverter(Integer)
+
+        when:
+        PropertyEditorResolver.registerEditor(Integer, IntegerPropertyEditor)
+
+        then:
+        !converter.is(ConverterResolver.findConverter(Integer))
+    }
+
+    void "Registered converters take precedence when no format is given"() {
+        given:
+        ConverterResolver.registerConverter(Integer, new Converter<Object, Integer>() {
+            @Override
+            Integer convert(Object value) {
+                return 7
+            }
+        })
+
+        expect:
+        ConverterResolver.findConverter(Integer).convert('1') == 7
+        ConverterResolver.findConverter(Integer, '#').convert('1') == 1
+
+        when:
+        ConverterResolver.unregisterConverter(Integer)
+
+        then:
+        ConverterResolver.findConverter(Integer).convert('1') == 1
+    }
+
+    void "Converters can be used concurrently"() {
+        given:
+        Converter<Object, Integer> converter = ConverterResolver.findConverter(Integer)
+        List<Integer> results = Collections.synchronizedList([])
+
+        when:
+        List<Thread> threads = (1..8).collect { int i ->
+            Thread.start {
+                (1..100).each { int j -> results << converter.convert(String.valueOf(i * 1000 + j)) }
+            }
+        }
+        threads*.join()
+
+        then:
+        results.size() == 800
+        results as Set == ((1..8).collect { int i -> (1..100).collect { int j -> i * 1000 + j } }.flatten() as Set)
+    }
+}
@@ -123,6 +123,49 @@ class PropertyEditorResolverSpec extends Specification {
         !(editor instanceof APropertyEditor)
     }
 
+    void "Editors registered for supertypes are used for subtypes"() {
+        given:
+        PropertyEditorResolver.clear()
+
+        expect:
+        PropertyEditorResolver.findEditor(SubType) instanceof PropertyEditorResolver.NoopPropertyEditor
+
+        when:
+        PropertyEditorResolver.registerEditor(Runnable, BPropertyEditor)
+
+        then:
+        PropertyEditorResolver.findEditor(SubType) instanceof BPropertyEditor
+
+        when:
+        PropertyEditorResolver.registerEditor(SuperType, APropertyEditor)
+
+        then: 'superclasses take precedence over interfaces'
+        PropertyEditorResolver.findEditor(SubType) instanceof APropertyEditor
+
+        when:
+        PropertyEditorResolver.unregisterEditor(SuperType)
+
+        then:
+        PropertyEditorResolver.findEditor(SubType) instanceof BPropertyEditor
+    }
+
+    void "Editors registered for Object are not used for other types"() {
+        given:
+        PropertyEditorResolver.clear()
+        PropertyEditorResolver.registerEditor(Object, APropertyEditor)
+
+        expect:
+        PropertyEditorResolver.findEditor(Object) instanceof APropertyEditor
+        PropertyEditorResolver.findEditor(SubType) instanceof PropertyEditorResolver.NoopPropertyEditor
+    }
+
+    static class SuperType {}
+
+    static class SubType extends SuperType implements Runnable {
+        @Override
+        void run() {}
+    }
+
     static class APropertyEditor extends AbstractPropertyEditor {
         static int called = 0
 
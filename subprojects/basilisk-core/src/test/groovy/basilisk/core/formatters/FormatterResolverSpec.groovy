@@ -0,0 +1,76 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package basilisk.core.formatters
+
+import spock.lang.Unroll
+
+import java.time.LocalDate
+
+@Unroll
+class FormatterResolverSpec extends FormatterSpecSupport {
+    void "Formatter for type #type is #formatterClass"() {
+        expect:
+        FormatterResolver.findFormatter(type, pattern)?.class == formatterClass
+
+        where:
+        type         | pattern      | formatterClass
+        Boolean      | null         | BooleanFormatter
+        Integer      | null         | IntegerFormatter
+        Integer.TYPE | '#,##0'      | IntegerFormatter
+        BigDecimal   | 'currency'   | BigDecimalFormatter
+        Date         | 'yyyy-MM-dd' | DateFormatter
+        LocalDate    | 'yyyy-MM-dd' | LocalDateFormatter
+        Locale       | null         | LocaleFormatter
+        Object       | null         | null
+    }
+
+    void "Formatters are shared per type, pattern and locale"() {
+        given:
+        Formatter<Double> formatter = FormatterResolver.findFormatter(Double, '#,##0.00')
+
+        expect:
+        formatter.is(FormatterResolver.findFormatter(Double, '#,##0.00'))
+        !formatter.is(FormatterResolver.findFormatter(Double, '#.0'))
+
+        when:
+        Locale.default = Locale.GERMANY
+
+        then:
+        FormatterResolver.findFormatter(Double, '#,##0.00').format(1234.5d) == '1.234,50'
+        formatter.format(1234.5d) == '1,234.50'
+    }
+
+    void "Shared formatters can be used concurrently"() {
+        given:
+        Formatter<Date> formatter = FormatterResolver.findFormatter(Date, 'yyyy-MM-dd HH:mm:ss')
+        List<Boolean> results = Collections.synchronizedList([])
+
+        when:
+        List<Thread> threads = (1..8).collect { int i ->
+            Thread.start {
+                (1..500).each { int j ->
+                    Date date = new Date((i * 1000000L + j) * 1000L)
+                    results << (formatter.parse(formatter.format(date)) == date)
+                }
+            }
+        }
+        threads*.join()
+
+        then:
+        results.size() == 4000
+        results.every()
+    }
+}
@@ -60,6 +60,7 @@ class IntegerFormatterSpec extends FormatterSpecSupport {
         null             | 100 as int | '100'
         ''               | 100 as int | '100'
         '##.0'           | 20 as int  | '20.0'
+        '0E0'            | 1000000    | '1E6'
     }
 
     void "Parse error for pattern '#pattern' with literal '#literal'"() {
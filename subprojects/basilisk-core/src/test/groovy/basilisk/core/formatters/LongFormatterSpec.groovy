@@ -60,6 +60,7 @@ class LongFormatterSpec extends FormatterSpecSupport {
         null             | 100 as long | '100'
         ''               | 100 as long | '100'
         '##.0'           | 20 as long  | '20.0'
+        '0E0'            | 1000000L    | '1E6'
     }
 
     void "Parse error for pattern '#pattern' with literal '#literal'"() {
@@ -88,4 +89,26 @@ class LongFormatterSpec extends FormatterSpecSupport {
         where:
         pattern << [';garbage*@%&']
     }
+
+    void "Primitive long '#value' with pattern '#pattern' produces literal '#literal'"() {
+        given:
+        LongFormatter formatter = new LongFormatter(pattern)
+        StringBuilder output = new StringBuilder()
+
+        when:
+        formatter.format(value, output)
+
+        then:
+        output.toString() == literal
+        formatter.format(value as Long) == literal
+
+        where:
+        pattern          | value             | literal
+        null             | 1234567L          | '1,234,567'
+        null             | Long.MIN_VALUE    | '-9,223,372,036,854,775,808'
+        '0000'           | 42L               | '0042'
+        '0E0'            | 1234567L          | '1E6'
+        '##0E0'          | 1234567L          | '1.23E6'
+        PATTERN_CURRENCY | 100L              | '$100.00'
+    }
 }
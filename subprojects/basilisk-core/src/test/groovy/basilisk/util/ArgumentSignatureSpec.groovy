@@ -0,0 +1,47 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package basilisk.util
+
+import spock.lang.Specification
+
+class ArgumentSignatureSpec extends Specification {
+    void "Signatures of the same types are equal"() {
+        expect:
+        ArgumentSignature.forArguments('a', 1) == ArgumentSignature.of(String, Integer)
+        ArgumentSignature.forArguments('a', 1).hashCode() == ArgumentSignature.of(String, Integer).hashCode()
+        ArgumentSignature.forArguments('a', 1) != ArgumentSignature.of(String, Long)
+        ArgumentSignature.forArguments().is(ArgumentSignature.EMPTY)
+        ArgumentSignature.forArguments(null).is(ArgumentSignature.EMPTY)
+    }
+
+    void "Null arguments have no type"() {
+        given:
+        ArgumentSignature signature = ArgumentSignature.forArguments('a', null)
+
+        expect:
+        signature.size() == 2
+        signature.getType(0) == String
+        signature.getType(1) == null
+        signature == ArgumentSignature.of(String, null)
+    }
+
+    void "Exact matches compare every type"() {
+        expect:
+        ArgumentSignature.of(String, Integer).isExactly([String, Integer] as Class[])
+        !ArgumentSignature.of(String, Integer).isExactly([String, int] as Class[])
+        !ArgumentSignature.of(String).isExactly([String, Integer] as Class[])
+    }
+}
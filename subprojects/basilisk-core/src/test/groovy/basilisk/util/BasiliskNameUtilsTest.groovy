@@ -150,6 +150,16 @@ class BasiliskNameUtilsTest extends GroovyTestCase {
     void testGetClassNameForLowerCaseHyphenSeparatedName() {
         assert "BasiliskNameUtils" == BasiliskNameUtils.getClassNameForLowerCaseHyphenSeparatedName("basilisk-name-utils")
     }
+
+    void testConversionsAreMemoized() {
+        assert BasiliskNameUtils.capitalize('memoized').is(BasiliskNameUtils.capitalize('memoized'))
+        assert BasiliskNameUtils.uncapitalize('Memoized').is(BasiliskNameUtils.uncapitalize('Memoized'))
+        assert BasiliskNameUtils.getNaturalName('memoizedName').is(BasiliskNameUtils.getNaturalName('memoizedName'))
+        assert BasiliskNameUtils.getPropertyName('MemoizedName').is(BasiliskNameUtils.getPropertyName('MemoizedName'))
+        assert 'memoized' == BasiliskNameUtils.getLogicalPropertyName('MemoizedController', 'Controller')
+        assert 'memoized' == BasiliskNameUtils.getLogicalPropertyName('MemoizedController', 'Controller')
+        assert 'memoizedController' == BasiliskNameUtils.getLogicalPropertyName('MemoizedController', 'Service')
+    }
 }
 
 @SuppressWarnings('EmptyClass')
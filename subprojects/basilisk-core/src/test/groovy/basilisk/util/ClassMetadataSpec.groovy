@@ -0,0 +1,96 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package basilisk.util
+
+import spock.lang.Specification
+
+import javax.inject.Named
+import java.lang.reflect.Field
+
+class ClassMetadataSpec extends Specification {
+    void "Metadata is shared per class"() {
+        expect:
+        ClassMetadata.of(Child).is(ClassMetadata.of(Child))
+        !ClassMetadata.of(Child).is(ClassMetadata.of(Parent))
+    }
+
+    void "Clearing discards cached metadata"() {
+        given:
+        ClassMetadata metadata = ClassMetadata.of(Child)
+
+        when:
+        ClassMetadata.clear()
+
+        then:
+        !metadata.is(ClassMetadata.of(Child))
+    }
+
+    void "Fields of the class hierarchy are cached and copied on access"() {
+        given:
+        ClassMetadata metadata = ClassMetadata.of(Child)
+
+        when:
+        Field[] fields = metadata.allDeclaredFields
+
+        then:
+        fields*.name.containsAll(['childValue', 'parentValue'])
+        !fields.is(metadata.allDeclaredFields)
+        fields[0].is(metadata.allDeclaredFields[0])
+    }
+
+    void "Annotations are resolved through superclasses and interfaces"() {
+        expect:
+        ClassMetadata.of(Child).findAnnotation(Named)?.value() == 'parent'
+        ClassMetadata.of(Child).isAnnotatedWith(Deprecated)
+        !ClassMetadata.of(Child).isAnnotatedWith(FunctionalInterface)
+    }
+
+    void "Property descriptors are cached and copied on access"() {
+        given:
+        ClassMetadata metadata = ClassMetadata.of(Child)
+
+        expect:
+        !metadata.propertyDescriptors.is(metadata.propertyDescriptors)
+        metadata.propertyDescriptors[0].is(metadata.propertyDescriptors[0])
+        metadata.propertyDescriptors*.name.contains('childValue')
+    }
+
+    void "Annotation types of a child classloader are not cached"() {
+        given:
+        ClassMetadata metadata = ClassMetadata.of(Child)
+        Class annotationType = new GroovyClassLoader(Child.classLoader).parseClass('@interface ChildLoaderMarker {}')
+
+        expect:
+        !metadata.isAnnotatedWith(annotationType)
+        !metadata.findAnnotation(annotationType)
+        !metadata.@annotatedWith.containsKey(annotationType)
+        !metadata.@annotationsByType.containsKey(annotationType)
+        metadata.isAnnotatedWith(Deprecated)
+        metadata.@annotatedWith.containsKey(Deprecated)
+    }
+
+    @Deprecated
+    static interface Marker {}
+
+    @Named('parent')
+    static class Parent {
+        String parentValue
+    }
+
+    static class Child extends Parent implements Marker {
+        String childValue
+    }
+}
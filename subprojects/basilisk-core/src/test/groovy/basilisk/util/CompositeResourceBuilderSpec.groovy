@@ -48,4 +48,16 @@ class CompositeResourceBuilderSpec extends Specification {
         'key.number' | 'number'
         'key.float'  | 'float'
     }
+
+    def 'Keys shared by several bundles resolve to a merged nested map'() {
+        setup:
+        ResourceBundle bundle = new CompositeResourceBundle(
+            [new MapResourceBundle(), new MapResourceBundle2()]
+        )
+
+        expect:
+        bundle.getObject('key') == [string: 'string', number: 'number', float: 'float']
+        bundle.keySet() == ['single', 'key', 'key.string', 'key.number', 'key.float'] as Set
+        ((CompositeResourceBundle) bundle).findObject('bogus') == null
+    }
 }
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package basilisk.util
+
+import spock.lang.Specification
+
+import java.lang.reflect.Field
+
+class FieldAccessorSpec extends Specification {
+    void "Read and write a private field without changing its accessible flag"() {
+        given:
+        Target target = new Target()
+        Field field = Target.getDeclaredField('count')
+        FieldAccessor accessor = FieldAccessor.of(field)
+
+        when:
+        accessor.set(target, 3)
+
+        then:
+        accessor.get(target) == 3
+        !field.accessible
+        accessor.is(FieldAccessor.of(Target.getDeclaredField('count')))
+    }
+
+    void "Values that need widening are still accepted"() {
+        given:
+        Target target = new Target()
+
+        when:
+        FieldAccessor.of(Target.getDeclaredField('total')).set(target, 5)
+
+        then:
+        target.@total == 5L
+    }
+
+    void "Setting an incompatible value on a primitive field fails with IllegalArgumentException"() {
+        when:
+        FieldAccessor.of(Target.getDeclaredField('count')).set(new Target(), value)
+
+        then:
+        thrown(IllegalArgumentException)
+
+        where:
+        value << [null, 'x']
+    }
+
+    void "Final fields can be read"() {
+        expect:
+        FieldAccessor.of(Target.getDeclaredField('name')).get(new Target()) == 'target'
+    }
+
+    static class Target {
+        private int count
+        private long total
+        private final String name = 'target'
+    }
+}
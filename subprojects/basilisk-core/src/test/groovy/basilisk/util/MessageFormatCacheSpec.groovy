@@ -0,0 +1,69 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package basilisk.util
+
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.text.MessageFormat
+
+@Unroll
+class MessageFormatCacheSpec extends Specification {
+    def 'Formatting #pattern matches MessageFormat.format'() {
+        given:
+        MessageFormatCache cache = new MessageFormatCache()
+        Object[] args = ['x', 42] as Object[]
+
+        expect:
+        cache.format(pattern, args) == MessageFormat.format(pattern, args)
+        cache.format(pattern, args) == MessageFormat.format(pattern, args)
+
+        where:
+        pattern << ['plain', "It''s {0}", "quote '' only", '{0} and {1,number}', "'{0}'"]
+    }
+
+    def 'Named pattern #pattern is formatted as #expected'() {
+        given:
+        MessageFormatCache cache = new MessageFormatCache()
+        Map<String, Object> args = [name: 'x', count: 42, empty: null]
+
+        expect:
+        cache.formatNamed(pattern, args) == expected
+        cache.formatNamed(pattern, args) == expected
+
+        where:
+        pattern                    | expected
+        'plain'                    | 'plain'
+        '{:name}'                  | 'x'
+        'a {:name} b {:count} c'   | 'a x b 42 c'
+        '{:name}{:name}'           | 'xx'
+        '{:missing} {:empty}'      | '{:missing} {:empty}'
+        '{:name'                   | '{:name'
+        '{:{:name}'                | '{:x'
+        '{0} {:count}'             | '{0} 42'
+    }
+
+    def 'Cache does not grow beyond its capacity'() {
+        given:
+        MessageFormatCache cache = new MessageFormatCache(4)
+
+        when:
+        20.times { cache.format("{0} ${it}", [it] as Object[]) }
+
+        then:
+        cache.size() <= 4
+    }
+}
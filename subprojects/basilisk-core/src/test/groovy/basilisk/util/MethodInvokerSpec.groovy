@@ -0,0 +1,73 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package basilisk.util
+
+import spock.lang.Specification
+
+import java.lang.reflect.InvocationTargetException
+import java.lang.reflect.Method
+
+class MethodInvokerSpec extends Specification {
+    void "Invokers are shared per method"() {
+        given:
+        Method method = Target.getMethod('greet', String, int)
+
+        expect:
+        MethodInvoker.of(method).is(MethodInvoker.of(Target.getMethod('greet', String, int)))
+    }
+
+    void "Invoke instance, static and void methods"() {
+        given:
+        Target target = new Target()
+
+        expect:
+        MethodInvoker.of(Target.getMethod('greet', String, int)).invoke(target, 'a', 2) == 'a2'
+        MethodInvoker.of(Target.getMethod('twice', int)).invoke(null, 4) == 8
+        MethodInvoker.of(Target.getMethod('noop')).invoke(target) == null
+    }
+
+    void "Arguments that need widening are still accepted"() {
+        expect:
+        MethodInvoker.of(Target.getMethod('twice', int)).invoke(null, (short) 3) == 6
+    }
+
+    void "Exceptions thrown by the method are wrapped"() {
+        when:
+        MethodInvoker.of(Target.getMethod('fail')).invoke(new Target())
+
+        then:
+        InvocationTargetException e = thrown(InvocationTargetException)
+        e.targetException instanceof IllegalStateException
+    }
+
+    void "Mismatched arguments are rejected with IllegalArgumentException"() {
+        when:
+        MethodInvoker.of(Target.getMethod('twice', int)).invoke(null, 'x')
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    static class Target {
+        String greet(String who, int times) { who + times }
+
+        static int twice(int value) { value * 2 }
+
+        void noop() {}
+
+        void fail() { throw new IllegalStateException('fail') }
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.basilisk.runtime.core
+
+import basilisk.core.Configuration
+import basilisk.core.ConfigurationSnapshot
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import javax.annotation.Nonnull
+
+@Unroll
+class ConfigurationSnapshotSpec extends Specification {
+    def 'Snapshot of a ResourceBundleConfiguration resolves #key to #expectedValue'() {
+        given:
+        Configuration configuration = new ResourceBundleConfiguration(new MapResourceBundle())
+
+        expect:
+        expectedValue == configuration.snapshot().get(key)
+
+        where:
+        key                  || expectedValue
+        'key.string'         || 'string'
+        'key.int.type'       || 42
+        'key.boolean'        || null
+        'key.undefined'      || null
+    }
+
+    def 'Typed accessors convert values'() {
+        given:
+        ConfigurationSnapshot snapshot = new ResourceBundleConfiguration(new MapResourceBundle()).snapshot()
+
+        expect:
+        snapshot.getAsBoolean('key.boolean.string', false)
+        snapshot.getAsInt('key.int.string', -1) == 21
+        snapshot.getAsLong('key.long.type', -1L) == 64L
+        snapshot.getAsFloat('key.float.string', -1f) == 6.2832f
+        snapshot.getAsDouble('key.double.type', -1d) == 3.1416d
+        snapshot.getAsString('key.undefined', 'default') == 'default'
+    }
+
+    def 'Snapshot of a map expands nested maps'() {
+        given:
+        ConfigurationSnapshot snapshot = ConfigurationSnapshot.of([events: [lifecycle: false], component: true])
+
+        expect:
+        !snapshot.getAsBoolean('events.lifecycle', true)
+        snapshot.getAsBoolean('events.listener', true)
+        snapshot.getAsBoolean('component', false)
+    }
+
+    def 'Mutable configuration updates its snapshot incrementally'() {
+        given:
+        DelegatingMutableConfiguration configuration = new DelegatingMutableConfiguration(new ResourceBundleConfiguration(new MapResourceBundle()))
+        ConfigurationSnapshot original = configuration.snapshot()
+
+        when:
+        configuration.set('key.string', 'updated')
+        configuration.set('key.map', [nested: 1])
+
+        then:
+        configuration.snapshot().get('key.string') == 'updated'
+        configuration.snapshot().getAsInt('key.map.nested', 0) == 1
+        original.get('key.string') == 'string'
+
+        when:
+        configuration.remove('key.map')
+        configuration.remove('key.int.type')
+
+        then:
+        configuration.snapshot().get('key.map.nested') == null
+        configuration.get('key.int.type') == null
+    }
+
+    def 'Mutable configuration reflects later changes of its delegate'() {
+        given:
+        DelegatingMutableConfiguration delegate = new DelegatingMutableConfiguration(new ResourceBundleConfiguration(new MapResourceBundle()))
+        DelegatingMutableConfiguration configuration = new DelegatingMutableConfiguration(delegate)
+
+        when:
+        delegate.set('key.int.type', 42)
+
+        then:
+        configuration.get('key.int.type') == 42
+        configuration.getAsInt('key.int.type') == 42
+        configuration.snapshot().getAsInt('key.int.type', 0) == 42
+
+        when:
+        configuration.set('key.int.type', 7)
+        delegate.set('key.int.type', 43)
+
+        then:
+        configuration.getAsInt('key.int.type') == 7
+        configuration.snapshot().getAsInt('key.int.type', 0) == 7
+    }
+
+    def 'Snapshot of a custom mutable configuration reflects its current state'() {
+        given:
+        MapConfiguration configuration = new MapConfiguration()
+        configuration.values['key.string'] = 'string'
+
+        expect:
+        configuration.snapshot().getAsString('key.string', null) == 'string'
+
+        when:
+        configuration.values['key.string'] = 'updated'
+
+        then:
+        configuration.snapshot().getAsString('key.string', null) == 'updated'
+    }
+
+    static class MapConfiguration extends AbstractConfiguration {
+        final Map<String, Object> values = [:]
+
+        @Override
+        boolean containsKey(@Nonnull String key) {
+            values.containsKey(key)
+        }
+
+        @Nonnull
+        @Override
+        Map<String, Object> asFlatMap() {
+            new LinkedHashMap<>(values)
+        }
+
+        @Nonnull
+        @Override
+        ResourceBundle asResourceBundle() {
+            new MapResourceBundle()
+        }
+
+        @Override
+        Object get(@Nonnull String key) {
+            values.get(key)
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.basilisk.runtime.core
+
+import basilisk.core.ObservableConfiguration
+import spock.lang.Specification
+
+import javax.annotation.Nonnull
+import java.nio.file.Files
+import java.nio.file.Path
+
+class FileWatchingConfigurationSourceSpec extends Specification {
+    def 'Reloading applies differences and publishes change events'() {
+        given:
+        Path directory = Files.createTempDirectory('basilisk-config')
+        Path file = directory.resolve('Config.properties')
+        file.toFile().text = 'key.string=string\nkey.extra=extra\n'
+
+        DelegatingMutableConfiguration configuration = new DelegatingMutableConfiguration(new ResourceBundleConfiguration(new MapResourceBundle()))
+        List<ObservableConfiguration.ConfigurationChangeEvent> events = []
+        configuration.addConfigurationChangeListener(new ObservableConfiguration.ConfigurationChangeListener() {
+            @Override
+            void configurationChanged(@Nonnull ObservableConfiguration.ConfigurationChangeEvent event) {
+                events << event
+            }
+        })
+        FileWatchingConfigurationSource source = new FileWatchingConfigurationSource(configuration, directory)
+
+        when:
+        source.reload()
+
+        then:
+        events.size() == 1
+        events[0].type == ObservableConfiguration.ConfigurationChangeEvent.Type.ADD
+        events[0].key == 'key.extra'
+        configuration.get('key.extra') == 'extra'
+
+        when:
+        events.clear()
+        file.toFile().text = 'key.string=updated\n'
+        source.reload()
+
+        then:
+        events*.type == [ObservableConfiguration.ConfigurationChangeEvent.Type.UPDATE, ObservableConfiguration.ConfigurationChangeEvent.Type.REMOVE]
+        configuration.get('key.string') == 'updated'
+        configuration.get('key.extra') == null
+
+        cleanup:
+        directory.toFile().deleteDir()
+    }
+
+    def 'Deleting an overriding line restores the bundle value'() {
+        given:
+        Path directory = Files.createTempDirectory('basilisk-config')
+        Path file = directory.resolve('Config.properties')
+        file.toFile().text = 'key.string=updated\n'
+
+        DelegatingMutableConfiguration configuration = new DelegatingMutableConfiguration(new ResourceBundleConfiguration(new MapResourceBundle()))
+        List<ObservableConfiguration.ConfigurationChangeEvent> events = []
+        configuration.addConfigurationChangeListener(new ObservableConfiguration.ConfigurationChangeListener() {
+            @Override
+            void configurationChanged(@Nonnull ObservableConfiguration.ConfigurationChangeEvent event) {
+                events << event
+            }
+        })
+        FileWatchingConfigurationSource source = new FileWatchingConfigurationSource(configuration, directory)
+
+        when:
+        source.reload()
+
+        then:
+        configuration.get('key.string') == 'updated'
+
+        when:
+        events.clear()
+        file.toFile().text = ''
+        source.reload()
+
+        then:
+        events*.type == [ObservableConfiguration.ConfigurationChangeEvent.Type.UPDATE]
+        events[0].newValue == 'string'
+        configuration.get('key.string') == 'string'
+        configuration.containsKey('key.string')
+        configuration.snapshot().get('key.string') == 'string'
+
+        cleanup:
+        directory.toFile().deleteDir()
+    }
+}
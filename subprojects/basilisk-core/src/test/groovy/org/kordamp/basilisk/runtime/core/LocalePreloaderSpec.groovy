@@ -0,0 +1,73 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.basilisk.runtime.core
+
+import basilisk.core.i18n.MessageSource
+import basilisk.core.resources.ResourceResolver
+import basilisk.core.threading.UIThreadManager
+import spock.lang.Specification
+import spock.lang.Unroll
+
+@Unroll
+class LocalePreloaderSpec extends Specification {
+    def 'A locale is loaded only once'() {
+        given:
+        MessageSource messageSource = Mock(MessageSource)
+        ResourceResolver resourceResolver = Mock(ResourceResolver)
+        LocalePreloader preloader = new LocalePreloader(messageSource, resourceResolver, Mock(UIThreadManager))
+
+        when:
+        preloader.load(Locale.FRENCH)
+        preloader.load(Locale.FRENCH)
+
+        then:
+        1 * messageSource.prewarm(Locale.FRENCH)
+        1 * resourceResolver.prewarm(Locale.FRENCH)
+    }
+
+    def 'A failed load may be retried'() {
+        given:
+        MessageSource messageSource = Mock(MessageSource)
+        ResourceResolver resourceResolver = Mock(ResourceResolver)
+        LocalePreloader preloader = new LocalePreloader(messageSource, resourceResolver, Mock(UIThreadManager))
+
+        when:
+        preloader.load(Locale.FRENCH)
+
+        then:
+        1 * messageSource.prewarm(Locale.FRENCH) >> { throw new IllegalArgumentException('boom') }
+        thrown(IllegalArgumentException)
+
+        when:
+        preloader.load(Locale.FRENCH)
+
+        then:
+        1 * messageSource.prewarm(Locale.FRENCH)
+        1 * resourceResolver.prewarm(Locale.FRENCH)
+    }
+
+    def 'Converting #value gives #locales'() {
+        expect:
+        LocalePreloader.toLocales(value) == locales
+
+        where:
+        value                            || locales
+        null                             || []
+        'en_US, fr'                      || [Locale.US, Locale.FRENCH]
+        ['de_DE']                        || [Locale.GERMANY]
+        ['it', Locale.JAPAN] as Object[] || [Locale.ITALIAN, Locale.JAPAN]
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.basilisk.runtime.core.artifact
+
+import basilisk.util.MethodDescriptor
+import spock.lang.Specification
+
+import java.lang.reflect.Modifier
+
+class ArtifactMetadataSpec extends Specification {
+    void "Parse generated metadata"() {
+        given:
+        String input = '''version=2
+method=1 void click()
+method=17 [I compute([Ljava.lang.String;,int)
+contextual=field ctx
+resource=property title
+'''
+
+        when:
+        ArtifactMetadata metadata = ArtifactMetadata.parse(new BufferedReader(new StringReader(input)))
+
+        then:
+        metadata.methods[new MethodDescriptor('click')] == 'void'
+        metadata.methods[new MethodDescriptor('compute', ['[Ljava.lang.String;', 'int'] as String[], Modifier.PUBLIC | Modifier.FINAL)] == '[I'
+        metadata.contextualMembers == ['field ctx'] as Set
+        metadata.resourceMembers == ['property title'] as Set
+    }
+
+    void "Metadata of an unsupported version is ignored"() {
+        expect:
+        !ArtifactMetadata.parse(new BufferedReader(new StringReader('version=1\nmethod=void click()\n')))
+    }
+
+    void "Classes without generated metadata have none"() {
+        expect:
+        !ArtifactMetadata.forClass(ArtifactMetadataSpec)
+    }
+}
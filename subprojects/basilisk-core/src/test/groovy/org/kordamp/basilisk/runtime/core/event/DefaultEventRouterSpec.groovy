@@ -44,6 +44,35 @@ class DefaultEventRouterSpec extends Specification {
     @Inject
     private EventRouter eventRouter
 
+    def 'Checking for event listeners by name'() {
+        given:
+
+        String eventName1 = MyEvent1.simpleName
+        String eventName2 = MyEvent2.simpleName
+        TestRunnableEventHandler eventHandler = new TestRunnableEventHandler()
+
+        expect:
+
+        !eventRouter.hasEventListeners(eventName1)
+
+        when:
+
+        eventRouter.addEventListener(eventName1, eventHandler)
+
+        then:
+
+        eventRouter.hasEventListeners(eventName1)
+        !eventRouter.hasEventListeners(eventName2)
+
+        when:
+
+        eventRouter.removeEventListener(eventName1, eventHandler)
+
+        then:
+
+        !eventRouter.hasEventListeners(eventName1)
+    }
+
     def 'Invoking an event by name in synchronous mode with a callable listener'() {
         given:
 
@@ -729,6 +758,24 @@ class DefaultEventRouterSpec extends Specification {
         eventRouter.getEventListeners(eventName2).size() == 2
     }
 
+    def 'Invoking an overloaded event handler prefers exact argument matches'() {
+        given:
+
+        MyEvent1 event = new MyEvent1('source')
+        OverloadedEventHandler eventHandler = new OverloadedEventHandler()
+        eventRouter.addEventListener(eventHandler)
+
+        when:
+
+        eventRouter.publishEvent(event)
+        eventRouter.publishEvent(MyEvent2.simpleName, [2])
+        eventRouter.publishEvent(MyEvent2.simpleName, [2L])
+
+        then:
+
+        eventHandler.calls == [['MyEvent1', event], ['int', 2], ['Number', 2L]]
+    }
+
     static final class TestModule extends AbstractModule {
         @Override
         protected void configure() {
@@ -784,6 +831,26 @@ class DefaultEventRouterSpec extends Specification {
             this.args = [event]
         }
     }
+
+    static class OverloadedEventHandler {
+        List calls = []
+
+        void onMyEvent1(Object arg) {
+            calls << ['Object', arg]
+        }
+
+        void onMyEvent1(MyEvent1 event) {
+            calls << ['MyEvent1', event]
+        }
+
+        void onMyEvent2(Number arg) {
+            calls << ['Number', arg]
+        }
+
+        void onMyEvent2(int arg) {
+            calls << ['int', arg]
+        }
+    }
 }
 
 class Subject {
@@ -19,6 +19,10 @@ import basilisk.core.ApplicationClassLoader
 import basilisk.core.i18n.MessageSource
 import basilisk.core.resources.ResourceHandler
 import basilisk.util.CompositeResourceBundleBuilder
+import basilisk.util.ReloadableResourceBundleSource
+import basilisk.util.ResourceBundleChangeEvent
+import basilisk.util.ResourceBundleChangeListener
+import basilisk.util.ResourceBundleReloader
 import com.google.guiceberry.GuiceBerryModule
 import com.google.guiceberry.junit4.GuiceBerryRule
 import com.google.inject.AbstractModule
@@ -109,6 +113,23 @@ class CompositeMessageSourceTests {
         new CompositeMessageSource([])
     }
 
+    @Test
+    void keysAddedToReloadedBundlesAreNoLongerMissing() {
+        Map<String, Object> messages = [:]
+        MessageSource messageSource = [findMessageValue: { String key, Locale locale -> messages[key] }] as MessageSource
+        ResourceBundleChangeListener listener = null
+        ResourceBundleReloader reloader = [addResourceBundleChangeListener: { ResourceBundleChangeListener l -> listener = l }] as ResourceBundleReloader
+        MessageSource compositeMessageSource = new CompositeMessageSource([messageSource], reloader)
+
+        assert null == compositeMessageSource.findMessageValue('new.key', Locale.default)
+
+        messages['new.key'] = 'new'
+        assert null == compositeMessageSource.findMessageValue('new.key', Locale.default)
+
+        listener.bundleChanged(new ResourceBundleChangeEvent([:] as ReloadableResourceBundleSource, Locale.default, ['new.key'] as Set))
+        assert 'new' == compositeMessageSource.findMessageValue('new.key', Locale.default)
+    }
+
     static final class TestModule extends AbstractModule {
         @Override
         protected void configure() {
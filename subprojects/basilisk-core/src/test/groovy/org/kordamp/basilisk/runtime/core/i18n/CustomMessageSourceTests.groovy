@@ -145,6 +145,31 @@ class CustomMessageSourceTests {
         assert '@[]' == messageSource.resolveMessageValue('not.a.reference.key3', Locale.default)
     }
 
+    @Test
+    void findMessageValueReturnsNullForMissingKeys() {
+        assert "what's up doc?" == messageSource.findMessageValue('reference.key', Locale.default)
+        assert null == messageSource.findMessageValue('bogus', Locale.default)
+        assert null == messageSource.findMessageValue('bogus', Locale.default)
+        shouldFail(NoSuchMessageException) {
+            messageSource.resolveMessageValue('bogus', Locale.default)
+        }
+    }
+
+    @Test
+    void findMessageFormatsArguments() {
+        assert 'string' == messageSource.findMessage('key.string', [] as Object[], Locale.default)
+        assert null == messageSource.findMessage('bogus', [] as Object[], Locale.default)
+    }
+
+    @Test
+    void customMessageSourcesDoNotCacheMissingKeys() {
+        DynamicMessageSource dynamicMessageSource = new DynamicMessageSource()
+        assert null == dynamicMessageSource.findMessage('dynamic.key', ['world'] as Object[], Locale.default)
+
+        dynamicMessageSource.messages['dynamic.key'] = 'Hello {0}'
+        assert 'Hello world' == dynamicMessageSource.findMessage('dynamic.key', ['world'] as Object[], Locale.default)
+    }
+
     private String shouldFail(Class clazz, Closure code) {
         return GroovyAssert.shouldFail(clazz, code).getMessage()
     }
@@ -193,4 +218,24 @@ class CustomMessageSourceTests {
             return bundle
         }
     }
-}
\ No newline at end of file
+
+    static class DynamicMessageSource extends AbstractMessageSource {
+        final Map<String, Object> messages = [:]
+
+        @Nonnull
+        @Override
+        protected Object doResolveMessageValue(
+            @Nonnull String key, @Nonnull Locale locale) throws NoSuchMessageException {
+            Object message = messages[key]
+            if (message == null) {
+                throw new NoSuchMessageException(key, locale)
+            }
+            message
+        }
+
+        @Override
+        ResourceBundle asResourceBundle() {
+            return asResourceBundle(Locale.default)
+        }
+    }
+}
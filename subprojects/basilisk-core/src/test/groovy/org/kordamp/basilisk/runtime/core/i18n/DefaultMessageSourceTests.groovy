@@ -21,6 +21,7 @@ import basilisk.core.i18n.MessageSource
 import basilisk.core.i18n.NoSuchMessageException
 import basilisk.core.resources.ResourceHandler
 import basilisk.util.CompositeResourceBundleBuilder
+import basilisk.util.ResourceBundleReloader
 import com.google.guiceberry.GuiceBerryModule
 import com.google.guiceberry.junit4.GuiceBerryRule
 import com.google.inject.AbstractModule
@@ -29,6 +30,7 @@ import org.junit.Test
 import org.kordamp.basilisk.runtime.core.DefaultApplicationClassLoader
 import org.kordamp.basilisk.runtime.core.resources.DefaultResourceHandler
 import org.kordamp.basilisk.runtime.util.DefaultCompositeResourceBundleBuilder
+import org.kordamp.basilisk.runtime.util.DefaultResourceBundleReloader
 
 import javax.annotation.Nonnull
 import javax.annotation.Nullable
@@ -103,6 +105,17 @@ class DefaultMessageSourceTests {
         assert resourceBundle.getString('famous.quote.map')
     }
 
+    @Test
+    void resourceBundleViewIsSharedPerLocale() {
+        ResourceBundle resourceBundle = messageSource.asResourceBundle(Locale.default)
+
+        assert resourceBundle.is(messageSource.asResourceBundle(Locale.default))
+        assert resourceBundle.is(messageSource.asResourceBundle())
+        assert resourceBundle.locale == Locale.default
+        assert resourceBundle.containsKey('healthy.proverb.index')
+        assert resourceBundle.keySet().containsAll(['healthy.proverb.index', 'famous.quote.map'])
+    }
+
     @Test(expected = MissingResourceException)
     void invalidKeysInResourceBundle() {
         ResourceBundle resourceBundle = messageSource.asResourceBundle()
@@ -194,6 +207,16 @@ class DefaultMessageSourceTests {
         }
     }
 
+    @Test
+    void resourceBundleViewOfSourceWithoutKeySet() {
+        ViewMessageSource messageSource = new ViewMessageSource()
+        ResourceBundle resourceBundle = messageSource.asResourceBundle()
+
+        assert resourceBundle.keySet().isEmpty()
+        assert !resourceBundle.containsKey('magic')
+        assert 'rainbows' == resourceBundle.getObject('magic')
+    }
+
     static final class TestModule extends AbstractModule {
         @Override
         protected void configure() {
@@ -201,6 +224,7 @@ class DefaultMessageSourceTests {
             bind(ApplicationClassLoader).to(DefaultApplicationClassLoader).in(Singleton)
             bind(ResourceHandler).to(DefaultResourceHandler).in(Singleton)
             bind(CompositeResourceBundleBuilder).to(DefaultCompositeResourceBundleBuilder).in(Singleton)
+            bind(ResourceBundleReloader).to(DefaultResourceBundleReloader).in(Singleton)
             bind(MessageSourceDecoratorFactory)
                 .to(DefaultMessageSourceDecoratorFactory)
             bind(MessageSource)
@@ -230,6 +254,22 @@ class DefaultMessageSourceTests {
         }
     }
 
+    static final class ViewMessageSource extends AbstractMessageSource {
+        @Nonnull
+        @Override
+        protected Object doResolveMessageValue(
+            @Nonnull String key,
+            @Nonnull Locale locale) throws NoSuchMessageException {
+            if (key == 'magic') return 'rainbows'
+            throw new NoSuchMessageException(key, locale)
+        }
+
+        @Override
+        ResourceBundle asResourceBundle() {
+            return asResourceBundle(Locale.default)
+        }
+    }
+
     private String shouldFail(Class clazz, Closure code) {
         return GroovyAssert.shouldFail(clazz, code).getMessage()
     }
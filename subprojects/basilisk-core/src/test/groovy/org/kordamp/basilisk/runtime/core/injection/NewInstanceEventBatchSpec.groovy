@@ -0,0 +1,130 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.basilisk.runtime.core.injection
+
+import basilisk.core.ApplicationEvent
+import basilisk.core.RunnableWithArgs
+import org.kordamp.basilisk.runtime.core.event.DefaultEventRouter
+import spock.lang.Specification
+
+import javax.annotation.Nonnull
+import javax.annotation.Nullable
+
+class NewInstanceEventBatchSpec extends Specification {
+    def 'Instances are not deferred outside of a batch'() {
+        expect:
+        !NewInstanceEventBatch.defer('one')
+
+        when:
+        NewInstanceEventBatch.finish()
+
+        then:
+        thrown(IllegalStateException)
+    }
+
+    def 'A batch collects instances in creation order'() {
+        when:
+        NewInstanceEventBatch.start()
+        boolean deferred = NewInstanceEventBatch.defer('one') && NewInstanceEventBatch.defer('two')
+        List<Object> instances = NewInstanceEventBatch.finish()
+
+        then:
+        deferred
+        instances == ['one', 'two']
+        !NewInstanceEventBatch.defer('three')
+    }
+
+    def 'A nested batch keeps the instances of the enclosing one'() {
+        when:
+        NewInstanceEventBatch.start()
+        NewInstanceEventBatch.defer('outer1')
+        NewInstanceEventBatch.start()
+        NewInstanceEventBatch.defer('inner')
+        List<Object> inner = NewInstanceEventBatch.finish()
+        NewInstanceEventBatch.defer('outer2')
+        List<Object> outer = NewInstanceEventBatch.finish()
+
+        then:
+        inner == ['inner']
+        outer == ['outer1', 'outer2']
+    }
+
+    def 'A suspended batch does not defer instances until it is resumed'() {
+        when:
+        NewInstanceEventBatch.start()
+        NewInstanceEventBatch.defer('outer1')
+        NewInstanceEventBatch.suspend()
+        boolean deferred = NewInstanceEventBatch.defer('inner')
+        List<Object> inner = NewInstanceEventBatch.finish()
+        NewInstanceEventBatch.defer('outer2')
+        List<Object> outer = NewInstanceEventBatch.finish()
+
+        then:
+        !deferred
+        inner.empty
+        outer == ['outer1', 'outer2']
+    }
+
+    def 'Immediate listeners are notified once, other listeners when the batch is published'() {
+        given:
+        DefaultEventRouter eventRouter = new DefaultEventRouter()
+        TestImmediateListener immediateListener = new TestImmediateListener()
+        TestListener listener = new TestListener()
+        eventRouter.addEventListener(ApplicationEvent.NEW_INSTANCE.name, immediateListener)
+        eventRouter.addEventListener(ApplicationEvent.NEW_INSTANCE.name, listener)
+
+        when:
+        NewInstanceEventBatch.start()
+        NewInstanceEventBatch.defer('one')
+        NewInstanceEventBatch.notifyImmediateListeners(eventRouter, 'one')
+
+        then:
+        immediateListener.instances == ['one']
+        listener.instances == []
+
+        when:
+        NewInstanceEventBatch.publish(eventRouter, NewInstanceEventBatch.finish())
+
+        then:
+        immediateListener.instances == ['one']
+        listener.instances == ['one']
+
+        when:
+        eventRouter.publishEvent(ApplicationEvent.NEW_INSTANCE.name, [String, 'two'])
+
+        then:
+        immediateListener.instances == ['one', 'two']
+        listener.instances == ['one', 'two']
+    }
+
+    static class TestImmediateListener extends NewInstanceEventBatch.ImmediateListener {
+        final List<Object> instances = []
+
+        @Override
+        protected void onNewInstance(@Nonnull Class<?> klass, @Nonnull Object instance) {
+            instances << instance
+        }
+    }
+
+    static class TestListener implements RunnableWithArgs {
+        final List<Object> instances = []
+
+        @Override
+        void run(@Nullable Object... args) {
+            instances << args[1]
+        }
+    }
+}
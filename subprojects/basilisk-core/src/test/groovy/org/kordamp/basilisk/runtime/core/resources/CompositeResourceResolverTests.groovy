@@ -19,6 +19,10 @@ import basilisk.core.ApplicationClassLoader
 import basilisk.core.resources.ResourceHandler
 import basilisk.core.resources.ResourceResolver
 import basilisk.util.CompositeResourceBundleBuilder
+import basilisk.util.ReloadableResourceBundleSource
+import basilisk.util.ResourceBundleChangeEvent
+import basilisk.util.ResourceBundleChangeListener
+import basilisk.util.ResourceBundleReloader
 import com.google.guiceberry.GuiceBerryModule
 import com.google.guiceberry.junit4.GuiceBerryRule
 import com.google.inject.AbstractModule
@@ -89,6 +93,23 @@ class CompositeResourceResolverTests {
         assert quote == 'not found :('
     }
 
+    @Test
+    void keysAddedToReloadedBundlesAreNoLongerMissing() {
+        Map<String, Object> resources = [:]
+        ResourceResolver resourceResolver = [findResourceValue: { String key, Locale locale -> resources[key] }] as ResourceResolver
+        ResourceBundleChangeListener listener = null
+        ResourceBundleReloader reloader = [addResourceBundleChangeListener: { ResourceBundleChangeListener l -> listener = l }] as ResourceBundleReloader
+        ResourceResolver compositeResourceResolver = new CompositeResourceResolver([resourceResolver], reloader)
+
+        assert null == compositeResourceResolver.findResourceValue('new.key', Locale.default)
+
+        resources['new.key'] = 'new'
+        assert null == compositeResourceResolver.findResourceValue('new.key', Locale.default)
+
+        listener.bundleChanged(new ResourceBundleChangeEvent([:] as ReloadableResourceBundleSource, Locale.default, ['new.key'] as Set))
+        assert 'new' == compositeResourceResolver.findResourceValue('new.key', Locale.default)
+    }
+
     static final class TestModule extends AbstractModule {
         @Override
         protected void configure() {
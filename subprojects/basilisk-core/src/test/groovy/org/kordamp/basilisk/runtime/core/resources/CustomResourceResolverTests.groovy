@@ -179,6 +179,16 @@ class CustomResourceResolverTests {
         }
     }
 
+    @Test
+    void findResourceValueReturnsNullForMissingKeys() {
+        assert "what's up doc?" == resourceResolver.findResourceValue('reference.key', Locale.default)
+        assert null == resourceResolver.findResourceValue('bogus', Locale.default)
+        assert null == resourceResolver.findResourceValue('bogus', Locale.default)
+        shouldFail(NoSuchResourceException) {
+            resourceResolver.resolveResourceValue('bogus', Locale.default)
+        }
+    }
+
     private String shouldFail(Class clazz, Closure code) {
         return GroovyAssert.shouldFail(clazz, code).getMessage()
     }
@@ -19,13 +19,19 @@ import basilisk.core.ApplicationClassLoader
 import basilisk.core.editors.IntegerPropertyEditor
 import basilisk.core.editors.PropertyEditorResolver
 import basilisk.core.editors.StringPropertyEditor
+import basilisk.core.resources.InjectedResource
 import basilisk.core.resources.ResourceHandler
 import basilisk.core.resources.ResourceInjector
 import basilisk.core.resources.ResourceResolver
 import basilisk.util.CompositeResourceBundleBuilder
+import basilisk.util.ReloadableResourceBundleSource
+import basilisk.util.ResourceBundleChangeEvent
+import basilisk.util.ResourceBundleChangeListener
+import basilisk.util.ResourceBundleReloader
 import com.google.guiceberry.GuiceBerryModule
 import com.google.guiceberry.junit4.GuiceBerryRule
 import com.google.inject.AbstractModule
+import com.googlecode.openbeans.PropertyEditorSupport
 import org.junit.AfterClass
 import org.junit.BeforeClass
 import org.junit.Rule
@@ -74,6 +80,114 @@ class DefaultResourceInjectorTests {
         assert !bean.@notFound
     }
 
+    @Test
+    void reuseInjectionPlanForSecondInstance() {
+        ResourceResolver resourceResolver = new DefaultResourceResolver(bundleBuilder, 'org.kordamp.basilisk.runtime.core.resources.injector')
+        DefaultResourceInjector resourcesInjector = new DefaultResourceInjector(resourceResolver)
+        resourcesInjector.injectResources(new Bean())
+        Bean bean = new Bean()
+        resourcesInjector.injectResources(bean)
+
+        assert bean.@privateField == 'privateField'
+        assert bean.@fieldBySetter == 'fieldBySetter'
+        assert bean.@privateIntField == 42
+        assert bean.@intFieldBySetter == 21
+        assert bean.@fieldWithKeyAndArgs == 'with_args 1 2'
+        assert bean.@fieldWithKeyWithArgsWithDefault == 'DEFAULT_WITH_ARGS'
+        assert !bean.@notFound
+
+        resourcesInjector.clearResolvedResources()
+        bean = new Bean()
+        resourcesInjector.injectResources(bean)
+        assert bean.@privateField == 'privateField'
+    }
+
+    @Test
+    void discardMemoizedValuesWhenBundleChanges() {
+        String value = 'before'
+        ResourceResolver resourceResolver = [resolveResource: { String key, Object[] args, Locale locale, Object defaultValue ->
+            key == 'sample.key.no_args' ? value : defaultValue
+        }] as ResourceResolver
+        ResourceBundleChangeListener listener = null
+        ResourceBundleReloader reloader = [addResourceBundleChangeListener: { ResourceBundleChangeListener l -> listener = l }] as ResourceBundleReloader
+        DefaultApplicationResourceInjector resourcesInjector = new DefaultApplicationResourceInjector(resourceResolver, reloader)
+
+        Bean bean = new Bean()
+        resourcesInjector.injectResources(bean)
+        assert bean.@fieldWithKey == 'before'
+
+        value = 'after'
+        bean = new Bean()
+        resourcesInjector.injectResources(bean)
+        assert bean.@fieldWithKey == 'before'
+
+        listener.bundleChanged(new ResourceBundleChangeEvent([:] as ReloadableResourceBundleSource, Locale.default, ['sample.key.no_args'] as Set))
+        bean = new Bean()
+        resourcesInjector.injectResources(bean)
+        assert bean.@fieldWithKey == 'after'
+    }
+
+    @Test
+    void reinjectionDiscardsMemoizedValuesOfOtherClasses() {
+        String value = 'before'
+        ResourceResolver resourceResolver = [resolveResource: { String key, Object[] args, Locale locale, Object defaultValue ->
+            key == 'sample.key.no_args' ? value : defaultValue
+        }] as ResourceResolver
+        DefaultResourceInjector resourcesInjector = new DefaultResourceInjector(resourceResolver)
+
+        SharedKeyBean other = new SharedKeyBean()
+        resourcesInjector.injectResources(other)
+        assert other.@value == 'before'
+
+        value = 'after'
+        Bean bean = new Bean()
+        resourcesInjector.injectResources(bean, ['sample.key.no_args'] as Set)
+        assert bean.@fieldWithKey == 'after'
+
+        other = new SharedKeyBean()
+        resourcesInjector.injectResources(other)
+        assert other.@value == 'after'
+    }
+
+    @Test
+    void convertTextWithPlainPropertyEditors() {
+        PropertyEditorResolver.registerEditor(Version, VersionPropertyEditor)
+        ResourceResolver resourceResolver = [resolveResource: { String key, Object[] args, Locale locale, Object defaultValue ->
+            key == 'sample.version' ? '1.2' : defaultValue
+        }] as ResourceResolver
+        DefaultResourceInjector resourcesInjector = new DefaultResourceInjector(resourceResolver)
+
+        VersionBean bean = new VersionBean()
+        resourcesInjector.injectResources(bean)
+        assert bean.@version instanceof Version
+        assert bean.@version.value == '1.2'
+    }
+
+    static class Version {
+        final String value
+
+        Version(String value) {
+            this.value = value
+        }
+    }
+
+    static class VersionPropertyEditor extends PropertyEditorSupport {
+        @Override
+        void setAsText(String text) {
+            setValue(new Version(text))
+        }
+    }
+
+    static class VersionBean {
+        @InjectedResource(key = 'sample.version')
+        private Version version
+    }
+
+    static class SharedKeyBean {
+        @InjectedResource(key = 'sample.key.no_args')
+        private String value
+    }
+
     static final class TestModule extends AbstractModule {
         @Override
         protected void configure() {
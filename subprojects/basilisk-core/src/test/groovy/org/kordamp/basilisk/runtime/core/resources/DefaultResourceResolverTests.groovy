@@ -23,6 +23,7 @@ import basilisk.core.resources.NoSuchResourceException
 import basilisk.core.resources.ResourceHandler
 import basilisk.core.resources.ResourceResolver
 import basilisk.util.CompositeResourceBundleBuilder
+import basilisk.util.ResourceBundleReloader
 import com.google.guiceberry.GuiceBerryModule
 import com.google.guiceberry.junit4.GuiceBerryRule
 import com.google.inject.AbstractModule
@@ -30,6 +31,7 @@ import org.junit.Rule
 import org.junit.Test
 import org.kordamp.basilisk.runtime.core.DefaultApplicationClassLoader
 import org.kordamp.basilisk.runtime.util.DefaultCompositeResourceBundleBuilder
+import org.kordamp.basilisk.runtime.util.DefaultResourceBundleReloader
 
 import javax.annotation.Nonnull
 import javax.annotation.Nullable
@@ -240,6 +242,7 @@ class DefaultResourceResolverTests {
             bind(ApplicationClassLoader).to(DefaultApplicationClassLoader).in(Singleton)
             bind(ResourceHandler).to(DefaultResourceHandler).in(Singleton)
             bind(CompositeResourceBundleBuilder).to(DefaultCompositeResourceBundleBuilder).in(Singleton)
+            bind(ResourceBundleReloader).to(DefaultResourceBundleReloader).in(Singleton)
             bind(ResourceResolverDecoratorFactory)
                 .to(DefaultResourceResolverDecoratorFactory)
             bind(ResourceResolver)
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.basilisk.runtime.util
+
+import basilisk.core.resources.ResourceHandler
+import basilisk.util.ReloadableResourceBundleSource
+import basilisk.util.ResourceBundleChangeEvent
+import basilisk.util.ResourceBundleChangeListener
+import spock.lang.Specification
+
+import java.nio.file.Files
+import java.nio.file.Path
+
+class DefaultResourceBundleReloaderSpec extends Specification {
+    def 'Only bundles backed by the changed file are reloaded'() {
+        given:
+        Path directory = Files.createTempDirectory('basilisk-bundles')
+        URL url = directory.resolve('messages.properties').toUri().toURL()
+        ResourceHandler resourceHandler = Mock(ResourceHandler)
+        resourceHandler.getResources('i18n/messages.properties') >> [url]
+        ReloadableResourceBundleSource source = Mock(ReloadableResourceBundleSource)
+        source.basename >> 'i18n.messages'
+        source.loadedLocales >> ([Locale.FRANCE, Locale.GERMANY, Locale.GERMAN] as Set)
+        List<ResourceBundleChangeEvent> events = []
+        DefaultResourceBundleReloader reloader = new DefaultResourceBundleReloader(resourceHandler, true)
+        reloader.addResourceBundleChangeListener({ ResourceBundleChangeEvent e -> events << e } as ResourceBundleChangeListener)
+        reloader.register(source)
+
+        when:
+        reloader.handleFileChange(directory, 'messages_de.properties')
+
+        then:
+        1 * source.reloadBundle(Locale.GERMANY) >> (['greeting'] as Set)
+        1 * source.reloadBundle(Locale.GERMAN) >> ([] as Set)
+        0 * source.reloadBundle(Locale.FRANCE)
+        events*.locale == [Locale.GERMANY]
+        events[0].keys == ['greeting'] as Set
+
+        when:
+        reloader.handleFileChange(directory, 'other.properties')
+
+        then:
+        0 * source.reloadBundle(_)
+
+        cleanup:
+        reloader.close()
+        directory.toFile().deleteDir()
+    }
+
+    def 'Nothing is watched unless reloading is enabled'() {
+        given:
+        ResourceHandler resourceHandler = Mock(ResourceHandler)
+        DefaultResourceBundleReloader reloader = new DefaultResourceBundleReloader(resourceHandler, false)
+
+        when:
+        reloader.register(Mock(ReloadableResourceBundleSource))
+
+        then:
+        !reloader.enabled
+        0 * resourceHandler.getResources(_)
+    }
+}
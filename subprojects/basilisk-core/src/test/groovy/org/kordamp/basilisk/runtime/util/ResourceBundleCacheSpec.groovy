@@ -0,0 +1,95 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.basilisk.runtime.util
+
+import spock.lang.Specification
+
+import java.nio.file.Files
+import java.nio.file.Path
+
+class ResourceBundleCacheSpec extends Specification {
+    def 'Stored entries can be loaded back while the fingerprint is unchanged'() {
+        given:
+        Path directory = Files.createTempDirectory('basilisk-bundles')
+        FixedFingerprintCache cache = new FixedFingerprintCache(directory, 'first')
+
+        when:
+        cache.store('i18n.Messages', Locale.FRANCE, ['greeting': 'Bonjour {0}', 'key.a': 'A'])
+        ResourceBundle bundle = cache.load('i18n.Messages', Locale.FRANCE)
+
+        then:
+        bundle.getString('greeting') == 'Bonjour {0}'
+        bundle.keySet() == ['greeting', 'key.a'] as Set
+        !cache.load('i18n.Messages', Locale.GERMANY)
+
+        when:
+        FixedFingerprintCache other = new FixedFingerprintCache(directory, 'second')
+
+        then:
+        !other.load('i18n.Messages', Locale.FRANCE)
+
+        cleanup:
+        directory.toFile().deleteDir()
+    }
+
+    def 'Applications with different classpaths keep separate entries'() {
+        given:
+        Path directory = Files.createTempDirectory('basilisk-bundles')
+        FixedFingerprintCache first = new FixedFingerprintCache(directory, 'first')
+        FixedFingerprintCache second = new FixedFingerprintCache(directory, 'second')
+
+        when:
+        first.store('messages', Locale.FRANCE, ['greeting': 'Bonjour'])
+        second.store('messages', Locale.FRANCE, ['greeting': 'Salut'])
+
+        then:
+        first.load('messages', Locale.FRANCE).getString('greeting') == 'Bonjour'
+        second.load('messages', Locale.FRANCE).getString('greeting') == 'Salut'
+
+        cleanup:
+        directory.toFile().deleteDir()
+    }
+
+    def 'Cache is disabled when the classpath cannot be fingerprinted'() {
+        given:
+        Path directory = Files.createTempDirectory('basilisk-bundles')
+        FixedFingerprintCache cache = new FixedFingerprintCache(directory, null)
+
+        when:
+        cache.store('i18n.Messages', Locale.FRANCE, ['greeting': 'Bonjour'])
+
+        then:
+        !cache.load('i18n.Messages', Locale.FRANCE)
+        directory.toFile().list().length == 0
+
+        cleanup:
+        directory.toFile().deleteDir()
+    }
+
+    private static class FixedFingerprintCache extends ResourceBundleCache {
+        private final String fingerprint
+
+        FixedFingerprintCache(Path directory, String fingerprint) {
+            super(directory, ResourceBundleCacheSpec.classLoader)
+            this.fingerprint = fingerprint
+        }
+
+        @Override
+        protected String computeFingerprint() {
+            fingerprint
+        }
+    }
+}
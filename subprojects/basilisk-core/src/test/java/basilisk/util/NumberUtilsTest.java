@@ -0,0 +1,73 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package basilisk.util;
+
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class NumberUtilsTest {
+    @Test
+    public void parseMatchesJdk() {
+        String[] inputs = {"0", "-0", "+42", "007", "-2147483648", "2147483647", "-9223372036854775808", "9223372036854775807"};
+        for (String input : inputs) {
+            assertEquals(Long.parseLong(input), NumberUtils.parseLong(input));
+            assertEquals(Long.parseLong(input), NumberUtils.parseLong(new StringBuilder(input)));
+        }
+        assertEquals(Integer.MIN_VALUE, NumberUtils.parseInt("-2147483648"));
+        assertEquals(Integer.MAX_VALUE, NumberUtils.parseInt(new StringBuilder("2147483647")));
+    }
+
+    @Test
+    public void parseRejectsInvalidInput() {
+        String[] inputs = {"", "-", "+", "1a", " 1", "2147483648", "-2147483649"};
+        for (String input : inputs) {
+            try {
+                NumberUtils.parseInt(input);
+                fail("Expected NumberFormatException for '" + input + "'");
+            } catch (NumberFormatException e) {
+                // expected
+            }
+        }
+        try {
+            NumberUtils.parseLong("9223372036854775808");
+            fail("Expected NumberFormatException");
+        } catch (NumberFormatException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void formatMatchesJdk() throws IOException {
+        long[] values = {0, 7, -7, 10, -10, 1234567, Integer.MIN_VALUE, Long.MIN_VALUE, Long.MAX_VALUE};
+        for (long value : values) {
+            assertEquals(Long.toString(value), NumberUtils.formatLong(value, new StringBuilder()).toString());
+        }
+        assertEquals("-2147483648", NumberUtils.formatInt(Integer.MIN_VALUE, new StringBuilder()).toString());
+    }
+
+    @Test
+    public void formatWithGrouping() throws IOException {
+        assertEquals("0", NumberUtils.formatLong(0, ',', 3, new StringBuilder()).toString());
+        assertEquals("999", NumberUtils.formatLong(999, ',', 3, new StringBuilder()).toString());
+        assertEquals("-1,000", NumberUtils.formatLong(-1000, ',', 3, new StringBuilder()).toString());
+        assertEquals("1.234.567", NumberUtils.formatLong(1234567, '.', 3, new StringBuilder()).toString());
+        assertEquals("-9,223,372,036,854,775,808", NumberUtils.formatLong(Long.MIN_VALUE, ',', 3, new StringBuilder()).toString());
+    }
+}
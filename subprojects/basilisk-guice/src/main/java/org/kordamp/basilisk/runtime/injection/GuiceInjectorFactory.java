@@ -18,6 +18,7 @@ package org.kordamp.basilisk.runtime.injection;
 import basilisk.core.ApplicationEvent;
 import basilisk.core.BasiliskApplication;
 import basilisk.core.artifact.BasiliskArtifact;
+import basilisk.core.event.EventRouter;
 import basilisk.core.injection.Binding;
 import basilisk.core.injection.Injector;
 import basilisk.core.injection.InjectorFactory;
@@ -26,18 +27,20 @@ import com.google.inject.Guice;
 import com.google.inject.Module;
 import com.google.inject.TypeLiteral;
 import com.google.inject.matcher.AbstractMatcher;
-import com.google.inject.matcher.Matchers;
+import com.google.inject.spi.ConstructorBinding;
 import com.google.inject.spi.InjectionListener;
 import com.google.inject.spi.ProvisionListener;
 import com.google.inject.spi.TypeEncounter;
 import com.google.inject.spi.TypeListener;
 import org.kordamp.basilisk.runtime.core.injection.InjectorProvider;
+import org.kordamp.basilisk.runtime.core.injection.NewInstanceEventBatch;
 import org.kordamp.jipsy.ServiceProviderFor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nonnull;
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.inject.Singleton;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -50,6 +53,7 @@ import static com.google.inject.util.Providers.guicify;
 import static java.util.Arrays.asList;
 import static java.util.Objects.requireNonNull;
 import static org.kordamp.basilisk.runtime.injection.GuiceInjector.moduleFromBindings;
+import static org.kordamp.basilisk.runtime.injection.MethodUtils.hasMethodAnnotatedwith;
 import static org.kordamp.basilisk.runtime.injection.MethodUtils.invokeAnnotatedMethod;
 
 /**
@@ -74,10 +78,19 @@ public class GuiceInjectorFactory implements InjectorFactory {
         final InjectionListener<BasiliskArtifact> injectionListener = new InjectionListener<BasiliskArtifact>() {
             @Override
             public void afterInjection(BasiliskArtifact injectee) {
-                application.getEventRouter().publishEvent(
-                    ApplicationEvent.NEW_INSTANCE.getName(),
-                    asList(injectee.getClass(), injectee)
-                );
+                EventRouter eventRouter = application.getEventRouter();
+                if (NewInstanceEventBatch.defer(injectee)) {
+                    // framework listeners still run before @PostConstruct
+                    NewInstanceEventBatch.notifyImmediateListeners(eventRouter, injectee);
+                    return;
+                }
+
+                if (eventRouter.hasEventListeners(ApplicationEvent.NEW_INSTANCE.getName())) {
+                    eventRouter.publishEvent(
+                        ApplicationEvent.NEW_INSTANCE.getName(),
+                        asList(injectee.getClass(), injectee)
+                    );
+                }
             }
         };
 
@@ -114,14 +127,24 @@ public class GuiceInjectorFactory implements InjectorFactory {
                              }
                 );
 
-                bindListener(Matchers.any(), new TypeListener() {
+                bindListener(new AbstractMatcher<TypeLiteral<?>>() {
+                    public boolean matches(TypeLiteral<?> typeLiteral) {
+                        return hasMethodAnnotatedwith(typeLiteral.getRawType(), PostConstruct.class);
+                    }
+                }, new TypeListener() {
                     @Override
                     public <I> void hear(TypeLiteral<I> type, TypeEncounter<I> encounter) {
                         encounter.register(postConstructorInjectorListener);
                     }
                 });
 
-                bindListener(Matchers.any(), new ProvisionListener() {
+                bindListener(new AbstractMatcher<com.google.inject.Binding<?>>() {
+                    public boolean matches(com.google.inject.Binding<?> binding) {
+                        // only constructor bindings tell the provisioned type up front
+                        return !(binding instanceof ConstructorBinding) ||
+                            hasMethodAnnotatedwith(((ConstructorBinding<?>) binding).getConstructor().getDeclaringType().getRawType(), PreDestroy.class);
+                    }
+                }, new ProvisionListener() {
                     @Override
                     public <T> void onProvision(ProvisionInvocation<T> provision) {
                         instanceTracker.track(provision.getBinding(), provision.provision());
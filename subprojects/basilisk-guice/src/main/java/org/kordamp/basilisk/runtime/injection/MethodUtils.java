@@ -16,77 +16,78 @@
 package org.kordamp.basilisk.runtime.injection;
 
 import basilisk.exceptions.InstanceMethodInvocationException;
+import basilisk.util.MethodInvoker;
 
 import javax.annotation.Nonnull;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.security.AccessController;
-import java.security.PrivilegedAction;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static java.util.Objects.requireNonNull;
 
 /**
  * @author Andres Almiray
  */
 public final class MethodUtils {
+    private static final ClassValue<ConcurrentMap<Class<? extends Annotation>, LifecycleMethods>> LIFECYCLE_METHODS = new ClassValue<ConcurrentMap<Class<? extends Annotation>, LifecycleMethods>>() {
+        @Override
+        protected ConcurrentMap<Class<? extends Annotation>, LifecycleMethods> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
     /**
      * @since 2.6.0
      */
     public static boolean hasMethodAnnotatedwith(@Nonnull final Object instance, @Nonnull final Class<? extends Annotation> annotation) {
-        Class<?> klass = instance.getClass();
-        while (klass != null) {
-            boolean found = false;
-            for (Method method : klass.getDeclaredMethods()) {
-                if (method.isAnnotationPresent(annotation) &&
-                    method.getParameterTypes().length == 0) {
-                    return true;
-                }
-            }
-
-            klass = klass.getSuperclass();
-        }
+        requireNonNull(instance, "Argument 'instance' must not be null");
+        return hasMethodAnnotatedwith(instance.getClass(), annotation);
+    }
 
-        return false;
+    /**
+     * @since 0.3.0
+     */
+    public static boolean hasMethodAnnotatedwith(@Nonnull final Class<?> klass, @Nonnull final Class<? extends Annotation> annotation) {
+        return !lifecycleMethodsOf(klass, annotation).isEmpty();
     }
 
     public static void invokeAnnotatedMethod(@Nonnull final Object instance, @Nonnull final Class<? extends Annotation> annotation) {
-        List<Method> methods = new ArrayList<>();
-        Class<?> klass = instance.getClass();
-        while (klass != null) {
-            boolean found = false;
-            for (Method method : klass.getDeclaredMethods()) {
-                if (method.isAnnotationPresent(annotation) &&
-                    method.getParameterTypes().length == 0) {
-                    if (found) {
-                        throw new InstanceMethodInvocationException(instance, method, buildCause(instance.getClass(), method, methods));
-                    }
-                    methods.add(method);
-                    found = true;
-                }
-            }
+        requireNonNull(instance, "Argument 'instance' must not be null");
+        LifecycleMethods lifecycleMethods = lifecycleMethodsOf(instance.getClass(), annotation);
+        if (lifecycleMethods.duplicate != null) {
+            throw new InstanceMethodInvocationException(instance, lifecycleMethods.duplicate, buildCause(instance.getClass(), lifecycleMethods.duplicate, lifecycleMethods.methods));
+        }
 
-            klass = klass.getSuperclass();
+        for (Method method : lifecycleMethods.methods) {
+            try {
+                MethodInvoker.of(method).invoke(instance);
+            } catch (IllegalAccessException | IllegalArgumentException e) {
+                throw new InstanceMethodInvocationException(instance, method.getName(), null, e);
+            } catch (InvocationTargetException e) {
+                throw new InstanceMethodInvocationException(instance, method.getName(), null, e.getTargetException());
+            }
         }
+    }
 
-        for (final Method method : methods) {
-            AccessController.doPrivileged(new PrivilegedAction<Object>() {
-                @Override
-                public Object run() {
-                    boolean wasAccessible = method.isAccessible();
-                    try {
-                        method.setAccessible(true);
-                        return method.invoke(instance);
-                    } catch (IllegalAccessException | IllegalArgumentException e) {
-                        throw new InstanceMethodInvocationException(instance, method.getName(), null, e);
-                    } catch (InvocationTargetException e) {
-                        throw new InstanceMethodInvocationException(instance, method.getName(), null, e.getTargetException());
-                    } finally {
-                        method.setAccessible(wasAccessible);
-                    }
-                }
-            });
+    @Nonnull
+    private static LifecycleMethods lifecycleMethodsOf(@Nonnull Class<?> klass, @Nonnull Class<? extends Annotation> annotation) {
+        requireNonNull(klass, "Argument 'klass' must not be null");
+        requireNonNull(annotation, "Argument 'annotation' must not be null");
+        ConcurrentMap<Class<? extends Annotation>, LifecycleMethods> cache = LIFECYCLE_METHODS.get(klass);
+        LifecycleMethods lifecycleMethods = cache.get(annotation);
+        if (lifecycleMethods == null) {
+            lifecycleMethods = LifecycleMethods.resolve(klass, annotation);
+            LifecycleMethods previous = cache.putIfAbsent(annotation, lifecycleMethods);
+            if (previous != null) {
+                lifecycleMethods = previous;
+            }
         }
+        return lifecycleMethods;
     }
 
     @Nonnull
@@ -99,4 +100,45 @@ public final class MethodUtils {
         b.append("\n  ").append(method.toGenericString());
         return new IllegalStateException(b.toString());
     }
+
+    /**
+     * The no-args methods of a class hierarchy annotated with a lifecycle annotation, at most one
+     * per class, in invocation order. A second annotated method in the same class is recorded as
+     * {@code duplicate} and reported whenever the methods are invoked.
+     */
+    private static final class LifecycleMethods {
+        private final List<Method> methods;
+        private final Method duplicate;
+
+        private LifecycleMethods(@Nonnull List<Method> methods, Method duplicate) {
+            this.methods = Collections.unmodifiableList(methods);
+            this.duplicate = duplicate;
+        }
+
+        private boolean isEmpty() {
+            return methods.isEmpty() && duplicate == null;
+        }
+
+        @Nonnull
+        private static LifecycleMethods resolve(@Nonnull Class<?> klass, @Nonnull Class<? extends Annotation> annotation) {
+            List<Method> methods = new ArrayList<>();
+            while (klass != null) {
+                boolean found = false;
+                for (Method method : klass.getDeclaredMethods()) {
+                    if (method.isAnnotationPresent(annotation) &&
+                        method.getParameterTypes().length == 0) {
+                        if (found) {
+                            return new LifecycleMethods(methods, method);
+                        }
+                        methods.add(method);
+                        found = true;
+                    }
+                }
+
+                klass = klass.getSuperclass();
+            }
+
+            return new LifecycleMethods(methods, null);
+        }
+    }
 }
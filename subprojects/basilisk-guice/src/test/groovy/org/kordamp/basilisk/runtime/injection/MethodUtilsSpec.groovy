@@ -38,6 +38,22 @@ class MethodUtilsSpec extends Specification {
         MethodUtils.hasMethodAnnotatedwith(bean, PreDestroy)
     }
 
+    void 'Find lifecycle methods on classes'() {
+        expect:
+        MethodUtils.hasMethodAnnotatedwith(ValidBean, PostConstruct)
+        MethodUtils.hasMethodAnnotatedwith(ValidBean, PreDestroy)
+        !MethodUtils.hasMethodAnnotatedwith(PlainBean, PostConstruct)
+        !MethodUtils.hasMethodAnnotatedwith(PlainBean, PreDestroy)
+    }
+
+    void 'Invoke @PostConstruct annotated method on plain instance'() {
+        when:
+        MethodUtils.invokeAnnotatedMethod(new PlainBean(), PostConstruct)
+
+        then:
+        notThrown(Exception)
+    }
+
     void 'Invoke @PostConstruct annotated method on valid instance'() {
         given:
         ValidBean bean = new ValidBean()
@@ -94,6 +110,10 @@ class ValidBean {
     }
 }
 
+class PlainBean {
+    void init() {}
+}
+
 class InvalidBean {
     @PostConstruct
     void init() {}
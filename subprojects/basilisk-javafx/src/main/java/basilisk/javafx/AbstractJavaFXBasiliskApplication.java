@@ -46,6 +46,7 @@ import javafx.application.Application;
 import javafx.event.EventHandler;
 import javafx.stage.Stage;
 import javafx.stage.WindowEvent;
+import org.kordamp.basilisk.runtime.core.LocalePreloader;
 import org.kordamp.basilisk.runtime.core.MVCGroupExceptionHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -58,6 +59,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
 
 import static basilisk.util.AnnotationUtils.named;
 import static basilisk.util.BasiliskApplicationUtils.parseLocale;
@@ -82,6 +84,7 @@ public abstract class AbstractJavaFXBasiliskApplication extends Application impl
     private ApplicationPhase phase = ApplicationPhase.INITIALIZE;
     private String[] startupArgs;
     private Injector<?> injector;
+    private LocalePreloader localePreloader;
 
     public AbstractJavaFXBasiliskApplication() {
         this(EMPTY_ARGS);
@@ -173,6 +176,28 @@ public abstract class AbstractJavaFXBasiliskApplication extends Application impl
         setLocale(parseLocale(locale));
     }
 
+    @Nonnull
+    @Override
+    public Future<Locale> switchLocale(@Nonnull final Locale locale) {
+        requireNonNull(locale, "Argument 'locale' must not be null");
+        return getLocalePreloader().preload(locale, new Runnable() {
+            @Override
+            public void run() {
+                setLocale(locale);
+            }
+        });
+    }
+
+    @Nonnull
+    protected LocalePreloader getLocalePreloader() {
+        synchronized (lock) {
+            if (localePreloader == null) {
+                localePreloader = new LocalePreloader(getMessageSource(), getResourceResolver(), getUIThreadManager());
+            }
+            return localePreloader;
+        }
+    }
+
     public void addShutdownHandler(@Nonnull ShutdownHandler handler) {
         requireNonNull(handler, ERROR_SHUTDOWN_HANDLER_NULL);
         if (!shutdownHandlers.contains(handler)) shutdownHandlers.add(handler);
@@ -418,6 +443,12 @@ public abstract class AbstractJavaFXBasiliskApplication extends Application impl
         setPhase(ApplicationPhase.STARTUP);
         event(ApplicationEvent.STARTUP_START, asList(this));
 
+        List<Locale> locales = LocalePreloader.toLocales(getConfiguration().get("application.preloadLocales", null));
+        if (!locales.isEmpty()) {
+            log.info("Preloading locales: {}", locales);
+            getLocalePreloader().preload(locales);
+        }
+
         Object startupGroups = getConfiguration().get("application.startupGroups", null);
         if (startupGroups instanceof List) {
             log.info("Initializing all startup groups: {}", startupGroups);
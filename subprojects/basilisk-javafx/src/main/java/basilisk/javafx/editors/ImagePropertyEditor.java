@@ -16,6 +16,7 @@
 package basilisk.javafx.editors;
 
 import basilisk.core.editors.AbstractPropertyEditor;
+import basilisk.javafx.support.ImageCache;
 import basilisk.metadata.PropertyEditorFor;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
@@ -75,7 +76,7 @@ public class ImagePropertyEditor extends AbstractPropertyEditor {
 
     protected void handleAsURL(URL url) {
         try {
-            super.setValueInternal(new Image(url.toString()));
+            super.setValueInternal(ImageCache.getInstance().getImage(url));
         } catch (Exception e) {
             throw illegalValue(url, URL.class, e);
         }
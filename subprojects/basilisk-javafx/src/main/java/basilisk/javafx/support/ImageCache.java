@@ -0,0 +1,296 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package basilisk.javafx.support;
+
+import javafx.scene.image.Image;
+
+import javax.annotation.Nonnull;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Shared cache of decoded images keyed by URL and requested size.
+ * <p>
+ * Recently used images are kept strongly reachable until their estimated memory
+ * footprint exceeds the configured limit ({@code basilisk.javafx.image.cache.size}
+ * system property, in bytes). Evicted images remain reachable through weak references
+ * for as long as some view still holds on to them, so that every view showing the same
+ * icon shares a single decoded instance.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+public final class ImageCache {
+    public static final String KEY_CACHE_SIZE = "basilisk.javafx.image.cache.size";
+    public static final long DEFAULT_CACHE_SIZE = 32L * 1024L * 1024L;
+
+    private static final String ERROR_URL_NULL = "Argument 'url' must not be null";
+    private static final ImageCache INSTANCE = new ImageCache(Long.getLong(KEY_CACHE_SIZE, DEFAULT_CACHE_SIZE));
+
+    private final Object lock = new Object[0];
+    private final long maxMemory;
+    private final LinkedHashMap<CacheKey, CachedImage> strongEntries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<CacheKey, ImageReference> weakEntries = new HashMap<>();
+    private final ReferenceQueue<Image> queue = new ReferenceQueue<>();
+    private long memoryUsage;
+    private long hitCount;
+    private long missCount;
+
+    @Nonnull
+    public static ImageCache getInstance() {
+        return INSTANCE;
+    }
+
+    public ImageCache(long maxMemory) {
+        this.maxMemory = maxMemory;
+    }
+
+    @Nonnull
+    public Image getImage(@Nonnull URL url) {
+        return getImage(url, 0, 0, false);
+    }
+
+    @Nonnull
+    public Image getImage(@Nonnull URL url, double width, double height) {
+        return getImage(url, width, height, false);
+    }
+
+    /**
+     * Returns a decoded image for the given URL and requested size, decoding it
+     * only if no live instance exists.
+     *
+     * @param url               the location of the image
+     * @param width             the requested width, {@code 0} for the image's own width
+     * @param height            the requested height, {@code 0} for the image's own height
+     * @param backgroundLoading whether a cache miss decodes the image in a background thread
+     * @return a shared image instance
+     */
+    @Nonnull
+    public Image getImage(@Nonnull URL url, double width, double height, boolean backgroundLoading) {
+        requireNonNull(url, ERROR_URL_NULL);
+        CacheKey key = new CacheKey(url.toExternalForm(), width, height);
+
+        Image image = lookup(key);
+        if (image != null) {
+            return image;
+        }
+
+        // decode outside the lock, concurrent misses on the same key settle on the first stored image
+        image = new Image(key.url, width, height, true, true, backgroundLoading);
+        if (image.isError()) {
+            return image;
+        }
+
+        synchronized (lock) {
+            CachedImage cached = strongEntries.get(key);
+            Image existing = cached != null ? cached.image : null;
+            if (existing == null) {
+                ImageReference reference = weakEntries.get(key);
+                existing = reference != null ? reference.get() : null;
+            }
+            if (existing != null && !existing.isError()) {
+                return existing;
+            }
+            store(key, image);
+        }
+        return image;
+    }
+
+    public void clear() {
+        synchronized (lock) {
+            strongEntries.clear();
+            weakEntries.clear();
+            memoryUsage = 0;
+            hitCount = 0;
+            missCount = 0;
+        }
+    }
+
+    public int size() {
+        synchronized (lock) {
+            expungeStaleEntries();
+            return weakEntries.size();
+        }
+    }
+
+    public long getHitCount() {
+        synchronized (lock) {
+            return hitCount;
+        }
+    }
+
+    public long getMissCount() {
+        synchronized (lock) {
+            return missCount;
+        }
+    }
+
+    public double getHitRatio() {
+        synchronized (lock) {
+            long requests = hitCount + missCount;
+            return requests == 0 ? 0d : (double) hitCount / requests;
+        }
+    }
+
+    /**
+     * Returns the estimated number of bytes held by strongly cached images.
+     */
+    public long getMemoryUsage() {
+        synchronized (lock) {
+            return memoryUsage;
+        }
+    }
+
+    public long getMaxMemory() {
+        return maxMemory;
+    }
+
+    private Image lookup(@Nonnull CacheKey key) {
+        synchronized (lock) {
+            expungeStaleEntries();
+            CachedImage cached = strongEntries.get(key);
+            Image image = cached != null ? cached.image : null;
+            if (image == null) {
+                ImageReference reference = weakEntries.get(key);
+                image = reference != null ? reference.get() : null;
+                if (image != null && !image.isError()) {
+                    // still in use by some view, promote it back
+                    store(key, image);
+                }
+            }
+
+            if (image != null && image.isError()) {
+                // failed background decoding, try again
+                evict(key);
+                image = null;
+            }
+
+            if (image != null) {
+                hitCount++;
+            } else {
+                missCount++;
+            }
+            return image;
+        }
+    }
+
+    private void store(@Nonnull CacheKey key, @Nonnull Image image) {
+        weakEntries.put(key, new ImageReference(key, image, queue));
+        // the charged size is kept with the entry, images decoded in the background may change their size later
+        CachedImage cached = new CachedImage(image, estimateSize(image, key));
+        CachedImage previous = strongEntries.put(key, cached);
+        if (previous != null) {
+            memoryUsage -= previous.size;
+        }
+        memoryUsage += cached.size;
+
+        Iterator<Map.Entry<CacheKey, CachedImage>> entries = strongEntries.entrySet().iterator();
+        while (memoryUsage > maxMemory && entries.hasNext()) {
+            Map.Entry<CacheKey, CachedImage> eldest = entries.next();
+            if (eldest.getKey().equals(key)) {
+                continue;
+            }
+            memoryUsage -= eldest.getValue().size;
+            entries.remove();
+        }
+    }
+
+    private void evict(@Nonnull CacheKey key) {
+        CachedImage cached = strongEntries.remove(key);
+        if (cached != null) {
+            memoryUsage -= cached.size;
+        }
+        weakEntries.remove(key);
+    }
+
+    private void expungeStaleEntries() {
+        Reference<? extends Image> reference;
+        while ((reference = queue.poll()) != null) {
+            ImageReference imageReference = (ImageReference) reference;
+            if (weakEntries.get(imageReference.key) == imageReference) {
+                weakEntries.remove(imageReference.key);
+            }
+        }
+    }
+
+    private static long estimateSize(@Nonnull Image image, @Nonnull CacheKey key) {
+        // images decoded in the background may not know their size yet, fall back to the requested size
+        double width = image.getWidth() > 0 ? image.getWidth() : key.width;
+        double height = image.getHeight() > 0 ? image.getHeight() : key.height;
+        return (long) (width * height * 4);
+    }
+
+    private static final class CachedImage {
+        private final Image image;
+        private final long size;
+
+        private CachedImage(@Nonnull Image image, long size) {
+            this.image = image;
+            this.size = size;
+        }
+    }
+
+    private static final class ImageReference extends WeakReference<Image> {
+        private final CacheKey key;
+
+        private ImageReference(@Nonnull CacheKey key, @Nonnull Image image, @Nonnull ReferenceQueue<Image> queue) {
+            super(image, queue);
+            this.key = key;
+        }
+    }
+
+    private static final class CacheKey {
+        private final String url;
+        private final double width;
+        private final double height;
+        private final int hashCode;
+
+        private CacheKey(@Nonnull String url, double width, double height) {
+            this.url = url;
+            this.width = width;
+            this.height = height;
+            long w = Double.doubleToLongBits(width);
+            long h = Double.doubleToLongBits(height);
+            int result = url.hashCode();
+            result = 31 * result + (int) (w ^ (w >>> 32));
+            result = 31 * result + (int) (h ^ (h >>> 32));
+            this.hashCode = result;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            CacheKey other = (CacheKey) o;
+            return Double.compare(width, other.width) == 0 &&
+                Double.compare(height, other.height) == 0 &&
+                url.equals(other.url);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -782,7 +782,7 @@ public final class JavaFXUtils {
         } else {
             URL resource = Thread.currentThread().getContextClassLoader().getResource(iconUrl);
             if (resource != null) {
-                return new ImageView(new Image(resource.toString()));
+                return new ImageView(ImageCache.getInstance().getImage(resource));
             }
         }
         return null;
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package basilisk.javafx.support
+
+import javafx.embed.swing.JFXPanel
+import javafx.scene.image.Image
+import spock.lang.Shared
+import spock.lang.Specification
+
+class ImageCacheSpec extends Specification {
+    @Shared
+    private URL imageUrl = new File('build/resources/test/basilisk-icon-16x16.png').toURI().toURL()
+
+    void setupSpec() {
+        // force toolkit initialization
+        new JFXPanel()
+    }
+
+    void "Same url and size share a single decoded image"() {
+        given:
+        ImageCache cache = new ImageCache(ImageCache.DEFAULT_CACHE_SIZE)
+
+        when:
+        Image first = cache.getImage(imageUrl)
+        Image second = cache.getImage(imageUrl)
+        Image scaled = cache.getImage(imageUrl, 8, 8)
+
+        then:
+        first.is(second)
+        !first.is(scaled)
+        cache.hitCount == 1
+        cache.missCount == 2
+        cache.size() == 2
+        cache.memoryUsage == (16 * 16 * 4) + (8 * 8 * 4)
+    }
+
+    void "Images are evicted once the memory limit is exceeded"() {
+        given:
+        ImageCache cache = new ImageCache(16 * 16 * 4)
+
+        when:
+        cache.getImage(imageUrl)
+        cache.getImage(imageUrl, 8, 8)
+
+        then:
+        cache.memoryUsage == 8 * 8 * 4
+    }
+
+    void "Evicting an image loaded in the background releases the size charged for it"() {
+        given:
+        ImageCache cache = new ImageCache(8 * 8 * 4)
+
+        when:
+        Image background = cache.getImage(imageUrl, 0, 0, true)
+        for (int i = 0; i < 100 && background.progress < 1d; i++) {
+            sleep(50)
+        }
+        cache.getImage(imageUrl, 8, 8)
+        cache.getImage(imageUrl, 4, 4)
+
+        then:
+        cache.memoryUsage == 4 * 4 * 4
+    }
+}